@@ -8,7 +8,15 @@ plugins {
 }
 
 dependencies {
+  // provided by the agent on the bootstrap class path
+  jmhCompileOnly(project(":javaagent-bootstrap"))
+
   jmhImplementation("org.springframework.boot:spring-boot-starter-web:3.1.2")
+  // a 5.0 release, so that the lettuce-5.0 reactive instrumentation applies
+  jmhImplementation("io.lettuce:lettuce-core:5.0.5.RELEASE")
+  jmhImplementation("org.hibernate.orm:hibernate-core:6.2.7.Final")
+  jmhImplementation("com.h2database:h2:2.2.220")
+  jmhImplementation("org.apache.camel:camel-core:2.20.1")
 }
 
 tasks {
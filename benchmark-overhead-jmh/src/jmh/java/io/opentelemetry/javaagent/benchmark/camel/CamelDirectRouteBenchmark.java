@@ -0,0 +1,61 @@
+/*
+ * Copyright The OpenTelemetry Authors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package io.opentelemetry.javaagent.benchmark.camel;
+
+import java.util.concurrent.TimeUnit;
+import org.apache.camel.CamelContext;
+import org.apache.camel.ProducerTemplate;
+import org.apache.camel.builder.RouteBuilder;
+import org.apache.camel.impl.DefaultCamelContext;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+
+/** Measures exchanges that pass through a chain of routes connected by internal endpoints. */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@State(Scope.Benchmark)
+public class CamelDirectRouteBenchmark {
+
+  private CamelContext camelContext;
+  private ProducerTemplate template;
+
+  @Setup
+  public void setup() throws Exception {
+    camelContext = new DefaultCamelContext();
+    camelContext.addRoutes(
+        new RouteBuilder() {
+          @Override
+          public void configure() {
+            from("direct:start").routeId("start").to("direct:validate?block=true&timeout=1000");
+            from("direct:validate?block=true&timeout=1000")
+                .routeId("validate")
+                .to("direct:enrich?block=true&timeout=1000");
+            from("direct:enrich?block=true&timeout=1000")
+                .routeId("enrich")
+                .setBody(simple("${body} enriched"));
+          }
+        });
+    camelContext.start();
+    template = camelContext.createProducerTemplate();
+  }
+
+  @TearDown
+  public void tearDown() throws Exception {
+    template.stop();
+    camelContext.stop();
+  }
+
+  @Benchmark
+  public Object exchange() {
+    return template.requestBody("direct:start", "body");
+  }
+}
@@ -0,0 +1,12 @@
+/*
+ * Copyright The OpenTelemetry Authors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package io.opentelemetry.javaagent.benchmark.camel;
+
+import org.openjdk.jmh.annotations.Fork;
+
+@Fork(jvmArgsAppend = "-Dotel.instrumentation.camel.experimental-collapse-internal-routes=true")
+public class CamelDirectRouteWithCollapsedInternalRoutesBenchmark
+    extends CamelDirectRouteBenchmark {}
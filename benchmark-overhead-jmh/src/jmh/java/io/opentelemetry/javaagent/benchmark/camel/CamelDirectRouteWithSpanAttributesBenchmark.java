@@ -0,0 +1,11 @@
+/*
+ * Copyright The OpenTelemetry Authors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package io.opentelemetry.javaagent.benchmark.camel;
+
+import org.openjdk.jmh.annotations.Fork;
+
+@Fork(jvmArgsAppend = "-Dotel.instrumentation.camel.experimental-span-attributes=true")
+public class CamelDirectRouteWithSpanAttributesBenchmark extends CamelDirectRouteBenchmark {}
@@ -0,0 +1,83 @@
+/*
+ * Copyright The OpenTelemetry Authors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package io.opentelemetry.javaagent.benchmark.classloader;
+
+import io.opentelemetry.javaagent.bootstrap.AgentClassLoader;
+import io.opentelemetry.javaagent.bootstrap.JavaagentFileHolder;
+import java.io.File;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Enumeration;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.jar.JarEntry;
+import java.util.jar.JarFile;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Measures the class loading part of the agent startup: creating an {@link AgentClassLoader} for
+ * the agent jar and loading the agent classes from it. Each invocation uses a new class loader and
+ * runs mostly cold, like the agent does while the application starts.
+ */
+@BenchmarkMode(Mode.SingleShotTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Fork(5)
+@Warmup(iterations = 0)
+@Measurement(iterations = 5)
+@State(Scope.Benchmark)
+public class AgentClassLoaderBenchmark {
+
+  private static final String INST_PREFIX = "inst/";
+  private static final String CLASS_SUFFIX = ".classdata";
+
+  private File agentJar;
+  private List<String> classNames;
+
+  @Setup
+  public void setup() throws IOException {
+    agentJar = JavaagentFileHolder.getJavaagentFile();
+    if (agentJar == null) {
+      throw new IllegalStateException("benchmark must run with the agent");
+    }
+    classNames = new ArrayList<>();
+    try (JarFile jarFile = new JarFile(agentJar, false)) {
+      for (Enumeration<JarEntry> entries = jarFile.entries(); entries.hasMoreElements(); ) {
+        String name = entries.nextElement().getName();
+        if (name.startsWith(INST_PREFIX)
+            && name.endsWith(CLASS_SUFFIX)
+            && !name.startsWith(INST_PREFIX + "META-INF/")) {
+          classNames.add(
+              name.substring(INST_PREFIX.length(), name.length() - CLASS_SUFFIX.length())
+                  .replace('/', '.'));
+        }
+      }
+    }
+  }
+
+  @Benchmark
+  public int loadAgentClasses() {
+    AgentClassLoader classLoader = new AgentClassLoader(agentJar, "inst", false);
+    int loaded = 0;
+    for (String className : classNames) {
+      try {
+        Class.forName(className, false, classLoader);
+        loaded++;
+      } catch (ClassNotFoundException | LinkageError ignored) {
+        // some agent classes depend on optional libraries
+      }
+    }
+    return loaded;
+  }
+}
@@ -0,0 +1,96 @@
+/*
+ * Copyright The OpenTelemetry Authors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package io.opentelemetry.javaagent.benchmark.classloader;
+
+import java.io.File;
+import java.io.IOException;
+import java.net.URL;
+import java.net.URLClassLoader;
+import java.util.ArrayList;
+import java.util.Enumeration;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.jar.JarEntry;
+import java.util.jar.JarFile;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Measures the cost of the agent type matching while an application loads its classes: loads every
+ * spring class of the benchmark class path (spring boot web and its dependencies) in a new class
+ * loader, so that each class goes through the class file transformer of the agent.
+ */
+@BenchmarkMode(Mode.SingleShotTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Fork(5)
+@Warmup(iterations = 1)
+@Measurement(iterations = 5)
+@State(Scope.Benchmark)
+public class ClassLoadingBenchmark {
+
+  private URL[] classPath;
+  private List<String> classNames;
+
+  @Setup
+  public void setup() throws IOException {
+    List<URL> urls = new ArrayList<>();
+    classNames = new ArrayList<>();
+    for (String entry : System.getProperty("java.class.path").split(File.pathSeparator)) {
+      File file = new File(entry);
+      if (!file.getName().endsWith(".jar")) {
+        continue;
+      }
+      urls.add(file.toURI().toURL());
+      if (file.getName().startsWith("spring-")) {
+        addClassNames(file);
+      }
+    }
+    classPath = urls.toArray(new URL[0]);
+    if (classNames.isEmpty()) {
+      throw new IllegalStateException("no spring jars found on the class path");
+    }
+  }
+
+  private void addClassNames(File file) throws IOException {
+    try (JarFile jarFile = new JarFile(file, false)) {
+      for (Enumeration<JarEntry> entries = jarFile.entries(); entries.hasMoreElements(); ) {
+        String name = entries.nextElement().getName();
+        if (name.endsWith(".class")
+            && !name.startsWith("META-INF/")
+            && !name.endsWith("module-info.class")
+            && !name.endsWith("package-info.class")) {
+          classNames.add(name.substring(0, name.length() - ".class".length()).replace('/', '.'));
+        }
+      }
+    }
+  }
+
+  @Benchmark
+  public int loadClasses() throws IOException {
+    int loaded = 0;
+    // the parent is the platform class loader, so that all application classes are loaded again
+    try (URLClassLoader classLoader =
+        new URLClassLoader(classPath, ClassLoader.getSystemClassLoader().getParent())) {
+      for (String className : classNames) {
+        try {
+          Class.forName(className, false, classLoader);
+          loaded++;
+        } catch (ClassNotFoundException | LinkageError ignored) {
+          // optional dependencies of spring are not on the class path
+        }
+      }
+    }
+    return loaded;
+  }
+}
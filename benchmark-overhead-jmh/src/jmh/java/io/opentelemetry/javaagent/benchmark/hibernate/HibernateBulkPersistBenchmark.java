@@ -0,0 +1,61 @@
+/*
+ * Copyright The OpenTelemetry Authors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package io.opentelemetry.javaagent.benchmark.hibernate;
+
+import io.opentelemetry.javaagent.benchmark.hibernate.app.Item;
+import java.util.concurrent.TimeUnit;
+import org.hibernate.Session;
+import org.hibernate.SessionFactory;
+import org.hibernate.cfg.Configuration;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+
+/** Measures persisting entities in bulk, as batch jobs do, in a transaction per batch. */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@State(Scope.Benchmark)
+public class HibernateBulkPersistBenchmark {
+
+  private static final int BATCH_SIZE = 1000;
+
+  private SessionFactory sessionFactory;
+
+  @Setup
+  public void setup() {
+    sessionFactory =
+        new Configuration()
+            .setProperty("hibernate.connection.url", "jdbc:h2:mem:bulk;DB_CLOSE_DELAY=-1")
+            .setProperty("hibernate.connection.username", "sa")
+            .setProperty("hibernate.hbm2ddl.auto", "create")
+            .setProperty("hibernate.jdbc.batch_size", "100")
+            .addAnnotatedClass(Item.class)
+            .buildSessionFactory();
+  }
+
+  @TearDown
+  public void tearDown() {
+    sessionFactory.close();
+  }
+
+  @Benchmark
+  @OperationsPerInvocation(BATCH_SIZE)
+  public void persist() {
+    try (Session session = sessionFactory.openSession()) {
+      session.beginTransaction();
+      for (int i = 0; i < BATCH_SIZE; i++) {
+        session.persist(new Item("item " + i));
+      }
+      session.getTransaction().commit();
+    }
+  }
+}
@@ -0,0 +1,13 @@
+/*
+ * Copyright The OpenTelemetry Authors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package io.opentelemetry.javaagent.benchmark.hibernate;
+
+import org.openjdk.jmh.annotations.Fork;
+
+@Fork(
+    jvmArgsAppend =
+        "-Dotel.instrumentation.hibernate.experimental-aggregate-session-operations=true")
+public class HibernateBulkPersistWithAggregationBenchmark extends HibernateBulkPersistBenchmark {}
@@ -0,0 +1,51 @@
+/*
+ * Copyright The OpenTelemetry Authors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package io.opentelemetry.javaagent.benchmark.lettuce;
+
+import io.lettuce.core.RedisClient;
+import io.lettuce.core.api.StatefulRedisConnection;
+import io.lettuce.core.api.reactive.RedisReactiveCommands;
+import io.opentelemetry.javaagent.benchmark.lettuce.app.RedisStubServer;
+import java.io.IOException;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@State(Scope.Benchmark)
+public class LettuceReactiveBenchmark {
+
+  private RedisClient client;
+  private StatefulRedisConnection<String, String> connection;
+  private RedisReactiveCommands<String, String> commands;
+
+  @Setup
+  public void setup() {
+    int port = RedisStubServer.start();
+    client = RedisClient.create("redis://127.0.0.1:" + port);
+    connection = client.connect();
+    commands = connection.reactive();
+  }
+
+  @TearDown
+  public void tearDown() throws IOException {
+    connection.close();
+    client.shutdown();
+    RedisStubServer.stop();
+  }
+
+  @Benchmark
+  public String get() {
+    return commands.get("key").block();
+  }
+}
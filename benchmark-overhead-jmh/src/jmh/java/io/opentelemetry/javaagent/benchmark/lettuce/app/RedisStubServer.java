@@ -0,0 +1,107 @@
+/*
+ * Copyright The OpenTelemetry Authors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package io.opentelemetry.javaagent.benchmark.lettuce.app;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.EOFException;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.net.InetAddress;
+import java.net.ServerSocket;
+import java.net.Socket;
+import java.nio.charset.StandardCharsets;
+
+/**
+ * A minimal redis server that replies to every command with the same bulk string, so that the
+ * benchmark measures the client and its instrumentation rather than a real server.
+ */
+public class RedisStubServer {
+
+  private static final byte[] REPLY = "$5\r\nvalue\r\n".getBytes(StandardCharsets.US_ASCII);
+
+  private static volatile ServerSocket serverSocket;
+
+  public static int start() {
+    try {
+      serverSocket = new ServerSocket(0, 50, InetAddress.getLoopbackAddress());
+    } catch (IOException e) {
+      throw new UncheckedIOException(e);
+    }
+    Thread acceptor = new Thread(RedisStubServer::accept, "redis-stub-acceptor");
+    acceptor.setDaemon(true);
+    acceptor.start();
+    return serverSocket.getLocalPort();
+  }
+
+  public static void stop() throws IOException {
+    serverSocket.close();
+  }
+
+  private static void accept() {
+    while (!serverSocket.isClosed()) {
+      try {
+        Socket socket = serverSocket.accept();
+        Thread connection = new Thread(() -> serve(socket), "redis-stub-connection");
+        connection.setDaemon(true);
+        connection.start();
+      } catch (IOException e) {
+        // the server socket was closed
+      }
+    }
+  }
+
+  private static void serve(Socket socket) {
+    try (Socket ignored = socket) {
+      InputStream in = new BufferedInputStream(socket.getInputStream());
+      OutputStream out = new BufferedOutputStream(socket.getOutputStream());
+      while (true) {
+        // commands are sent as an array of bulk strings
+        int argumentCount = readLength(in, '*');
+        for (int i = 0; i < argumentCount; i++) {
+          skip(in, readLength(in, '$') + 2);
+        }
+        out.write(REPLY);
+        // flush only once all pipelined commands have been read
+        if (in.available() == 0) {
+          out.flush();
+        }
+      }
+    } catch (IOException e) {
+      // the client disconnected
+    }
+  }
+
+  private static int readLength(InputStream in, char type) throws IOException {
+    if (read(in) != type) {
+      throw new IOException("unexpected input, expected " + type);
+    }
+    int length = 0;
+    for (int b = read(in); b != '\r'; b = read(in)) {
+      length = length * 10 + (b - '0');
+    }
+    read(in); // \n
+    return length;
+  }
+
+  private static void skip(InputStream in, int count) throws IOException {
+    for (int i = 0; i < count; i++) {
+      read(in);
+    }
+  }
+
+  private static int read(InputStream in) throws IOException {
+    int b = in.read();
+    if (b == -1) {
+      throw new EOFException();
+    }
+    return b;
+  }
+
+  private RedisStubServer() {}
+}
@@ -1,3 +1,5 @@
+import net.ltgt.gradle.errorprone.errorprone
+
 plugins {
   id("me.champeau.jmh")
   id("io.morethan.jmhreport")
@@ -35,4 +37,11 @@ tasks {
 
     outputs.cacheIf { false }
   }
+
+  // the classes generated by jmh are not meant to pass the errorprone checks
+  withType<JavaCompile>().matching { it.name == "jmhCompileGeneratedClasses" }.configureEach {
+    options.errorprone {
+      isEnabled.set(false)
+    }
+  }
 }
@@ -11,9 +11,15 @@ import java.util.List;
 import java.util.concurrent.CopyOnWriteArrayList;
 import javax.annotation.Nullable;
 
-/** Default strategies' registry implementation that uses strong references. */
+/**
+ * Default strategies' registry implementation that uses strong references. The strategy resolved
+ * for each return type is cached until a strategy is registered or unregistered.
+ */
 final class AsyncOperationEndStrategiesImpl extends AsyncOperationEndStrategies {
   private final List<AsyncOperationEndStrategy> strategies = new CopyOnWriteArrayList<>();
+  // replaced whenever the registered strategies change
+  private volatile ClassValue<AsyncOperationEndStrategy> resolvedStrategies =
+      newResolvedStrategies();
 
   AsyncOperationEndStrategiesImpl() {
     registerStrategy(Jdk8AsyncOperationEndStrategy.INSTANCE);
@@ -22,16 +28,34 @@ final class AsyncOperationEndStrategiesImpl extends AsyncOperationEndStrategies
   @Override
   public void registerStrategy(AsyncOperationEndStrategy strategy) {
     strategies.add(requireNonNull(strategy));
+    resolvedStrategies = newResolvedStrategies();
   }
 
   @Override
   public void unregisterStrategy(AsyncOperationEndStrategy strategy) {
-    strategies.remove(strategy);
+    if (strategies.remove(strategy)) {
+      resolvedStrategies = newResolvedStrategies();
+    }
   }
 
   @Nullable
   @Override
   public AsyncOperationEndStrategy resolveStrategy(Class<?> returnType) {
+    return resolvedStrategies.get(returnType);
+  }
+
+  private ClassValue<AsyncOperationEndStrategy> newResolvedStrategies() {
+    return new ClassValue<AsyncOperationEndStrategy>() {
+      @Override
+      @Nullable
+      protected AsyncOperationEndStrategy computeValue(Class<?> returnType) {
+        return findStrategy(returnType);
+      }
+    };
+  }
+
+  @Nullable
+  private AsyncOperationEndStrategy findStrategy(Class<?> returnType) {
     for (AsyncOperationEndStrategy strategy : strategies) {
       if (strategy.supports(returnType)) {
         return strategy;
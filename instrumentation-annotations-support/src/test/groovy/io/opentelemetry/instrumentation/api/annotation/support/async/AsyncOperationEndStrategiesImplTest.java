@@ -0,0 +1,70 @@
+/*
+ * Copyright The OpenTelemetry Authors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package io.opentelemetry.instrumentation.api.annotation.support.async;
+
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Future;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+@ExtendWith(MockitoExtension.class)
+class AsyncOperationEndStrategiesImplTest {
+  @Mock AsyncOperationEndStrategy strategy;
+
+  @Test
+  void shouldCacheResolvedStrategy() {
+    // given
+    AsyncOperationEndStrategiesImpl underTest = new AsyncOperationEndStrategiesImpl();
+    underTest.registerStrategy(strategy);
+    when(strategy.supports(Future.class)).thenReturn(true);
+
+    // when
+    AsyncOperationEndStrategy first = underTest.resolveStrategy(Future.class);
+    AsyncOperationEndStrategy second = underTest.resolveStrategy(Future.class);
+
+    // then
+    assertSame(strategy, first);
+    assertSame(strategy, second);
+    verify(strategy, times(1)).supports(Future.class);
+  }
+
+  @Test
+  void shouldResolveAgainAfterRegisteringStrategy() {
+    // given
+    AsyncOperationEndStrategiesImpl underTest = new AsyncOperationEndStrategiesImpl();
+    assertNull(underTest.resolveStrategy(Future.class));
+    when(strategy.supports(Future.class)).thenReturn(true);
+
+    // when
+    underTest.registerStrategy(strategy);
+
+    // then
+    assertSame(strategy, underTest.resolveStrategy(Future.class));
+  }
+
+  @Test
+  void shouldResolveAgainAfterUnregisteringStrategy() {
+    // given
+    AsyncOperationEndStrategiesImpl underTest = new AsyncOperationEndStrategiesImpl();
+    assertSame(
+        Jdk8AsyncOperationEndStrategy.INSTANCE,
+        underTest.resolveStrategy(CompletableFuture.class));
+
+    // when
+    underTest.unregisterStrategy(Jdk8AsyncOperationEndStrategy.INSTANCE);
+
+    // then
+    assertNull(underTest.resolveStrategy(CompletableFuture.class));
+  }
+}
@@ -5,40 +5,50 @@
 
 package io.opentelemetry.instrumentation.api.instrumenter.http;
 
-import static java.util.Collections.unmodifiableList;
+import static java.util.Collections.emptyMap;
+import static java.util.Collections.unmodifiableMap;
 
 import io.opentelemetry.api.common.AttributeKey;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Locale;
-import java.util.concurrent.ConcurrentHashMap;
-import java.util.concurrent.ConcurrentMap;
-import java.util.stream.Collectors;
+import java.util.Map;
 
 final class CapturedHttpHeadersUtil {
 
-  // these are naturally bounded because they only store keys listed in
-  // otel.instrumentation.http.capture-headers.server.request and
-  // otel.instrumentation.http.capture-headers.server.response
-  private static final ConcurrentMap<String, AttributeKey<List<String>>> requestKeysCache =
-      new ConcurrentHashMap<>();
-  private static final ConcurrentMap<String, AttributeKey<List<String>>> responseKeysCache =
-      new ConcurrentHashMap<>();
-
-  static List<String> lowercase(List<String> names) {
-    return unmodifiableList(
-        names.stream().map(s -> s.toLowerCase(Locale.ROOT)).collect(Collectors.toList()));
+  /**
+   * Resolves the attribute keys of the configured request headers once, so that the extractors do
+   * not need to look them up on every request. The returned map is keyed by the lowercase header
+   * name and preserves the configured order.
+   */
+  static Map<String, AttributeKey<List<String>>> requestAttributeKeys(List<String> headerNames) {
+    return attributeKeys("request", headerNames);
   }
 
-  static AttributeKey<List<String>> requestAttributeKey(String headerName) {
-    return requestKeysCache.computeIfAbsent(headerName, n -> createKey("request", n));
+  /**
+   * Resolves the attribute keys of the configured response headers once, so that the extractors do
+   * not need to look them up on every request. The returned map is keyed by the lowercase header
+   * name and preserves the configured order.
+   */
+  static Map<String, AttributeKey<List<String>>> responseAttributeKeys(List<String> headerNames) {
+    return attributeKeys("response", headerNames);
   }
 
-  static AttributeKey<List<String>> responseAttributeKey(String headerName) {
-    return responseKeysCache.computeIfAbsent(headerName, n -> createKey("response", n));
+  private static Map<String, AttributeKey<List<String>>> attributeKeys(
+      String type, List<String> headerNames) {
+    if (headerNames.isEmpty()) {
+      return emptyMap();
+    }
+    Map<String, AttributeKey<List<String>>> keys = new LinkedHashMap<>();
+    for (String headerName : headerNames) {
+      String lowercaseName = headerName.toLowerCase(Locale.ROOT);
+      keys.computeIfAbsent(lowercaseName, n -> createKey(type, n));
+    }
+    return unmodifiableMap(keys);
   }
 
   private static AttributeKey<List<String>> createKey(String type, String headerName) {
-    // headerName is always lowercase, see CapturedHttpHeaders
+    // headerName is always lowercase, see attributeKeys()
     String key = "http." + type + ".header." + headerName.replace('-', '_');
     return AttributeKey.stringArrayKey(key);
   }
@@ -5,15 +5,20 @@
 
 package io.opentelemetry.instrumentation.api.instrumenter.http;
 
-import java.util.Locale;
 import javax.annotation.Nullable;
 
+/**
+ * Extracts values from the {@code Forwarded} and {@code X-Forwarded-*} headers. Each value is
+ * looked up separately, by searching for its parameter name case-insensitively and then scanning to
+ * the end of the value. The lookups use indexes into the original header string, which is never
+ * copied or lowercased, and only the extracted value is materialized.
+ */
 final class ForwardedHeaderParser {
 
   /** Extract proto (aka scheme) from "Forwarded" http header. */
   @Nullable
   static String extractProtoFromForwardedHeader(String forwarded) {
-    int start = forwarded.toLowerCase(Locale.ROOT).indexOf("proto=");
+    int start = indexOfIgnoreCase(forwarded, "proto=");
     if (start < 0) {
       return null;
     }
@@ -33,7 +38,7 @@ final class ForwardedHeaderParser {
   /** Extract client IP address from "Forwarded" http header. */
   @Nullable
   static String extractClientIpFromForwardedHeader(String forwarded) {
-    int start = forwarded.toLowerCase(Locale.ROOT).indexOf("for=");
+    int start = indexOfIgnoreCase(forwarded, "for=");
     if (start < 0) {
       return null;
     }
@@ -50,6 +55,20 @@ final class ForwardedHeaderParser {
     return extractIpAddress(forwardedFor, 0);
   }
 
+  // equivalent to value.toLowerCase(Locale.ROOT).indexOf(lowerCaseToken), but without copying the
+  // whole header; the token is expected to be lowercase
+  private static int indexOfIgnoreCase(String value, String lowerCaseToken) {
+    int tokenLength = lowerCaseToken.length();
+    char first = lowerCaseToken.charAt(0);
+    for (int i = 0, max = value.length() - tokenLength; i <= max; i++) {
+      if (Character.toLowerCase(value.charAt(i)) == first
+          && value.regionMatches(true, i + 1, lowerCaseToken, 1, tokenLength - 1)) {
+        return i;
+      }
+    }
+    return -1;
+  }
+
   @Nullable
   private static String extractProto(String forwarded, int start) {
     if (forwarded.length() == start) {
@@ -5,13 +5,13 @@
 
 package io.opentelemetry.instrumentation.api.instrumenter.http;
 
-import static io.opentelemetry.instrumentation.api.instrumenter.http.CapturedHttpHeadersUtil.lowercase;
-import static io.opentelemetry.instrumentation.api.instrumenter.http.CapturedHttpHeadersUtil.requestAttributeKey;
-import static io.opentelemetry.instrumentation.api.instrumenter.http.CapturedHttpHeadersUtil.responseAttributeKey;
+import static io.opentelemetry.instrumentation.api.instrumenter.http.CapturedHttpHeadersUtil.requestAttributeKeys;
+import static io.opentelemetry.instrumentation.api.instrumenter.http.CapturedHttpHeadersUtil.responseAttributeKeys;
 import static io.opentelemetry.instrumentation.api.internal.AttributesExtractorUtil.internalSet;
 import static io.opentelemetry.instrumentation.api.internal.HttpConstants._OTHER;
 import static java.util.logging.Level.FINE;
 
+import io.opentelemetry.api.common.AttributeKey;
 import io.opentelemetry.api.common.AttributesBuilder;
 import io.opentelemetry.context.Context;
 import io.opentelemetry.instrumentation.api.instrumenter.AttributesExtractor;
@@ -20,6 +20,7 @@ import io.opentelemetry.instrumentation.api.internal.SemconvStability;
 import io.opentelemetry.semconv.trace.attributes.SemanticAttributes;
 import java.util.HashSet;
 import java.util.List;
+import java.util.Map;
 import java.util.Set;
 import java.util.logging.Logger;
 import javax.annotation.Nullable;
@@ -36,8 +37,9 @@ abstract class HttpCommonAttributesExtractor<
   private static final Logger logger = Logger.getLogger(HttpCommonAttributesGetter.class.getName());
 
   final GETTER getter;
-  private final List<String> capturedRequestHeaders;
-  private final List<String> capturedResponseHeaders;
+  // lowercase header name -> attribute key, resolved once when the extractor is created
+  private final Map<String, AttributeKey<List<String>>> capturedRequestHeaders;
+  private final Map<String, AttributeKey<List<String>>> capturedResponseHeaders;
   private final Set<String> knownMethods;
 
   HttpCommonAttributesExtractor(
@@ -46,8 +48,8 @@ abstract class HttpCommonAttributesExtractor<
       List<String> capturedResponseHeaders,
       Set<String> knownMethods) {
     this.getter = getter;
-    this.capturedRequestHeaders = lowercase(capturedRequestHeaders);
-    this.capturedResponseHeaders = lowercase(capturedResponseHeaders);
+    this.capturedRequestHeaders = requestAttributeKeys(capturedRequestHeaders);
+    this.capturedResponseHeaders = responseAttributeKeys(capturedResponseHeaders);
     this.knownMethods = new HashSet<>(knownMethods);
   }
 
@@ -67,10 +69,11 @@ abstract class HttpCommonAttributesExtractor<
     }
     internalSet(attributes, SemanticAttributes.USER_AGENT_ORIGINAL, userAgent(request));
 
-    for (String name : capturedRequestHeaders) {
-      List<String> values = getter.getHttpRequestHeader(request, name);
+    for (Map.Entry<String, AttributeKey<List<String>>> header :
+        capturedRequestHeaders.entrySet()) {
+      List<String> values = getter.getHttpRequestHeader(request, header.getKey());
       if (!values.isEmpty()) {
-        internalSet(attributes, requestAttributeKey(name), values);
+        internalSet(attributes, header.getValue(), values);
       }
     }
   }
@@ -110,10 +113,11 @@ abstract class HttpCommonAttributesExtractor<
         internalSet(attributes, SemanticAttributes.HTTP_RESPONSE_CONTENT_LENGTH, responseBodySize);
       }
 
-      for (String name : capturedResponseHeaders) {
-        List<String> values = getter.getHttpResponseHeader(request, response, name);
+      for (Map.Entry<String, AttributeKey<List<String>>> header :
+          capturedResponseHeaders.entrySet()) {
+        List<String> values = getter.getHttpResponseHeader(request, response, header.getKey());
         if (!values.isEmpty()) {
-          internalSet(attributes, responseAttributeKey(name), values);
+          internalSet(attributes, header.getValue(), values);
         }
       }
     }
@@ -124,8 +124,12 @@ public final class HttpRouteHolder {
           && (!onlyIfBetterRoute || isBetterRoute(httpRouteState, route))) {
 
         // update just the span name - the attribute will be picked up by the
-        // HttpServerAttributesExtractor at the end of request processing
-        updateSpanName(serverSpan, httpRouteState, route);
+        // HttpServerAttributesExtractor at the end of request processing; nested filters and
+        // framework layers frequently report the same route again, in which case the span already
+        // has the right name
+        if (!route.equals(httpRouteState.getRoute())) {
+          updateSpanName(serverSpan, httpRouteState, route);
+        }
 
         httpRouteState.update(context, source.order, route);
       }
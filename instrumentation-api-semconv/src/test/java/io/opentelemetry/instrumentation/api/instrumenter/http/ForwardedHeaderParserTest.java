@@ -47,6 +47,25 @@ class ForwardedHeaderParserTest {
         .isEqualTo("xyz");
   }
 
+  @Test
+  void extractProtoFromForwardedHeaderWithCaps() {
+    assertThat(ForwardedHeaderParser.extractProtoFromForwardedHeader("For=1.1.1.1;PROTO=xyz"))
+        .isEqualTo("xyz");
+  }
+
+  @Test
+  void extractProtoFromForwardedHeaderWithMultipleHops() {
+    assertThat(
+            ForwardedHeaderParser.extractProtoFromForwardedHeader(
+                "for=1.1.1.1;by=2.2.2.2;host=example.com;proto=https, for=3.3.3.3;proto=http"))
+        .isEqualTo("https");
+  }
+
+  @Test
+  void extractProtoFromForwardedHeaderWithNoProto() {
+    assertThat(ForwardedHeaderParser.extractProtoFromForwardedHeader("for=1.1.1.1;pro")).isNull();
+  }
+
   @Test
   void extractProtoFromForwardedProtoHeader() {
     assertThat(ForwardedHeaderParser.extractProtoFromForwardedProtoHeader("xyz")).isEqualTo("xyz");
@@ -123,6 +123,27 @@ class HttpRouteHolderTest {
         .satisfiesExactly(span -> assertThat(span).hasName("GET /route2"));
   }
 
+  @Test
+  void shouldNotRenameSpan_sameRoute() {
+    when(getter.getHttpRequestMethod("test")).thenReturn("GET");
+
+    Context context = instrumenter.start(Context.root(), "test");
+    assertNull(HttpRouteHolder.getRoute(context));
+
+    HttpRouteHolder.updateHttpRoute(context, HttpRouteSource.FILTER, "/a/route");
+    // the span is only renamed when the route changes, so this name is kept
+    Span.fromContext(context).updateName("custom name");
+    HttpRouteHolder.updateHttpRoute(context, HttpRouteSource.SERVLET, "/a/route");
+    // the source order is still updated, so the filter can't override the servlet route
+    HttpRouteHolder.updateHttpRoute(context, HttpRouteSource.FILTER, "/a/much/better/route");
+
+    instrumenter.end(context, "test", null, null);
+
+    assertEquals("/a/route", HttpRouteHolder.getRoute(context));
+    assertThat(testing.getSpans())
+        .satisfiesExactly(span -> assertThat(span).hasName("custom name"));
+  }
+
   @Test
   void shouldUpdateRoute_betterMatch() {
     when(getter.getHttpRequestMethod("test")).thenReturn("GET");
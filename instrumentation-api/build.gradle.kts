@@ -30,13 +30,6 @@ tasks {
     exclude("**/concurrentlinkedhashmap/**")
   }
 
-  // TODO this should live in jmh-conventions
-  named<JavaCompile>("jmhCompileGeneratedClasses") {
-    options.errorprone {
-      isEnabled.set(false)
-    }
-  }
-
   withType<Test>().configureEach {
     // required on jdk17
     jvmArgs("--add-opens=java.base/java.util=ALL-UNNAMED")
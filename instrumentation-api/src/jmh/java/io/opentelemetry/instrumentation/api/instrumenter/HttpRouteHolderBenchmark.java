@@ -0,0 +1,112 @@
+/*
+ * Copyright The OpenTelemetry Authors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package io.opentelemetry.instrumentation.api.instrumenter;
+
+import io.opentelemetry.api.OpenTelemetry;
+import io.opentelemetry.context.Context;
+import io.opentelemetry.instrumentation.api.instrumenter.http.HttpRouteHolder;
+import io.opentelemetry.instrumentation.api.instrumenter.http.HttpRouteSource;
+import io.opentelemetry.instrumentation.api.instrumenter.http.HttpServerAttributesGetter;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import javax.annotation.Nullable;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Measures the per-request overhead of {@link HttpRouteHolder#updateHttpRoute} when a request
+ * passes through a chain of servlet filters, a servlet and a controller that all report a route.
+ */
+@Fork(3)
+@Warmup(iterations = 10, time = 1)
+@Measurement(iterations = 5, time = 1)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@BenchmarkMode(Mode.AverageTime)
+@State(Scope.Thread)
+public class HttpRouteHolderBenchmark {
+
+  private static final Instrumenter<Void, Void> INSTRUMENTER =
+      Instrumenter.<Void, Void>builder(OpenTelemetry.noop(), "benchmark", unused -> "GET")
+          .addContextCustomizer(HttpRouteHolder.create(ConstantHttpAttributesGetter.INSTANCE))
+          .buildInstrumenter(SpanKindExtractor.alwaysServer());
+
+  @Param({"1", "5", "10"})
+  public int filterCount;
+
+  @Benchmark
+  public Context sameRouteFromEveryLayer() {
+    Context context = INSTRUMENTER.start(Context.root(), null);
+    for (int i = 0; i < filterCount; i++) {
+      HttpRouteHolder.updateHttpRoute(context, HttpRouteSource.FILTER, "/app/*");
+    }
+    HttpRouteHolder.updateHttpRoute(context, HttpRouteSource.SERVLET, "/app/*");
+    HttpRouteHolder.updateHttpRoute(context, HttpRouteSource.CONTROLLER, "/app/*");
+    INSTRUMENTER.end(context, null, null, null);
+    return context;
+  }
+
+  @Benchmark
+  public Context refinedRouteFromController() {
+    Context context = INSTRUMENTER.start(Context.root(), null);
+    for (int i = 0; i < filterCount; i++) {
+      HttpRouteHolder.updateHttpRoute(context, HttpRouteSource.FILTER, "/app/*");
+    }
+    HttpRouteHolder.updateHttpRoute(context, HttpRouteSource.SERVLET, "/app/*");
+    HttpRouteHolder.updateHttpRoute(
+        context, HttpRouteSource.CONTROLLER, "/app/users/{userId}/orders/{orderId}");
+    INSTRUMENTER.end(context, null, null, null);
+    return context;
+  }
+
+  enum ConstantHttpAttributesGetter implements HttpServerAttributesGetter<Void, Void> {
+    INSTANCE;
+
+    @Override
+    public String getHttpRequestMethod(Void unused) {
+      return "GET";
+    }
+
+    @Override
+    public List<String> getHttpRequestHeader(Void unused, String name) {
+      return Collections.emptyList();
+    }
+
+    @Override
+    public Integer getHttpResponseStatusCode(Void unused, Void unused2, @Nullable Throwable error) {
+      return 200;
+    }
+
+    @Override
+    public List<String> getHttpResponseHeader(Void unused, Void unused2, String name) {
+      return Collections.emptyList();
+    }
+
+    @Override
+    public String getUrlScheme(Void unused) {
+      return "http";
+    }
+
+    @Override
+    public String getUrlPath(Void unused) {
+      return "/app/users/1/orders/2";
+    }
+
+    @Nullable
+    @Override
+    public String getUrlQuery(Void unused) {
+      return null;
+    }
+  }
+}
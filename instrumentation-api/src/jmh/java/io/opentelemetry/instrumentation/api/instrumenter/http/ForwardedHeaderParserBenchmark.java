@@ -0,0 +1,72 @@
+/*
+ * Copyright The OpenTelemetry Authors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package io.opentelemetry.instrumentation.api.instrumenter.http;
+
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+// lives in the same package as ForwardedHeaderParser, which is package-private
+@Fork(3)
+@Warmup(iterations = 10, time = 1)
+@Measurement(iterations = 5, time = 1)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@BenchmarkMode(Mode.AverageTime)
+@State(Scope.Thread)
+public class ForwardedHeaderParserBenchmark {
+
+  @Param({"1", "4", "16"})
+  public int hops;
+
+  private String forwarded;
+  private String forwardedFor;
+
+  @Setup
+  public void setUp() {
+    StringBuilder forwardedBuilder = new StringBuilder();
+    StringBuilder forwardedForBuilder = new StringBuilder();
+    for (int i = 0; i < hops; i++) {
+      if (i > 0) {
+        forwardedBuilder.append(", ");
+        forwardedForBuilder.append(", ");
+      }
+      String address = "10.0." + (i / 256) + "." + (i % 256);
+      forwardedBuilder
+          .append("For=\"[2001:db8:cafe::")
+          .append(i)
+          .append("]:4711\";By=")
+          .append(address)
+          .append(";Host=example.com;Proto=https");
+      forwardedForBuilder.append(address);
+    }
+    forwarded = forwardedBuilder.toString();
+    forwardedFor = forwardedForBuilder.toString();
+  }
+
+  @Benchmark
+  public String clientIpFromForwarded() {
+    return ForwardedHeaderParser.extractClientIpFromForwardedHeader(forwarded);
+  }
+
+  @Benchmark
+  public String protoFromForwarded() {
+    return ForwardedHeaderParser.extractProtoFromForwardedHeader(forwarded);
+  }
+
+  @Benchmark
+  public String clientIpFromForwardedFor() {
+    return ForwardedHeaderParser.extractClientIpFromForwardedForHeader(forwardedFor);
+  }
+}
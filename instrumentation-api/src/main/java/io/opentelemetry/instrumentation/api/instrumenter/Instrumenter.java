@@ -159,6 +159,16 @@ public class Instrumenter<REQUEST, RESPONSE> {
     return context;
   }
 
+  /** Internal method for ending spans with a given end timestamp. */
+  void end(
+      Context context,
+      REQUEST request,
+      @Nullable RESPONSE response,
+      @Nullable Throwable error,
+      Instant endTime) {
+    doEnd(context, request, response, error, endTime);
+  }
+
   private Context doStart(Context parentContext, REQUEST request, @Nullable Instant startTime) {
     SpanKind spanKind = spanKindExtractor.extract(request);
     SpanBuilder spanBuilder =
@@ -268,6 +278,17 @@ public class Instrumenter<REQUEST, RESPONSE> {
             return instrumenter.startAndEnd(
                 parentContext, request, response, error, startTime, endTime);
           }
+
+          @Override
+          public <RQ, RS> void end(
+              Instrumenter<RQ, RS> instrumenter,
+              Context context,
+              RQ request,
+              @Nullable RS response,
+              @Nullable Throwable error,
+              Instant endTime) {
+            instrumenter.end(context, request, response, error, endTime);
+          }
         });
   }
 }
@@ -24,4 +24,12 @@ public interface InstrumenterAccess {
       @Nullable Throwable error,
       Instant startTime,
       Instant endTime);
+
+  <REQUEST, RESPONSE> void end(
+      Instrumenter<REQUEST, RESPONSE> instrumenter,
+      Context context,
+      REQUEST request,
+      @Nullable RESPONSE response,
+      @Nullable Throwable error,
+      Instant endTime);
 }
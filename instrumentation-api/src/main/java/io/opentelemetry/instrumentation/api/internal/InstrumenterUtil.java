@@ -45,6 +45,17 @@ public final class InstrumenterUtil {
         instrumenter, parentContext, request, response, error, startTime, endTime);
   }
 
+  public static <REQUEST, RESPONSE> void end(
+      Instrumenter<REQUEST, RESPONSE> instrumenter,
+      Context context,
+      REQUEST request,
+      @Nullable RESPONSE response,
+      @Nullable Throwable error,
+      Instant endTime) {
+    // instrumenterAccess is guaranteed to be non-null here
+    instrumenterAccess.end(instrumenter, context, request, response, error, endTime);
+  }
+
   public static <REQUEST, RESPONSE> Instrumenter<REQUEST, RESPONSE> buildUpstreamInstrumenter(
       InstrumenterBuilder<REQUEST, RESPONSE> builder,
       TextMapGetter<REQUEST> getter,
@@ -7,6 +7,7 @@ package io.opentelemetry.instrumentation.api.internal.cache;
 
 import io.opentelemetry.instrumentation.api.internal.cache.concurrentlinkedhashmap.ConcurrentLinkedHashMap;
 import java.util.function.Function;
+import java.util.function.ToIntBiFunction;
 import javax.annotation.Nullable;
 
 /**
@@ -38,6 +39,22 @@ public interface Cache<K, V> {
     return new MapBackedCache<>(map);
   }
 
+  /**
+   * Returns new bounded cache, which evicts entries when the sum of their weights, as computed by
+   * {@code weigher}, exceeds {@code maxWeight}. The weight of an entry must be at least 1.
+   *
+   * <p>Both keys and values are strongly referenced.
+   */
+  static <K, V> Cache<K, V> bounded(
+      long maxWeight, ToIntBiFunction<? super K, ? super V> weigher) {
+    ConcurrentLinkedHashMap<K, V> map =
+        new ConcurrentLinkedHashMap.Builder<K, V>()
+            .maximumWeightedCapacity(maxWeight)
+            .weigher(weigher::applyAsInt)
+            .build();
+    return new MapBackedCache<>(map);
+  }
+
   /**
    * Returns the cached value associated with the provided {@code key}. If no value is cached yet,
    * computes the value using {@code mappingFunction}, stores the result, and returns it.
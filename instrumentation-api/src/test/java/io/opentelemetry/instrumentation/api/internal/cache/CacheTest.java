@@ -35,6 +35,22 @@ class CacheTest {
       assertThat(mapBackedCache.size()).isEqualTo(1);
       assertThat(cache.computeIfAbsent("cat", unused -> "purr")).isEqualTo("purr");
     }
+
+    @Test
+    void boundedByWeight() {
+      Cache<String, String> cache = Cache.bounded(10, (key, value) -> value.length());
+      MapBackedCache<?, ?> mapBackedCache = ((MapBackedCache<?, ?>) cache);
+
+      cache.put("bear", "roar");
+      cache.put("cat", "meow");
+      assertThat(mapBackedCache.size()).isEqualTo(2);
+
+      // evicts the least recently used entries until the weights fit again
+      cache.put("dog", "woof woof");
+      assertThat(mapBackedCache.size()).isEqualTo(1);
+      assertThat(cache.get("dog")).isEqualTo("woof woof");
+      assertThat(cache.get("bear")).isNull();
+    }
   }
 
   @Nested
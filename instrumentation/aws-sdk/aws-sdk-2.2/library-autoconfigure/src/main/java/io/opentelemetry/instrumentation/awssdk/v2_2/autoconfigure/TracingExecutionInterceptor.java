@@ -36,10 +36,20 @@ public class TracingExecutionInterceptor implements ExecutionInterceptor {
       ConfigPropertiesUtil.getBoolean(
           "otel.instrumentation.aws-sdk.experimental-use-propagator-for-messaging", false);
 
+  private static final boolean USE_BATCH_RECEIVE_SPANS =
+      ConfigPropertiesUtil.getBoolean(
+          "otel.instrumentation.aws-sdk.experimental-sqs-batch-receive-spans", false);
+
+  private static final int BATCH_RECEIVE_MAX_LINKS =
+      ConfigPropertiesUtil.getInt(
+          "otel.instrumentation.aws-sdk.experimental-sqs-batch-receive-max-links", 10);
+
   private final ExecutionInterceptor delegate =
       AwsSdkTelemetry.builder(GlobalOpenTelemetry.get())
           .setCaptureExperimentalSpanAttributes(CAPTURE_EXPERIMENTAL_SPAN_ATTRIBUTES)
           .setUseConfiguredPropagatorForMessaging(USE_MESSAGING_PROPAGATOR)
+          .setUseBatchReceiveSpans(USE_BATCH_RECEIVE_SPANS)
+          .setBatchReceiveMaxLinks(BATCH_RECEIVE_MAX_LINKS)
           .build()
           .newExecutionInterceptor();
 
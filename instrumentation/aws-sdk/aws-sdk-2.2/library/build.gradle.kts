@@ -1,5 +1,6 @@
 plugins {
   id("otel.library-instrumentation")
+  id("otel.jmh-conventions")
 }
 
 dependencies {
@@ -19,6 +20,9 @@ dependencies {
   testLibrary("software.amazon.awssdk:rds:2.2.0")
   testLibrary("software.amazon.awssdk:s3:2.2.0")
   testLibrary("software.amazon.awssdk:ses:2.2.0")
+
+  jmhImplementation("io.opentelemetry:opentelemetry-sdk")
+  jmhImplementation("software.amazon.awssdk:dynamodb:2.2.0")
 }
 
 testing {
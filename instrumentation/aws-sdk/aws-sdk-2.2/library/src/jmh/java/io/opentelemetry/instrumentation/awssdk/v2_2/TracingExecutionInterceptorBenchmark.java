@@ -0,0 +1,126 @@
+/*
+ * Copyright The OpenTelemetry Authors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package io.opentelemetry.instrumentation.awssdk.v2_2;
+
+import io.opentelemetry.sdk.OpenTelemetrySdk;
+import io.opentelemetry.sdk.trace.SdkTracerProvider;
+import io.opentelemetry.sdk.trace.samplers.Sampler;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import software.amazon.awssdk.core.ClientType;
+import software.amazon.awssdk.core.SdkRequest;
+import software.amazon.awssdk.core.interceptor.ExecutionAttributes;
+import software.amazon.awssdk.core.interceptor.ExecutionInterceptor;
+import software.amazon.awssdk.core.interceptor.InterceptorContext;
+import software.amazon.awssdk.core.interceptor.SdkExecutionAttribute;
+import software.amazon.awssdk.http.SdkHttpFullRequest;
+import software.amazon.awssdk.http.SdkHttpFullResponse;
+import software.amazon.awssdk.http.SdkHttpMethod;
+import software.amazon.awssdk.services.dynamodb.model.ConsumedCapacity;
+import software.amazon.awssdk.services.dynamodb.model.QueryRequest;
+import software.amazon.awssdk.services.dynamodb.model.QueryResponse;
+import software.amazon.awssdk.services.dynamodb.model.Select;
+
+/**
+ * Measures the interceptor hooks run for a DynamoDB query, with experimental span attributes (and
+ * so the mapping of request and response fields) enabled.
+ */
+@Fork(3)
+@Warmup(iterations = 10, time = 1)
+@Measurement(iterations = 5, time = 1)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@BenchmarkMode(Mode.AverageTime)
+@State(Scope.Thread)
+public class TracingExecutionInterceptorBenchmark {
+
+  @Param({"true", "false"})
+  public boolean sampled;
+
+  private SdkTracerProvider tracerProvider;
+  private ExecutionInterceptor interceptor;
+  private InterceptorContext beforeExecutionContext;
+  private InterceptorContext afterExecutionContext;
+
+  @Setup
+  public void setup() {
+    tracerProvider =
+        SdkTracerProvider.builder()
+            .setSampler(sampled ? Sampler.alwaysOn() : Sampler.alwaysOff())
+            .build();
+    OpenTelemetrySdk openTelemetry =
+        OpenTelemetrySdk.builder().setTracerProvider(tracerProvider).build();
+    interceptor =
+        AwsSdkTelemetry.builder(openTelemetry)
+            .setCaptureExperimentalSpanAttributes(true)
+            .build()
+            .newExecutionInterceptor();
+
+    SdkRequest request =
+        QueryRequest.builder()
+            .tableName("sometable")
+            .indexName("someindex")
+            .consistentRead(true)
+            .limit(10)
+            .scanIndexForward(false)
+            .select(Select.ALL_ATTRIBUTES)
+            .projectionExpression("id, name")
+            .build();
+    beforeExecutionContext = InterceptorContext.builder().request(request).build();
+    SdkHttpFullRequest httpRequest =
+        SdkHttpFullRequest.builder()
+            .method(SdkHttpMethod.POST)
+            .protocol("https")
+            .host("dynamodb.us-east-1.amazonaws.com")
+            .encodedPath("/")
+            .putHeader("User-Agent", "aws-sdk-java/2.2.0")
+            .build();
+    afterExecutionContext =
+        InterceptorContext.builder()
+            .request(request)
+            .httpRequest(httpRequest)
+            .response(
+                QueryResponse.builder()
+                    .count(1)
+                    .consumedCapacity(
+                        ConsumedCapacity.builder()
+                            .tableName("sometable")
+                            .capacityUnits(0.5)
+                            .build())
+                    .build())
+            .httpResponse(SdkHttpFullResponse.builder().statusCode(200).build())
+            .build();
+  }
+
+  @TearDown
+  public void tearDown() {
+    tracerProvider.close();
+  }
+
+  @Benchmark
+  public ExecutionAttributes execute() {
+    ExecutionAttributes executionAttributes = new ExecutionAttributes();
+    executionAttributes.putAttribute(SdkExecutionAttribute.CLIENT_TYPE, ClientType.SYNC);
+    executionAttributes.putAttribute(SdkExecutionAttribute.SERVICE_NAME, "DynamoDb");
+    executionAttributes.putAttribute(SdkExecutionAttribute.OPERATION_NAME, "Query");
+
+    interceptor.beforeExecution(beforeExecutionContext, executionAttributes);
+    interceptor.modifyRequest(beforeExecutionContext, executionAttributes);
+    interceptor.beforeTransmission(afterExecutionContext, executionAttributes);
+    interceptor.afterExecution(afterExecutionContext, executionAttributes);
+    return executionAttributes;
+  }
+}
@@ -6,24 +6,29 @@
 package io.opentelemetry.instrumentation.awssdk.v2_2;
 
 import io.opentelemetry.api.OpenTelemetry;
+import io.opentelemetry.context.Context;
 import io.opentelemetry.instrumentation.api.instrumenter.AttributesExtractor;
 import io.opentelemetry.instrumentation.api.instrumenter.Instrumenter;
 import io.opentelemetry.instrumentation.api.instrumenter.SpanKindExtractor;
+import io.opentelemetry.instrumentation.api.instrumenter.SpanLinksBuilder;
 import io.opentelemetry.instrumentation.api.instrumenter.http.HttpClientAttributesExtractor;
 import io.opentelemetry.instrumentation.api.instrumenter.rpc.RpcClientAttributesExtractor;
 import java.util.Arrays;
 import java.util.List;
+import java.util.function.Consumer;
 import software.amazon.awssdk.core.interceptor.ExecutionAttributes;
 import software.amazon.awssdk.core.interceptor.SdkExecutionAttribute;
 import software.amazon.awssdk.http.SdkHttpResponse;
 
 final class AwsSdkInstrumenterFactory {
-  private static final String INSTRUMENTATION_NAME = "io.opentelemetry.aws-sdk-2.2";
+  static final String INSTRUMENTATION_NAME = "io.opentelemetry.aws-sdk-2.2";
 
   static final AttributesExtractor<ExecutionAttributes, SdkHttpResponse> rpcAttributesExtractor =
       RpcClientAttributesExtractor.create(AwsSdkRpcAttributesGetter.INSTANCE);
   private static final AwsSdkExperimentalAttributesExtractor experimentalAttributesExtractor =
       new AwsSdkExperimentalAttributesExtractor();
+  private static final SqsBatchReceiveAttributesExtractor batchReceiveAttributesExtractor =
+      new SqsBatchReceiveAttributesExtractor();
 
   static final AwsSdkHttpAttributesGetter httpAttributesGetter = new AwsSdkHttpAttributesGetter();
   private static final AwsSdkNetAttributesGetter netAttributesGetter =
@@ -71,6 +76,20 @@ final class AwsSdkInstrumenterFactory {
         SpanKindExtractor.alwaysConsumer());
   }
 
+  static Instrumenter<ExecutionAttributes, SdkHttpResponse> batchReceiveInstrumenter(
+      OpenTelemetry openTelemetry, boolean captureExperimentalSpanAttributes) {
+
+    return Instrumenter.<ExecutionAttributes, SdkHttpResponse>builder(
+            openTelemetry, INSTRUMENTATION_NAME, AwsSdkInstrumenterFactory::spanName)
+        .addAttributesExtractors(
+            captureExperimentalSpanAttributes
+                ? extendedConsumerAttributesExtractors
+                : defaultConsumerAttributesExtractors)
+        .addAttributesExtractor(batchReceiveAttributesExtractor)
+        .addSpanLinksExtractor(AwsSdkInstrumenterFactory::receiveLinks)
+        .buildInstrumenter(SpanKindExtractor.alwaysConsumer());
+  }
+
   private static Instrumenter<ExecutionAttributes, SdkHttpResponse> createInstrumenter(
       OpenTelemetry openTelemetry,
       List<AttributesExtractor<ExecutionAttributes, SdkHttpResponse>> extractors,
@@ -82,6 +101,15 @@ final class AwsSdkInstrumenterFactory {
         .buildInstrumenter(spanKindExtractor);
   }
 
+  private static void receiveLinks(
+      SpanLinksBuilder spanLinks, Context parentContext, ExecutionAttributes attributes) {
+    Consumer<SpanLinksBuilder> receiveLinks =
+        attributes.getAttribute(TracingExecutionInterceptor.RECEIVE_LINKS_ATTRIBUTE);
+    if (receiveLinks != null) {
+      receiveLinks.accept(spanLinks);
+    }
+  }
+
   private static String spanName(ExecutionAttributes attributes) {
     String awsServiceName = attributes.getAttribute(SdkExecutionAttribute.SERVICE_NAME);
     String awsOperation = attributes.getAttribute(SdkExecutionAttribute.OPERATION_NAME);
@@ -15,6 +15,7 @@ import static io.opentelemetry.instrumentation.awssdk.v2_2.FieldMapping.response
 import java.util.Collections;
 import java.util.List;
 import java.util.Map;
+import java.util.Optional;
 import javax.annotation.Nullable;
 import software.amazon.awssdk.core.SdkRequest;
 
@@ -119,6 +120,15 @@ enum AwsSdkRequest {
           "aws.dynamodb.provisioned_throughput.write_capacity_units",
           "ProvisionedThroughput.WriteCapacityUnits"));
 
+  // the request classes are generated, so the type of a request never changes
+  private static final ClassValue<Optional<AwsSdkRequest>> requestsByClass =
+      new ClassValue<Optional<AwsSdkRequest>>() {
+        @Override
+        protected Optional<AwsSdkRequest> computeValue(Class<?> type) {
+          return Optional.ofNullable(ofRequestClass(type));
+        }
+      };
+
   private final AwsSdkRequestType type;
   private final String requestClass;
 
@@ -134,11 +144,16 @@ enum AwsSdkRequest {
 
   @Nullable
   static AwsSdkRequest ofSdkRequest(SdkRequest request) {
+    return requestsByClass.get(request.getClass()).orElse(null);
+  }
+
+  @Nullable
+  private static AwsSdkRequest ofRequestClass(Class<?> requestClass) {
     // try request type
-    AwsSdkRequest result = ofType(request.getClass().getSimpleName());
+    AwsSdkRequest result = ofType(requestClass.getSimpleName());
     // try parent - generic
     if (result == null) {
-      result = ofType(request.getClass().getSuperclass().getSimpleName());
+      result = ofType(requestClass.getSuperclass().getSimpleName());
     }
     return result;
   }
@@ -43,6 +43,10 @@ public class AwsSdkTelemetry {
 
   private final Instrumenter<ExecutionAttributes, SdkHttpResponse> requestInstrumenter;
   private final Instrumenter<ExecutionAttributes, SdkHttpResponse> consumerInstrumenter;
+  @Nullable
+  private final Instrumenter<ExecutionAttributes, SdkHttpResponse> batchReceiveInstrumenter;
+  private final int batchReceiveMaxLinks;
+  @Nullable private final SqsReceiveMetrics receiveMetrics;
   private final boolean captureExperimentalSpanAttributes;
   @Nullable private final TextMapPropagator messagingPropagator;
   private final boolean useXrayPropagator;
@@ -51,7 +55,9 @@ public class AwsSdkTelemetry {
       OpenTelemetry openTelemetry,
       boolean captureExperimentalSpanAttributes,
       boolean useMessagingPropagator,
-      boolean useXrayPropagator) {
+      boolean useXrayPropagator,
+      boolean useBatchReceiveSpans,
+      int batchReceiveMaxLinks) {
     this.useXrayPropagator = useXrayPropagator;
     this.requestInstrumenter =
         AwsSdkInstrumenterFactory.requestInstrumenter(
@@ -59,6 +65,16 @@ public class AwsSdkTelemetry {
     this.consumerInstrumenter =
         AwsSdkInstrumenterFactory.consumerInstrumenter(
             openTelemetry, captureExperimentalSpanAttributes);
+    if (useBatchReceiveSpans) {
+      this.batchReceiveInstrumenter =
+          AwsSdkInstrumenterFactory.batchReceiveInstrumenter(
+              openTelemetry, captureExperimentalSpanAttributes);
+      this.receiveMetrics = new SqsReceiveMetrics(openTelemetry);
+    } else {
+      this.batchReceiveInstrumenter = null;
+      this.receiveMetrics = null;
+    }
+    this.batchReceiveMaxLinks = batchReceiveMaxLinks;
     this.captureExperimentalSpanAttributes = captureExperimentalSpanAttributes;
     this.messagingPropagator =
         useMessagingPropagator ? openTelemetry.getPropagators().getTextMapPropagator() : null;
@@ -72,6 +88,9 @@ public class AwsSdkTelemetry {
     return new TracingExecutionInterceptor(
         requestInstrumenter,
         consumerInstrumenter,
+        batchReceiveInstrumenter,
+        batchReceiveMaxLinks,
+        receiveMetrics,
         captureExperimentalSpanAttributes,
         messagingPropagator,
         useXrayPropagator);
@@ -19,6 +19,10 @@ public final class AwsSdkTelemetryBuilder {
 
   private boolean useXrayPropagator = true;
 
+  private boolean useBatchReceiveSpans;
+
+  private int batchReceiveMaxLinks = 10;
+
   AwsSdkTelemetryBuilder(OpenTelemetry openTelemetry) {
     this.openTelemetry = openTelemetry;
   }
@@ -57,6 +61,38 @@ public final class AwsSdkTelemetryBuilder {
     return this;
   }
 
+  /**
+   * Sets whether a single consumer span should be created for each SQS ReceiveMessage call, instead
+   * of one consumer span for each received message. The span is linked to the spans that sent the
+   * received messages, up to {@link #setBatchReceiveMaxLinks(int)} of them, and the propagation
+   * attributes of the other messages are not read.
+   *
+   * <p>When enabled, the number of messages returned by each call and the time between sending and
+   * receiving each message are also recorded as metrics, for which the {@code SentTimestamp}
+   * attribute is requested for the received messages.
+   *
+   * <p>This option is experimental and off by default.
+   */
+  @CanIgnoreReturnValue
+  public AwsSdkTelemetryBuilder setUseBatchReceiveSpans(boolean useBatchReceiveSpans) {
+    this.useBatchReceiveSpans = useBatchReceiveSpans;
+    return this;
+  }
+
+  /**
+   * Sets the maximum number of links of the span created for an SQS ReceiveMessage call when
+   * {@link #setUseBatchReceiveSpans(boolean)} is enabled. The default is 10, the maximum number of
+   * messages returned by a single call.
+   */
+  @CanIgnoreReturnValue
+  public AwsSdkTelemetryBuilder setBatchReceiveMaxLinks(int batchReceiveMaxLinks) {
+    if (batchReceiveMaxLinks < 0) {
+      throw new IllegalArgumentException("batchReceiveMaxLinks must not be negative");
+    }
+    this.batchReceiveMaxLinks = batchReceiveMaxLinks;
+    return this;
+  }
+
   /**
    * This setter implemented package-private for testing the messaging propagator, it does not seem
    * too useful in general. The option is on by default.
@@ -79,6 +115,8 @@ public final class AwsSdkTelemetryBuilder {
         openTelemetry,
         captureExperimentalSpanAttributes,
         useMessagingPropagator,
-        useXrayPropagator);
+        useXrayPropagator,
+        useBatchReceiveSpans,
+        batchReceiveMaxLinks);
   }
 }
@@ -6,7 +6,12 @@
 package io.opentelemetry.instrumentation.awssdk.v2_2;
 
 import io.opentelemetry.api.trace.Span;
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodType;
+import java.util.ArrayList;
+import java.util.EnumMap;
 import java.util.List;
+import java.util.Map;
 import java.util.function.Function;
 import javax.annotation.Nullable;
 import software.amazon.awssdk.core.SdkRequest;
@@ -15,17 +20,41 @@ import software.amazon.awssdk.utils.StringUtils;
 
 class FieldMapper {
 
+  private static final MethodType GETTER_TYPE = MethodType.methodType(Object.class, Object.class);
+
   private final Serializer serializer;
   private final MethodHandleFactory methodHandleFactory;
+  // the field mappings of a request and of its request type, compiled once for each request
+  private final Map<AwsSdkRequest, Map<FieldMapping.Type, CompiledFieldMapping[]>> plans;
 
   FieldMapper() {
-    serializer = new Serializer();
-    methodHandleFactory = new MethodHandleFactory();
+    this(new Serializer(), new MethodHandleFactory());
   }
 
   FieldMapper(Serializer serializer, MethodHandleFactory methodHandleFactory) {
     this.methodHandleFactory = methodHandleFactory;
     this.serializer = serializer;
+    this.plans = compilePlans();
+  }
+
+  private Map<AwsSdkRequest, Map<FieldMapping.Type, CompiledFieldMapping[]>> compilePlans() {
+    Map<AwsSdkRequest, Map<FieldMapping.Type, CompiledFieldMapping[]>> plans =
+        new EnumMap<>(AwsSdkRequest.class);
+    for (AwsSdkRequest request : AwsSdkRequest.values()) {
+      Map<FieldMapping.Type, CompiledFieldMapping[]> plan = new EnumMap<>(FieldMapping.Type.class);
+      for (FieldMapping.Type type : FieldMapping.Type.values()) {
+        List<CompiledFieldMapping> fieldMappings = new ArrayList<>();
+        for (FieldMapping fieldMapping : request.fields(type)) {
+          fieldMappings.add(new CompiledFieldMapping(fieldMapping));
+        }
+        for (FieldMapping fieldMapping : request.type().fields(type)) {
+          fieldMappings.add(new CompiledFieldMapping(fieldMapping));
+        }
+        plan.put(type, fieldMappings.toArray(new CompiledFieldMapping[0]));
+      }
+      plans.put(request, plan);
+    }
+    return plans;
   }
 
   void mapToAttributes(SdkRequest sdkRequest, AwsSdkRequest request, Span span) {
@@ -49,37 +78,93 @@ class FieldMapper {
       FieldMapping.Type type,
       AwsSdkRequest request,
       Span span) {
-    for (FieldMapping fieldMapping : request.fields(type)) {
-      mapToAttributes(fieldValueProvider, fieldMapping, span);
+    // serializing the values can cost as much as marshalling the request, don't do it for spans
+    // that won't be recorded
+    if (!span.isRecording()) {
+      return;
     }
-    for (FieldMapping fieldMapping : request.type().fields(type)) {
-      mapToAttributes(fieldValueProvider, fieldMapping, span);
+    for (CompiledFieldMapping fieldMapping : plans.get(request).get(type)) {
+      fieldMapping.mapToAttribute(fieldValueProvider, span);
     }
   }
 
-  private void mapToAttributes(
-      Function<String, Object> fieldValueProvider, FieldMapping fieldMapping, Span span) {
-    // traverse path
-    List<String> path = fieldMapping.getFields();
-    Object target = fieldValueProvider.apply(path.get(0));
-    for (int i = 1; i < path.size() && target != null; i++) {
-      target = next(target, path.get(i));
+  private final class CompiledFieldMapping {
+    private final String attribute;
+    // the first field is read through getValueForField of the request or response, which returns
+    // enums as strings unlike their getters
+    private final String field;
+    private final NestedField[] nestedFields;
+
+    CompiledFieldMapping(FieldMapping fieldMapping) {
+      this.attribute = fieldMapping.getAttribute();
+      List<String> path = fieldMapping.getFields();
+      this.field = path.get(0);
+      this.nestedFields = new NestedField[path.size() - 1];
+      for (int i = 1; i < path.size(); i++) {
+        nestedFields[i - 1] = new NestedField(path.get(i));
+      }
     }
-    if (target != null) {
-      String value = serializer.serialize(target);
-      if (!StringUtils.isEmpty(value)) {
-        span.setAttribute(fieldMapping.getAttribute(), value);
+
+    void mapToAttribute(Function<String, Object> fieldValueProvider, Span span) {
+      Object target = fieldValueProvider.apply(field);
+      for (int i = 0; i < nestedFields.length && target != null; i++) {
+        target = nestedFields[i].get(target);
+      }
+      if (target != null) {
+        String value = serializer.serialize(target);
+        if (!StringUtils.isEmpty(value)) {
+          span.setAttribute(attribute, value);
+        }
       }
     }
   }
 
-  @Nullable
-  private Object next(Object current, String fieldName) {
-    try {
-      return methodHandleFactory.forField(current.getClass(), fieldName).invoke(current);
-    } catch (Throwable t) {
-      // ignore
+  private final class NestedField {
+    private final String fieldName;
+    // the getter for the class of the last value this field was read from, which is always the
+    // same class for the generated model classes
+    @Nullable private volatile BoundGetter getter;
+
+    NestedField(String fieldName) {
+      this.fieldName = fieldName;
+    }
+
+    @Nullable
+    Object get(Object current) {
+      BoundGetter boundGetter = getter;
+      if (boundGetter == null || boundGetter.type != current.getClass()) {
+        boundGetter = new BoundGetter(current.getClass(), findGetter(current.getClass()));
+        getter = boundGetter;
+      }
+      if (boundGetter.methodHandle == null) {
+        return null;
+      }
+      try {
+        return boundGetter.methodHandle.invokeExact(current);
+      } catch (Throwable t) {
+        // ignore
+      }
+      return null;
+    }
+
+    @Nullable
+    private MethodHandle findGetter(Class<?> type) {
+      try {
+        return methodHandleFactory.forField(type, fieldName).asType(GETTER_TYPE);
+      } catch (Throwable t) {
+        // ignore
+      }
+      return null;
+    }
+  }
+
+  private static final class BoundGetter {
+    private final Class<?> type;
+    @Nullable private final MethodHandle methodHandle;
+
+    BoundGetter(Class<?> type, @Nullable MethodHandle methodHandle) {
+      this.type = type;
+      this.methodHandle = methodHandle;
     }
-    return null;
   }
 }
@@ -37,9 +37,11 @@ final class SqsAccess {
       SdkRequest request,
       io.opentelemetry.context.Context otelContext,
       boolean useXrayPropagator,
-      TextMapPropagator messagingPropagator) {
+      TextMapPropagator messagingPropagator,
+      boolean requestSentTimestamp) {
     return enabled
-        ? SqsImpl.modifyRequest(request, otelContext, useXrayPropagator, messagingPropagator)
+        ? SqsImpl.modifyRequest(
+            request, otelContext, useXrayPropagator, messagingPropagator, requestSentTimestamp)
         : null;
   }
 }
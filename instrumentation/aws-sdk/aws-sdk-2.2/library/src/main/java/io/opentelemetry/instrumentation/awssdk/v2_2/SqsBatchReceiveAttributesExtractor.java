@@ -0,0 +1,39 @@
+/*
+ * Copyright The OpenTelemetry Authors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package io.opentelemetry.instrumentation.awssdk.v2_2;
+
+import io.opentelemetry.api.common.AttributesBuilder;
+import io.opentelemetry.context.Context;
+import io.opentelemetry.instrumentation.api.instrumenter.AttributesExtractor;
+import io.opentelemetry.semconv.trace.attributes.SemanticAttributes;
+import javax.annotation.Nullable;
+import software.amazon.awssdk.core.interceptor.ExecutionAttributes;
+import software.amazon.awssdk.http.SdkHttpResponse;
+
+class SqsBatchReceiveAttributesExtractor
+    implements AttributesExtractor<ExecutionAttributes, SdkHttpResponse> {
+
+  @Override
+  public void onStart(
+      AttributesBuilder attributes,
+      Context parentContext,
+      ExecutionAttributes executionAttributes) {
+    Integer messageCount =
+        executionAttributes.getAttribute(
+            TracingExecutionInterceptor.RECEIVE_MESSAGE_COUNT_ATTRIBUTE);
+    if (messageCount != null) {
+      attributes.put(SemanticAttributes.MESSAGING_BATCH_MESSAGE_COUNT, (long) messageCount);
+    }
+  }
+
+  @Override
+  public void onEnd(
+      AttributesBuilder attributes,
+      Context context,
+      ExecutionAttributes executionAttributes,
+      @Nullable SdkHttpResponse sdkHttpResponse,
+      @Nullable Throwable error) {}
+}
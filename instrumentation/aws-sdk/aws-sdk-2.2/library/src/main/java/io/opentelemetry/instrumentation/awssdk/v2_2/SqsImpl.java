@@ -5,8 +5,11 @@
 
 package io.opentelemetry.instrumentation.awssdk.v2_2;
 
+import io.opentelemetry.api.trace.Span;
+import io.opentelemetry.api.trace.SpanContext;
 import io.opentelemetry.context.propagation.TextMapPropagator;
 import io.opentelemetry.instrumentation.api.instrumenter.Instrumenter;
+import io.opentelemetry.instrumentation.api.instrumenter.SpanLinksBuilder;
 import java.util.ArrayList;
 import java.util.HashMap;
 import java.util.List;
@@ -28,6 +31,8 @@ import software.amazon.awssdk.services.sqs.model.SendMessageRequest;
 
 // this class is only used from SqsAccess from method with @NoMuzzle annotation
 final class SqsImpl {
+  private static final String SENT_TIMESTAMP_SYSTEM_ATTRIBUTE = "SentTimestamp";
+
   static {
     // Force loading of SqsClient; this ensures that an exception is thrown at this point when the
     // SQS library is not present, which will cause SqsAccess to have enabled=false in library mode.
@@ -49,6 +54,13 @@ final class SqsImpl {
 
     ReceiveMessageResponse response = (ReceiveMessageResponse) rawResponse;
     SdkHttpResponse httpResponse = context.httpResponse();
+    Instrumenter<ExecutionAttributes, SdkHttpResponse> batchReceiveInstrumenter =
+        config.getBatchReceiveInstrumenter();
+    if (batchReceiveInstrumenter != null) {
+      createBatchReceiveSpan(
+          response.messages(), httpResponse, executionAttributes, config, batchReceiveInstrumenter);
+      return true;
+    }
     for (Message message : response.messages()) {
       createConsumerSpan(message, httpResponse, executionAttributes, config);
     }
@@ -62,18 +74,7 @@ final class SqsImpl {
       ExecutionAttributes executionAttributes,
       TracingExecutionInterceptor config) {
 
-    io.opentelemetry.context.Context parentContext = io.opentelemetry.context.Context.root();
-
-    TextMapPropagator messagingPropagator = config.getMessagingPropagator();
-    if (messagingPropagator != null) {
-      parentContext =
-          SqsParentContext.ofMessageAttributes(message.messageAttributes(), messagingPropagator);
-    }
-
-    if (config.shouldUseXrayPropagator()
-        && parentContext == io.opentelemetry.context.Context.root()) {
-      parentContext = SqsParentContext.ofSystemAttributes(message.attributesAsStrings());
-    }
+    io.opentelemetry.context.Context parentContext = parentContext(message, config);
 
     Instrumenter<ExecutionAttributes, SdkHttpResponse> consumerInstrumenter =
         config.getConsumerInstrumenter();
@@ -89,15 +90,104 @@ final class SqsImpl {
     }
   }
 
+  private static void createBatchReceiveSpan(
+      List<Message> messages,
+      SdkHttpResponse httpResponse,
+      ExecutionAttributes executionAttributes,
+      TracingExecutionInterceptor config,
+      Instrumenter<ExecutionAttributes, SdkHttpResponse> batchReceiveInstrumenter) {
+
+    SqsReceiveMetrics receiveMetrics = config.getReceiveMetrics();
+    if (receiveMetrics != null) {
+      recordReceiveMetrics(messages, receiveMetrics);
+    }
+    if (messages.isEmpty()) {
+      // empty polls are frequent with short polling, the client span already records them
+      return;
+    }
+
+    // the span is a child of the context the receive call was made in, its messages are linked
+    io.opentelemetry.context.Context parentContext =
+        executionAttributes.getAttribute(TracingExecutionInterceptor.PARENT_CONTEXT_ATTRIBUTE);
+    if (parentContext == null) {
+      parentContext = io.opentelemetry.context.Context.current();
+    }
+    if (!batchReceiveInstrumenter.shouldStart(parentContext, executionAttributes)) {
+      return;
+    }
+    // the propagation attributes of the messages are only read when the span is started, and
+    // only for as many messages as there can be links
+    executionAttributes.putAttribute(
+        TracingExecutionInterceptor.RECEIVE_LINKS_ATTRIBUTE,
+        spanLinks -> addReceiveLinks(spanLinks, messages, config));
+    executionAttributes.putAttribute(
+        TracingExecutionInterceptor.RECEIVE_MESSAGE_COUNT_ATTRIBUTE, messages.size());
+    io.opentelemetry.context.Context context =
+        batchReceiveInstrumenter.start(parentContext, executionAttributes);
+    batchReceiveInstrumenter.end(context, executionAttributes, httpResponse, null);
+  }
+
+  private static void addReceiveLinks(
+      SpanLinksBuilder spanLinks, List<Message> messages, TracingExecutionInterceptor config) {
+    int maxLinks = config.getBatchReceiveMaxLinks();
+    int links = 0;
+    for (int i = 0; i < messages.size() && links < maxLinks; i++) {
+      SpanContext spanContext =
+          Span.fromContext(parentContext(messages.get(i), config)).getSpanContext();
+      if (spanContext.isValid()) {
+        spanLinks.addLink(spanContext);
+        links++;
+      }
+    }
+  }
+
+  private static void recordReceiveMetrics(
+      List<Message> messages, SqsReceiveMetrics receiveMetrics) {
+    receiveMetrics.recordReceive(messages.size());
+    long now = System.currentTimeMillis();
+    for (Message message : messages) {
+      // attributesAsStrings() returns the map of the message, attributes() converts it
+      String sentTimestamp = message.attributesAsStrings().get(SENT_TIMESTAMP_SYSTEM_ATTRIBUTE);
+      if (sentTimestamp != null) {
+        try {
+          receiveMetrics.recordLatency(Long.parseLong(sentTimestamp), now);
+        } catch (NumberFormatException ignored) {
+          // not expected, the attribute is set by SQS
+        }
+      }
+    }
+  }
+
+  private static io.opentelemetry.context.Context parentContext(
+      Message message, TracingExecutionInterceptor config) {
+    io.opentelemetry.context.Context parentContext = io.opentelemetry.context.Context.root();
+
+    TextMapPropagator messagingPropagator = config.getMessagingPropagator();
+    if (messagingPropagator != null) {
+      parentContext =
+          SqsParentContext.ofMessageAttributes(message.messageAttributes(), messagingPropagator);
+    }
+
+    if (config.shouldUseXrayPropagator()
+        && parentContext == io.opentelemetry.context.Context.root()) {
+      parentContext = SqsParentContext.ofSystemAttributes(message.attributesAsStrings());
+    }
+    return parentContext;
+  }
+
   @Nullable
   static SdkRequest modifyRequest(
       SdkRequest request,
       io.opentelemetry.context.Context otelContext,
       boolean useXrayPropagator,
-      TextMapPropagator messagingPropagator) {
+      TextMapPropagator messagingPropagator,
+      boolean requestSentTimestamp) {
     if (request instanceof ReceiveMessageRequest) {
       return modifyReceiveMessageRequest(
-          (ReceiveMessageRequest) request, useXrayPropagator, messagingPropagator);
+          (ReceiveMessageRequest) request,
+          useXrayPropagator,
+          messagingPropagator,
+          requestSentTimestamp);
     } else if (messagingPropagator != null) {
       if (request instanceof SendMessageRequest) {
         return injectIntoSendMessageRequest(
@@ -163,13 +253,19 @@ final class SqsImpl {
   private static SdkRequest modifyReceiveMessageRequest(
       ReceiveMessageRequest request,
       boolean useXrayPropagator,
-      TextMapPropagator messagingPropagator) {
+      TextMapPropagator messagingPropagator,
+      boolean requestSentTimestamp) {
     boolean hasXrayAttribute = true;
+    boolean hasSentTimestampAttribute = true;
     List<String> existingAttributeNames = null;
-    if (useXrayPropagator) {
+    if (useXrayPropagator || requestSentTimestamp) {
       existingAttributeNames = request.attributeNamesAsStrings();
       hasXrayAttribute =
-          existingAttributeNames.contains(SqsParentContext.AWS_TRACE_SYSTEM_ATTRIBUTE);
+          !useXrayPropagator
+              || existingAttributeNames.contains(SqsParentContext.AWS_TRACE_SYSTEM_ATTRIBUTE);
+      hasSentTimestampAttribute =
+          !requestSentTimestamp
+              || existingAttributeNames.contains(SENT_TIMESTAMP_SYSTEM_ATTRIBUTE);
     }
 
     boolean hasMessageAttribute = true;
@@ -179,14 +275,19 @@ final class SqsImpl {
       hasMessageAttribute = existingMessageAttributeNames.containsAll(messagingPropagator.fields());
     }
 
-    if (hasMessageAttribute && hasXrayAttribute) {
+    if (hasMessageAttribute && hasXrayAttribute && hasSentTimestampAttribute) {
       return request;
     }
 
     ReceiveMessageRequest.Builder builder = request.toBuilder();
-    if (!hasXrayAttribute) {
+    if (!hasXrayAttribute || !hasSentTimestampAttribute) {
       List<String> attributeNames = new ArrayList<>(existingAttributeNames);
-      attributeNames.add(SqsParentContext.AWS_TRACE_SYSTEM_ATTRIBUTE);
+      if (!hasXrayAttribute) {
+        attributeNames.add(SqsParentContext.AWS_TRACE_SYSTEM_ATTRIBUTE);
+      }
+      if (!hasSentTimestampAttribute) {
+        attributeNames.add(SENT_TIMESTAMP_SYSTEM_ATTRIBUTE);
+      }
       builder.attributeNamesWithStrings(attributeNames);
     }
     if (messagingPropagator != null) {
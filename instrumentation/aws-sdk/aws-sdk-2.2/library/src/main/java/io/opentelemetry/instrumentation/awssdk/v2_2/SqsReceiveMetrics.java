@@ -0,0 +1,44 @@
+/*
+ * Copyright The OpenTelemetry Authors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package io.opentelemetry.instrumentation.awssdk.v2_2;
+
+import io.opentelemetry.api.OpenTelemetry;
+import io.opentelemetry.api.metrics.DoubleHistogram;
+import io.opentelemetry.api.metrics.LongHistogram;
+import io.opentelemetry.api.metrics.Meter;
+
+/** Metrics recorded for SQS ReceiveMessage calls when batch receive spans are used. */
+final class SqsReceiveMetrics {
+
+  private final LongHistogram receivedMessages;
+  private final DoubleHistogram messageLatency;
+
+  SqsReceiveMetrics(OpenTelemetry openTelemetry) {
+    Meter meter = openTelemetry.getMeter(AwsSdkInstrumenterFactory.INSTRUMENTATION_NAME);
+    receivedMessages =
+        meter
+            .histogramBuilder("aws.sqs.receive.messages")
+            .ofLongs()
+            .setUnit("{message}")
+            .setDescription("The number of messages returned by a ReceiveMessage call")
+            .build();
+    messageLatency =
+        meter
+            .histogramBuilder("aws.sqs.message.latency")
+            .setUnit("ms")
+            .setDescription("The time between sending a message and receiving it")
+            .build();
+  }
+
+  void recordReceive(int messageCount) {
+    receivedMessages.record(messageCount);
+  }
+
+  void recordLatency(long sentTimestampMillis, long receivedTimestampMillis) {
+    // clocks of the queue and of this host are not synchronized
+    messageLatency.record(Math.max(0, receivedTimestampMillis - sentTimestampMillis));
+  }
+}
@@ -14,8 +14,10 @@ import io.opentelemetry.context.Scope;
 import io.opentelemetry.context.propagation.TextMapPropagator;
 import io.opentelemetry.contrib.awsxray.propagator.AwsXrayPropagator;
 import io.opentelemetry.instrumentation.api.instrumenter.Instrumenter;
+import io.opentelemetry.instrumentation.api.instrumenter.SpanLinksBuilder;
 import io.opentelemetry.semconv.trace.attributes.SemanticAttributes;
 import java.util.List;
+import java.util.function.Consumer;
 import javax.annotation.Nullable;
 import software.amazon.awssdk.awscore.AwsResponse;
 import software.amazon.awssdk.core.ClientType;
@@ -36,6 +38,9 @@ final class TracingExecutionInterceptor implements ExecutionInterceptor {
   // instrumentation, and won't conflict with usage outside javaagent instrumentation
   static final ExecutionAttribute<io.opentelemetry.context.Context> CONTEXT_ATTRIBUTE =
       new ExecutionAttribute<>(TracingExecutionInterceptor.class.getName() + ".Context");
+  // the context that was current when the request started
+  static final ExecutionAttribute<io.opentelemetry.context.Context> PARENT_CONTEXT_ATTRIBUTE =
+      new ExecutionAttribute<>(TracingExecutionInterceptor.class.getName() + ".ParentContext");
   static final ExecutionAttribute<Scope> SCOPE_ATTRIBUTE =
       new ExecutionAttribute<>(TracingExecutionInterceptor.class.getName() + ".Scope");
   static final ExecutionAttribute<AwsSdkRequest> AWS_SDK_REQUEST_ATTRIBUTE =
@@ -44,15 +49,40 @@ final class TracingExecutionInterceptor implements ExecutionInterceptor {
       new ExecutionAttribute<>(TracingExecutionInterceptor.class.getName() + ".SdkHttpRequest");
   static final ExecutionAttribute<SdkRequest> SDK_REQUEST_ATTRIBUTE =
       new ExecutionAttribute<>(TracingExecutionInterceptor.class.getName() + ".SdkRequest");
+  // adds the links of a batch receive span, only called when the span is started
+  static final ExecutionAttribute<Consumer<SpanLinksBuilder>> RECEIVE_LINKS_ATTRIBUTE =
+      new ExecutionAttribute<>(TracingExecutionInterceptor.class.getName() + ".ReceiveLinks");
+  static final ExecutionAttribute<Integer> RECEIVE_MESSAGE_COUNT_ATTRIBUTE =
+      new ExecutionAttribute<>(
+          TracingExecutionInterceptor.class.getName() + ".ReceiveMessageCount");
 
   private final Instrumenter<ExecutionAttributes, SdkHttpResponse> requestInstrumenter;
   private final Instrumenter<ExecutionAttributes, SdkHttpResponse> consumerInstrumenter;
+  @Nullable
+  private final Instrumenter<ExecutionAttributes, SdkHttpResponse> batchReceiveInstrumenter;
+  private final int batchReceiveMaxLinks;
+  @Nullable private final SqsReceiveMetrics receiveMetrics;
   private final boolean captureExperimentalSpanAttributes;
 
   Instrumenter<ExecutionAttributes, SdkHttpResponse> getConsumerInstrumenter() {
     return consumerInstrumenter;
   }
 
+  /** Returns {@code null} if a consumer span is created for each received message. */
+  @Nullable
+  Instrumenter<ExecutionAttributes, SdkHttpResponse> getBatchReceiveInstrumenter() {
+    return batchReceiveInstrumenter;
+  }
+
+  int getBatchReceiveMaxLinks() {
+    return batchReceiveMaxLinks;
+  }
+
+  @Nullable
+  SqsReceiveMetrics getReceiveMetrics() {
+    return receiveMetrics;
+  }
+
   @Nullable
   TextMapPropagator getMessagingPropagator() {
     return messagingPropagator;
@@ -69,11 +99,17 @@ final class TracingExecutionInterceptor implements ExecutionInterceptor {
   TracingExecutionInterceptor(
       Instrumenter<ExecutionAttributes, SdkHttpResponse> requestInstrumenter,
       Instrumenter<ExecutionAttributes, SdkHttpResponse> consumerInstrumenter,
+      @Nullable Instrumenter<ExecutionAttributes, SdkHttpResponse> batchReceiveInstrumenter,
+      int batchReceiveMaxLinks,
+      @Nullable SqsReceiveMetrics receiveMetrics,
       boolean captureExperimentalSpanAttributes,
       TextMapPropagator messagingPropagator,
       boolean useXrayPropagator) {
     this.requestInstrumenter = requestInstrumenter;
     this.consumerInstrumenter = consumerInstrumenter;
+    this.batchReceiveInstrumenter = batchReceiveInstrumenter;
+    this.batchReceiveMaxLinks = batchReceiveMaxLinks;
+    this.receiveMetrics = receiveMetrics;
     this.captureExperimentalSpanAttributes = captureExperimentalSpanAttributes;
     this.messagingPropagator = messagingPropagator;
     this.useXrayPropagator = useXrayPropagator;
@@ -90,6 +126,7 @@ final class TracingExecutionInterceptor implements ExecutionInterceptor {
     io.opentelemetry.context.Context parentOtelContext = io.opentelemetry.context.Context.current();
     SdkRequest request = context.request();
     executionAttributes.putAttribute(SDK_REQUEST_ATTRIBUTE, request);
+    executionAttributes.putAttribute(PARENT_CONTEXT_ATTRIBUTE, parentOtelContext);
 
     if (!requestInstrumenter.shouldStart(parentOtelContext, executionAttributes)) {
       // NB: We also skip injection in case we don't start.
@@ -122,7 +159,12 @@ final class TracingExecutionInterceptor implements ExecutionInterceptor {
     }
 
     SdkRequest modifiedRequest =
-        SqsAccess.modifyRequest(request, otelContext, useXrayPropagator, messagingPropagator);
+        SqsAccess.modifyRequest(
+            request,
+            otelContext,
+            useXrayPropagator,
+            messagingPropagator,
+            /* requestSentTimestamp= */ receiveMetrics != null);
     if (modifiedRequest != null) {
       return modifiedRequest;
     }
@@ -296,8 +338,11 @@ final class TracingExecutionInterceptor implements ExecutionInterceptor {
       scope.close();
     }
     executionAttributes.putAttribute(CONTEXT_ATTRIBUTE, null);
+    executionAttributes.putAttribute(PARENT_CONTEXT_ATTRIBUTE, null);
     executionAttributes.putAttribute(AWS_SDK_REQUEST_ATTRIBUTE, null);
     executionAttributes.putAttribute(SDK_HTTP_REQUEST_ATTRIBUTE, null);
+    executionAttributes.putAttribute(RECEIVE_LINKS_ATTRIBUTE, null);
+    executionAttributes.putAttribute(RECEIVE_MESSAGE_COUNT_ATTRIBUTE, null);
   }
 
   /**
@@ -0,0 +1,135 @@
+/*
+ * Copyright The OpenTelemetry Authors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package io.opentelemetry.instrumentation.awssdk.v2_2
+
+import io.opentelemetry.instrumentation.test.InstrumentationSpecification
+import io.opentelemetry.instrumentation.test.LibraryTestTrait
+import io.opentelemetry.sdk.trace.data.SpanData
+import io.opentelemetry.semconv.trace.attributes.SemanticAttributes
+import org.elasticmq.rest.sqs.SQSRestServerBuilder
+import software.amazon.awssdk.auth.credentials.AwsBasicCredentials
+import software.amazon.awssdk.auth.credentials.StaticCredentialsProvider
+import software.amazon.awssdk.core.client.config.ClientOverrideConfiguration
+import software.amazon.awssdk.regions.Region
+import software.amazon.awssdk.services.sqs.SqsClient
+import software.amazon.awssdk.services.sqs.model.CreateQueueRequest
+import software.amazon.awssdk.services.sqs.model.ReceiveMessageRequest
+import software.amazon.awssdk.services.sqs.model.SendMessageBatchRequest
+import spock.lang.Shared
+
+import static io.opentelemetry.api.trace.SpanKind.CLIENT
+import static io.opentelemetry.api.trace.SpanKind.CONSUMER
+
+class Aws2SqsBatchReceiveTest extends InstrumentationSpecification implements LibraryTestTrait {
+
+  @Shared
+  def sqs
+
+  @Shared
+  int sqsPort
+
+  def setupSpec() {
+    sqs = SQSRestServerBuilder.withPort(0).withInterface("localhost").start()
+    sqsPort = sqs.waitUntilStarted().localAddress().port
+  }
+
+  def cleanupSpec() {
+    if (sqs != null) {
+      sqs.stopAndWait()
+    }
+  }
+
+  def "creates one linked consumer span for each receive call"() {
+    setup:
+    def client = SqsClient.builder()
+      .overrideConfiguration(ClientOverrideConfiguration.builder()
+        .addExecutionInterceptor(AwsSdkTelemetry.builder(getOpenTelemetry())
+          .setUseBatchReceiveSpans(true)
+          .setBatchReceiveMaxLinks(2)
+          .build()
+          .newExecutionInterceptor())
+        .build())
+      .endpointOverride(new URI("http://localhost:" + sqsPort))
+      .region(Region.AP_NORTHEAST_1)
+      .credentialsProvider(StaticCredentialsProvider.create(
+        AwsBasicCredentials.create("my-access-key", "my-secret-key")))
+      .build()
+    def queueUrl = "http://localhost:$sqsPort/000000000000/testSdkSqsBatchReceive"
+
+    client.createQueue(CreateQueueRequest.builder().queueName("testSdkSqsBatchReceive").build())
+
+    when:
+    client.sendMessageBatch(SendMessageBatchRequest.builder()
+      .queueUrl(queueUrl)
+      .entries(
+        e -> e.messageBody("e1").id("i1"),
+        e -> e.messageBody("e2").id("i2"),
+        e -> e.messageBody("e3").id("i3"))
+      .build())
+    def resp = runWithSpan("parent") {
+      client.receiveMessage(ReceiveMessageRequest.builder()
+        .queueUrl(queueUrl)
+        .maxNumberOfMessages(3)
+        .waitTimeSeconds(5)
+        .build())
+    }
+
+    then:
+    resp.messages().size() == 3
+    resp.messages().every { it.attributesAsStrings().containsKey("SentTimestamp") }
+
+    SpanData sendSpan
+    assertTraces(3) {
+      trace(0, 1) {
+        span(0) {
+          name "Sqs.CreateQueue"
+          kind CLIENT
+        }
+      }
+      trace(1, 1) {
+        span(0) {
+          name "Sqs.SendMessageBatch"
+          kind CLIENT
+          hasNoParent()
+        }
+        sendSpan = span(0)
+      }
+      trace(2, 3) {
+        span(0) {
+          name "parent"
+          hasNoParent()
+        }
+        span(1) {
+          name "Sqs.ReceiveMessage"
+          kind CLIENT
+          childOf span(0)
+        }
+        span(2) {
+          name "Sqs.ReceiveMessage"
+          kind CONSUMER
+          childOf span(0)
+          hasLink(sendSpan)
+          attributes {
+            "rpc.method" "ReceiveMessage"
+            "rpc.system" "aws-api"
+            "rpc.service" "Sqs"
+            "http.method" "POST"
+            "http.status_code" 200
+            "http.url" { it.startsWith("http://localhost:$sqsPort") }
+            "$SemanticAttributes.USER_AGENT_ORIGINAL" String
+            "net.peer.name" "localhost"
+            "net.peer.port" sqsPort
+            "$SemanticAttributes.MESSAGING_BATCH_MESSAGE_COUNT" 3
+            "$SemanticAttributes.HTTP_REQUEST_CONTENT_LENGTH" { it == null || it instanceof Long }
+            "$SemanticAttributes.HTTP_RESPONSE_CONTENT_LENGTH" { it == null || it instanceof Long }
+          }
+        }
+      }
+    }
+    // all messages were sent by the same span, but only two are linked
+    testRunner().getExportedSpans().find { it.kind == CONSUMER }.links.size() == 2
+  }
+}
@@ -9,6 +9,7 @@ import static io.opentelemetry.instrumentation.awssdk.v2_2.AwsSdkRequest.BatchWr
 import static io.opentelemetry.instrumentation.awssdk.v2_2.AwsSdkRequest.UpdateTable;
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
 import static org.mockito.Mockito.verifyNoMoreInteractions;
 import static org.mockito.Mockito.when;
 
@@ -47,9 +48,11 @@ public class FieldMapperTest {
     when(serializer.serialize(77L)).thenReturn("77");
 
     Span span = mock(Span.class);
+    when(span.isRecording()).thenReturn(true);
     // when
     underTest.mapToAttributes(sdkRequest, awsSdkRequest, span);
     // then
+    verify(span).isRecording();
     verify(span).setAttribute("aws.dynamodb.provisioned_throughput.read_capacity_units", "55");
     verify(span).setAttribute("aws.dynamodb.provisioned_throughput.write_capacity_units", "77");
     verifyNoMoreInteractions(span);
@@ -68,9 +71,11 @@ public class FieldMapperTest {
     when(serializer.serialize(items)).thenReturn("firstTable,secondTable");
 
     Span span = mock(Span.class);
+    when(span.isRecording()).thenReturn(true);
     // when
     underTest.mapToAttributes(sdkRequest, awsSdkRequest, span);
     // then
+    verify(span).isRecording();
     verify(span).setAttribute("aws.dynamodb.table_names", "firstTable,secondTable");
     verifyNoMoreInteractions(span);
   }
@@ -93,11 +98,34 @@ public class FieldMapperTest {
     when(serializer.serialize(items)).thenReturn("itemCollectionMetrics");
 
     Span span = mock(Span.class);
+    when(span.isRecording()).thenReturn(true);
     // when
     underTest.mapToAttributes(sdkResponse, awsSdkRequest, span);
     // then
+    verify(span).isRecording();
     verify(span).setAttribute("aws.dynamodb.consumed_capacity", "consumedCapacity");
     verify(span).setAttribute("aws.dynamodb.item_collection_metrics", "itemCollectionMetrics");
     verifyNoMoreInteractions(span);
   }
+
+  @Test
+  public void shouldNotMapFieldsOfSpansThatAreNotRecorded() {
+
+    // given
+    AwsSdkRequest awsSdkRequest = UpdateTable;
+    Serializer serializer = mock(Serializer.class);
+    FieldMapper underTest = new FieldMapper(serializer, new MethodHandleFactory());
+    UpdateTableRequest sdkRequest =
+        UpdateTableRequest.builder()
+            .provisionedThroughput(ProvisionedThroughput.builder().readCapacityUnits(55L).build())
+            .build();
+
+    Span span = mock(Span.class);
+    // when
+    underTest.mapToAttributes(sdkRequest, awsSdkRequest, span);
+    // then
+    verify(span).isRecording();
+    verifyNoMoreInteractions(span);
+    verifyNoInteractions(serializer);
+  }
 }
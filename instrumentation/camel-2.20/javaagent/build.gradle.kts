@@ -66,6 +66,25 @@ dependencies {
 }
 
 tasks {
+  val testInternalRoutes by registering(Test::class) {
+    filter {
+      includeTestsMatching("InternalRoutesTest")
+    }
+    include("**/InternalRoutesTest.*")
+    jvmArgs("-Dotel.instrumentation.camel.experimental-collapse-internal-routes=true")
+    jvmArgs("-Dotel.instrumentation.camel.experimental-route-sampling-ratios=unsampled=0")
+  }
+
+  test {
+    filter {
+      excludeTestsMatching("InternalRoutesTest")
+    }
+  }
+
+  check {
+    dependsOn(testInternalRoutes)
+  }
+
   withType<Test>().configureEach {
     // TODO run tests both with and without experimental span attributes
     jvmArgs("-Dotel.instrumentation.camel.experimental-span-attributes=true")
@@ -50,7 +50,7 @@ final class CamelEventNotifier extends EventNotifierSupport {
   /** Camel about to send (outbound). */
   private static void onExchangeSending(ExchangeSendingEvent ese) {
     SpanDecorator sd = getSpanDecorator(ese.getEndpoint());
-    if (!sd.shouldStartNewSpan()) {
+    if (!sd.shouldStartNewSpan() || CamelRoutePolicy.isNotSampled(ese.getExchange())) {
       return;
     }
 
@@ -80,7 +80,7 @@ final class CamelEventNotifier extends EventNotifierSupport {
   /** Camel finished sending (outbound). Finish span and remove it from CAMEL holder. */
   private static void onExchangeSent(ExchangeSentEvent event) {
     SpanDecorator sd = getSpanDecorator(event.getEndpoint());
-    if (!sd.shouldStartNewSpan()) {
+    if (!sd.shouldStartNewSpan() || CamelRoutePolicy.isNotSampled(event.getExchange())) {
       return;
     }
 
@@ -26,10 +26,16 @@ package io.opentelemetry.javaagent.instrumentation.apachecamel;
 import static io.opentelemetry.javaagent.instrumentation.apachecamel.CamelSingletons.getSpanDecorator;
 import static io.opentelemetry.javaagent.instrumentation.apachecamel.CamelSingletons.instrumenter;
 import static java.util.logging.Level.FINE;
+import static java.util.logging.Level.WARNING;
 
 import io.opentelemetry.api.trace.Span;
 import io.opentelemetry.api.trace.SpanKind;
 import io.opentelemetry.context.Context;
+import io.opentelemetry.javaagent.bootstrap.internal.InstrumentationConfig;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.ThreadLocalRandom;
 import java.util.logging.Logger;
 import org.apache.camel.Exchange;
 import org.apache.camel.Route;
@@ -39,27 +45,110 @@ final class CamelRoutePolicy extends RoutePolicySupport {
 
   private static final Logger logger = Logger.getLogger(CamelRoutePolicy.class.getName());
 
-  private static Context spanOnExchangeBegin(
+  private static final boolean COLLAPSE_INTERNAL_ROUTES =
+      InstrumentationConfig.get()
+          .getBoolean("otel.instrumentation.camel.experimental-collapse-internal-routes", false);
+
+  private static final Map<String, Double> ROUTE_SAMPLING_RATIOS =
+      parseSamplingRatios(
+          InstrumentationConfig.get()
+              .getMap(
+                  "otel.instrumentation.camel.experimental-route-sampling-ratios",
+                  Collections.emptyMap()));
+
+  private static final String NOT_SAMPLED_PROPERTY = "OpenTelemetry.notSampled";
+
+  private static final CamelRoutePolicy DEFAULT = new CamelRoutePolicy(1.0);
+
+  // the ratio of the exchanges that start a new trace in this route that are sampled
+  private final double samplingRatio;
+
+  private CamelRoutePolicy(double samplingRatio) {
+    this.samplingRatio = samplingRatio;
+  }
+
+  static CamelRoutePolicy forRoute(String routeId) {
+    Double samplingRatio = ROUTE_SAMPLING_RATIOS.get(routeId);
+    return samplingRatio == null ? DEFAULT : new CamelRoutePolicy(samplingRatio);
+  }
+
+  private static Map<String, Double> parseSamplingRatios(Map<String, String> config) {
+    Map<String, Double> result = new HashMap<>();
+    for (Map.Entry<String, String> entry : config.entrySet()) {
+      try {
+        double ratio = Double.parseDouble(entry.getValue());
+        if (ratio >= 0 && ratio <= 1) {
+          result.put(entry.getKey(), ratio);
+          continue;
+        }
+      } catch (NumberFormatException ignored) {
+        // logged below
+      }
+      logger.log(
+          WARNING,
+          "Ignoring invalid sampling ratio {0} of route {1}, expected a number between 0 and 1",
+          new Object[] {entry.getValue(), entry.getKey()});
+    }
+    return result;
+  }
+
+  private Context spanOnExchangeBegin(
       Route route, Exchange exchange, SpanDecorator sd, Context parentContext) {
     Span activeSpan = Span.fromContext(parentContext);
+    SpanKind spanKind = spanKind(activeSpan, sd);
+    CamelRequest request =
+        CamelRequest.create(sd, exchange, route.getEndpoint(), CamelDirection.INBOUND, spanKind);
+
+    // the caller of a route consuming from an internal endpoint is traced already when its context
+    // is current, so the route is processed as part of the span of the caller
+    if (COLLAPSE_INTERNAL_ROUTES
+        && !sd.shouldStartNewSpan()
+        && activeSpan.getSpanContext().isValid()) {
+      ActiveContextManager.activate(null, request);
+      return null;
+    }
+
+    // the exchange started in a route that was not sampled, none of its routes are traced
+    if (isNotSampled(exchange)) {
+      ActiveContextManager.activate(null, request);
+      return null;
+    }
+
     if (!activeSpan.getSpanContext().isValid()) {
       parentContext =
           CamelPropagationUtil.extractParent(exchange.getIn().getHeaders(), route.getEndpoint());
+      if (!Span.fromContext(parentContext).getSpanContext().isValid() && !sample()) {
+        exchange.setProperty(NOT_SAMPLED_PROPERTY, Boolean.TRUE);
+        ActiveContextManager.activate(null, request);
+        return null;
+      }
     }
 
-    SpanKind spanKind = spanKind(activeSpan, sd);
-    CamelRequest request =
-        CamelRequest.create(sd, exchange, route.getEndpoint(), CamelDirection.INBOUND, spanKind);
     sd.updateServerSpanName(parentContext, exchange, route.getEndpoint(), CamelDirection.INBOUND);
 
-    if (!instrumenter().shouldStart(parentContext, request)) {
-      return null;
+    Context context = null;
+    if (instrumenter().shouldStart(parentContext, request)) {
+      context = instrumenter().start(parentContext, request);
     }
-    Context context = instrumenter().start(parentContext, request);
+    // activated even when there's no span, so that onExchangeDone() does not end the span of the
+    // caller
     ActiveContextManager.activate(context, request);
     return context;
   }
 
+  private boolean sample() {
+    return samplingRatio >= 1.0 || ThreadLocalRandom.current().nextDouble() < samplingRatio;
+  }
+
+  /**
+   * Returns whether the exchange started a new trace in a route whose sampling ratio dropped it, in
+   * which case no spans are started for the exchange, neither for the routes it passes through nor
+   * for the endpoints it is sent to.
+   */
+  static boolean isNotSampled(Exchange exchange) {
+    return exchange.getProperty(NOT_SAMPLED_PROPERTY, Boolean.FALSE, Boolean.class);
+  }
+
   private static SpanKind spanKind(Span activeSpan, SpanDecorator sd) {
     // if there's an active span, this is not a root span which we always mark as INTERNAL
     return activeSpan.getSpanContext().isValid() ? SpanKind.INTERNAL : sd.getReceiverSpanKind();
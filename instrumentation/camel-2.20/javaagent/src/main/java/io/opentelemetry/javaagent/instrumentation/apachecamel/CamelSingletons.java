@@ -17,7 +17,6 @@ import io.opentelemetry.instrumentation.api.instrumenter.SpanStatusExtractor;
 import io.opentelemetry.javaagent.instrumentation.apachecamel.decorators.DecoratorRegistry;
 import javax.annotation.Nullable;
 import org.apache.camel.Endpoint;
-import org.apache.camel.util.StringHelper;
 
 public final class CamelSingletons {
 
@@ -82,13 +81,7 @@ public final class CamelSingletons {
   }
 
   public static SpanDecorator getSpanDecorator(Endpoint endpoint) {
-    String component = "";
-    String uri = endpoint.getEndpointUri();
-    String[] splitUri = StringHelper.splitOnCharacter(uri, ":", 2);
-    if (splitUri[1] != null) {
-      component = splitUri[0];
-    }
-    return registry.forComponent(component);
+    return registry.forEndpoint(endpoint);
   }
 
   private CamelSingletons() {}
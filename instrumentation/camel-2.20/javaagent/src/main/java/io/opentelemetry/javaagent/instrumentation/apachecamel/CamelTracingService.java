@@ -37,7 +37,6 @@ public class CamelTracingService extends ServiceSupport
 
   private final CamelContext camelContext;
   private final CamelEventNotifier eventNotifier = new CamelEventNotifier();
-  private final CamelRoutePolicy routePolicy = new CamelRoutePolicy();
 
   public CamelTracingService(CamelContext camelContext) {
     ObjectHelper.notNull(camelContext, "CamelContext", this);
@@ -67,6 +66,6 @@ public class CamelTracingService extends ServiceSupport
   @Override
   public RoutePolicy createRoutePolicy(
       CamelContext camelContext, String routeId, RouteDefinition route) {
-    return routePolicy;
+    return CamelRoutePolicy.forRoute(routeId);
   }
 }
@@ -34,8 +34,6 @@ import java.util.HashMap;
 import java.util.Map;
 import org.apache.camel.Endpoint;
 import org.apache.camel.Exchange;
-import org.apache.camel.util.StringHelper;
-import org.apache.camel.util.URISupport;
 
 /** An abstract base implementation of the {@link SpanDecorator} interface. */
 class BaseSpanDecorator implements SpanDecorator {
@@ -55,16 +53,7 @@ class BaseSpanDecorator implements SpanDecorator {
    * @return The stripped value from the URI
    */
   public static String stripSchemeAndOptions(Endpoint endpoint) {
-    int start = endpoint.getEndpointUri().indexOf(':');
-    start++;
-    // Remove any leading '/'
-    while (endpoint.getEndpointUri().charAt(start) == '/') {
-      start++;
-    }
-    int end = endpoint.getEndpointUri().indexOf('?');
-    return end == -1
-        ? endpoint.getEndpointUri().substring(start)
-        : endpoint.getEndpointUri().substring(start, end);
+    return EndpointInfo.get(endpoint).getStrippedUri();
   }
 
   public static Map<String, String> toQueryParameters(String uri) {
@@ -91,8 +80,7 @@ class BaseSpanDecorator implements SpanDecorator {
   @Override
   public String getOperationName(
       Exchange exchange, Endpoint endpoint, CamelDirection camelDirection) {
-    String[] splitUri = StringHelper.splitOnCharacter(endpoint.getEndpointUri(), ":", 2);
-    return (splitUri.length > 0 ? splitUri[0] : DEFAULT_OPERATION_NAME);
+    return EndpointInfo.get(endpoint).getOperationName();
   }
 
   @Override
@@ -102,7 +90,7 @@ class BaseSpanDecorator implements SpanDecorator {
       Endpoint endpoint,
       CamelDirection camelDirection) {
     if (CAPTURE_EXPERIMENTAL_SPAN_ATTRIBUTES) {
-      attributes.put("camel.uri", URISupport.sanitizeUri(endpoint.getEndpointUri()));
+      attributes.put("camel.uri", EndpointInfo.get(endpoint).getSanitizedUri());
     }
   }
 
@@ -9,6 +9,7 @@ import io.opentelemetry.javaagent.instrumentation.apachecamel.SpanDecorator;
 import io.opentelemetry.semconv.trace.attributes.SemanticAttributes.DbSystemValues;
 import java.util.HashMap;
 import java.util.Map;
+import org.apache.camel.Endpoint;
 
 public class DecoratorRegistry {
 
@@ -61,7 +62,14 @@ public class DecoratorRegistry {
   }
 
   public SpanDecorator forComponent(String component) {
+    return lookup(component);
+  }
+
+  public SpanDecorator forEndpoint(Endpoint endpoint) {
+    return EndpointInfo.get(endpoint).getSpanDecorator();
+  }
 
+  static SpanDecorator lookup(String component) {
     return DECORATORS.getOrDefault(component, DEFAULT);
   }
 }
@@ -0,0 +1,82 @@
+/*
+ * Copyright The OpenTelemetry Authors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package io.opentelemetry.javaagent.instrumentation.apachecamel.decorators;
+
+import io.opentelemetry.instrumentation.api.internal.cache.Cache;
+import io.opentelemetry.javaagent.instrumentation.apachecamel.SpanDecorator;
+import org.apache.camel.Endpoint;
+import org.apache.camel.util.StringHelper;
+import org.apache.camel.util.URISupport;
+
+/**
+ * The decoration metadata derived from the URI of an endpoint. The URI of an endpoint does not
+ * change, so it is parsed once per endpoint instead of once per exchange.
+ */
+final class EndpointInfo {
+
+  // must not reference the endpoint, or the weakly referenced key would never be collected
+  private static final Cache<Endpoint, EndpointInfo> cache = Cache.weak();
+
+  private final String uri;
+  private final SpanDecorator spanDecorator;
+  private final String operationName;
+  // computed lazily, as only some decorators use them
+  private volatile String strippedUri;
+  private volatile String sanitizedUri;
+
+  private EndpointInfo(String uri) {
+    this.uri = uri;
+    String[] splitUri = StringHelper.splitOnCharacter(uri, ":", 2);
+    String component = splitUri[1] != null ? splitUri[0] : "";
+    this.spanDecorator = DecoratorRegistry.lookup(component);
+    this.operationName =
+        splitUri.length > 0 ? splitUri[0] : BaseSpanDecorator.DEFAULT_OPERATION_NAME;
+  }
+
+  static EndpointInfo get(Endpoint endpoint) {
+    return cache.computeIfAbsent(endpoint, e -> new EndpointInfo(e.getEndpointUri()));
+  }
+
+  SpanDecorator getSpanDecorator() {
+    return spanDecorator;
+  }
+
+  /** Returns the scheme of the URI, which is the default operation name. */
+  String getOperationName() {
+    return operationName;
+  }
+
+  /** Returns the URI without the scheme, any leading slash characters and options. */
+  String getStrippedUri() {
+    String result = strippedUri;
+    if (result == null) {
+      result = stripSchemeAndOptions(uri);
+      strippedUri = result;
+    }
+    return result;
+  }
+
+  /** Returns the URI with any secrets in its options masked. */
+  String getSanitizedUri() {
+    String result = sanitizedUri;
+    if (result == null) {
+      result = URISupport.sanitizeUri(uri);
+      sanitizedUri = result;
+    }
+    return result;
+  }
+
+  private static String stripSchemeAndOptions(String uri) {
+    int start = uri.indexOf(':');
+    start++;
+    // Remove any leading '/'
+    while (uri.charAt(start) == '/') {
+      start++;
+    }
+    int end = uri.indexOf('?');
+    return end == -1 ? uri.substring(start) : uri.substring(start, end);
+  }
+}
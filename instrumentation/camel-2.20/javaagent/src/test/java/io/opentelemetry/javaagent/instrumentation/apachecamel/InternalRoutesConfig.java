@@ -0,0 +1,31 @@
+/*
+ * Copyright The OpenTelemetry Authors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package io.opentelemetry.javaagent.instrumentation.apachecamel;
+
+import org.apache.camel.builder.RouteBuilder;
+import org.springframework.boot.SpringBootConfiguration;
+import org.springframework.boot.autoconfigure.EnableAutoConfiguration;
+import org.springframework.context.annotation.Bean;
+
+@SpringBootConfiguration
+@EnableAutoConfiguration
+class InternalRoutesConfig {
+
+  @Bean
+  RouteBuilder routes() {
+    return new RouteBuilder() {
+
+      @Override
+      public void configure() throws Exception {
+        from("direct:receiver").routeId("receiver").setBody(constant("result"));
+
+        from("direct:input").routeId("input").to("direct:receiver");
+
+        from("direct:unsampled").routeId("unsampled").to("direct:receiver");
+      }
+    };
+  }
+}
@@ -0,0 +1,69 @@
+/*
+ * Copyright The OpenTelemetry Authors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package io.opentelemetry.javaagent.instrumentation.apachecamel;
+
+import static io.opentelemetry.api.common.AttributeKey.stringKey;
+import static io.opentelemetry.sdk.testing.assertj.OpenTelemetryAssertions.equalTo;
+
+import io.opentelemetry.api.trace.SpanKind;
+import io.opentelemetry.instrumentation.testing.junit.AgentInstrumentationExtension;
+import io.opentelemetry.instrumentation.testing.junit.InstrumentationExtension;
+import org.apache.camel.CamelContext;
+import org.apache.camel.ProducerTemplate;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.RegisterExtension;
+import org.springframework.boot.SpringApplication;
+import org.springframework.context.ConfigurableApplicationContext;
+
+// runs with internal routes collapsed and the sampling ratio of the "unsampled" route set to 0
+class InternalRoutesTest {
+
+  @RegisterExtension
+  static final InstrumentationExtension testing = AgentInstrumentationExtension.create();
+
+  private static ConfigurableApplicationContext appContext;
+
+  @BeforeAll
+  static void setUp() {
+    appContext = new SpringApplication(InternalRoutesConfig.class).run();
+  }
+
+  @AfterAll
+  static void cleanUp() {
+    appContext.close();
+  }
+
+  @Test
+  void internalRouteIsPartOfCallerSpan() {
+    ProducerTemplate template = appContext.getBean(CamelContext.class).createProducerTemplate();
+
+    template.sendBody("direct:input", "Example request");
+
+    testing.waitAndAssertTraces(
+        trace ->
+            trace.hasSpansSatisfyingExactly(
+                span ->
+                    span.hasName("input")
+                        .hasKind(SpanKind.INTERNAL)
+                        .hasNoParent()
+                        .hasAttributesSatisfyingExactly(
+                            equalTo(stringKey("camel.uri"), "direct://input"))));
+  }
+
+  @Test
+  void unsampledRouteIsNotTraced() {
+    ProducerTemplate template = appContext.getBean(CamelContext.class).createProducerTemplate();
+
+    template.sendBody("direct:unsampled", "Example request");
+    // the only trace is the one of the sampled route
+    template.sendBody("direct:input", "Example request");
+
+    testing.waitAndAssertTraces(
+        trace -> trace.hasSpansSatisfyingExactly(span -> span.hasName("input").hasNoParent()));
+  }
+}
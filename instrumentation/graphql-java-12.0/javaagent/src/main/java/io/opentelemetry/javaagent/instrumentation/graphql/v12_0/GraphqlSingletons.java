@@ -18,10 +18,14 @@ public final class GraphqlSingletons {
   private static final boolean QUERY_SANITIZATION_ENABLED =
       InstrumentationConfig.get()
           .getBoolean("otel.instrumentation.graphql.query-sanitizer.enabled", true);
+  private static final boolean DATA_FETCHER_METRICS_ENABLED =
+      InstrumentationConfig.get()
+          .getBoolean("otel.instrumentation.graphql.experimental-data-fetcher-metrics", false);
 
   private static final GraphQLTelemetry TELEMETRY =
       GraphQLTelemetry.builder(GlobalOpenTelemetry.get())
           .setSanitizeQuery(QUERY_SANITIZATION_ENABLED)
+          .setDataFetcherMetricsEnabled(DATA_FETCHER_METRICS_ENABLED)
           .build();
 
   private GraphqlSingletons() {}
@@ -0,0 +1,103 @@
+/*
+ * Copyright The OpenTelemetry Authors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package io.opentelemetry.instrumentation.graphql.v12_0;
+
+import graphql.execution.ExecutionStepInfo;
+import graphql.schema.GraphQLFieldDefinition;
+import graphql.schema.GraphQLList;
+import graphql.schema.GraphQLNonNull;
+import graphql.schema.GraphQLType;
+import io.opentelemetry.api.OpenTelemetry;
+import io.opentelemetry.api.common.AttributeKey;
+import io.opentelemetry.api.common.Attributes;
+import io.opentelemetry.api.metrics.DoubleHistogram;
+import io.opentelemetry.context.Context;
+import io.opentelemetry.instrumentation.api.internal.cache.Cache;
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.concurrent.TimeUnit;
+import javax.annotation.Nullable;
+
+/**
+ * Records the duration of data fetchers in a histogram, aggregated by the path of the fetched field
+ * without list indices, so that resolving a list of thousands of items adds to a single series per
+ * field instead of creating a span per fetch.
+ *
+ * <p>The attributes of a path are looked up in a tree of the field definitions on the path, from the
+ * fetched field to the root, so that the path only needs to be built the first time it is fetched.
+ */
+final class DataFetcherMetrics {
+  private static final AttributeKey<String> FIELD_PATH =
+      AttributeKey.stringKey("graphql.field.path");
+  private static final double NANOS_PER_MS = TimeUnit.MILLISECONDS.toNanos(1);
+
+  private final DoubleHistogram duration;
+  private final PathNode root = new PathNode();
+
+  DataFetcherMetrics(OpenTelemetry openTelemetry) {
+    duration =
+        openTelemetry
+            .getMeter(GraphQLTelemetry.INSTRUMENTATION_NAME)
+            .histogramBuilder("graphql.data_fetcher.duration")
+            .setUnit("ms")
+            .setDescription("The duration of data fetchers, by the path of the fetched field")
+            .build();
+  }
+
+  void record(ExecutionStepInfo stepInfo, long startNanos, Context context) {
+    double durationMillis = (System.nanoTime() - startNanos) / NANOS_PER_MS;
+    PathNode node = root;
+    for (ExecutionStepInfo info = stepInfo; info != null; info = info.getParent()) {
+      if (isPathElement(info)) {
+        node = node.child(info.getFieldDefinition());
+      }
+    }
+    Attributes attributes = node.attributes;
+    if (attributes == null) {
+      attributes = Attributes.of(FIELD_PATH, fieldPath(stepInfo));
+      node.attributes = attributes;
+    }
+    // recording in the context of the operation span lets exemplars point to it
+    duration.record(durationMillis, attributes, context);
+  }
+
+  // e.g. /books/author/name, where the step of each list item is skipped
+  private static String fieldPath(ExecutionStepInfo stepInfo) {
+    Deque<String> names = new ArrayDeque<>();
+    for (ExecutionStepInfo info = stepInfo; info != null; info = info.getParent()) {
+      if (isPathElement(info)) {
+        names.addFirst(info.getFieldDefinition().getName());
+      }
+    }
+    StringBuilder path = new StringBuilder();
+    for (String name : names) {
+      path.append('/').append(name);
+    }
+    return path.toString();
+  }
+
+  private static boolean isPathElement(ExecutionStepInfo info) {
+    ExecutionStepInfo parent = info.getParent();
+    return info.getFieldDefinition() != null && (parent == null || !isList(parent.getType()));
+  }
+
+  private static boolean isList(GraphQLType type) {
+    if (type instanceof GraphQLNonNull) {
+      type = ((GraphQLNonNull) type).getWrappedType();
+    }
+    return type instanceof GraphQLList;
+  }
+
+  private static final class PathNode {
+    // weak keys, so that the field definitions of a replaced schema are not retained
+    private final Cache<GraphQLFieldDefinition, PathNode> children = Cache.weak();
+    @Nullable private volatile Attributes attributes;
+
+    PathNode child(GraphQLFieldDefinition fieldDefinition) {
+      return children.computeIfAbsent(fieldDefinition, unused -> new PathNode());
+    }
+  }
+}
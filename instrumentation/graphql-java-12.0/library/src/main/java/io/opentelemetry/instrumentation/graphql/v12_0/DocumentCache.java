@@ -0,0 +1,64 @@
+/*
+ * Copyright The OpenTelemetry Authors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package io.opentelemetry.instrumentation.graphql.v12_0;
+
+import io.opentelemetry.instrumentation.api.internal.cache.Cache;
+import java.util.Objects;
+import java.util.function.Supplier;
+import javax.annotation.Nullable;
+
+/**
+ * Caches the printed, and possibly sanitized, document of an operation by the query it was parsed
+ * from and the requested operation name, so that executing the same query again doesn't transform
+ * and print its document again.
+ */
+final class DocumentCache {
+  // passed by graphql-java instead of the query when a persisted query is only sent as its hash, so
+  // it doesn't identify the document
+  private static final String PERSISTED_QUERY_MARKER = "PersistedQueryMarker";
+
+  private final Cache<Key, String> documents =
+      Cache.bounded(1024 * 1024, (key, document) -> 1 + key.query.length() + document.length());
+
+  String getDocument(
+      @Nullable String query, @Nullable String operationName, Supplier<String> printer) {
+    if (query == null || query.isEmpty() || query.equals(PERSISTED_QUERY_MARKER)) {
+      return printer.get();
+    }
+    return documents.computeIfAbsent(new Key(query, operationName), unused -> printer.get());
+  }
+
+  private static final class Key {
+    private final String query;
+    @Nullable private final String operationName;
+    private final int hashCode;
+
+    private Key(String query, @Nullable String operationName) {
+      this.query = query;
+      this.operationName = operationName;
+      this.hashCode = 31 * query.hashCode() + Objects.hashCode(operationName);
+    }
+
+    @Override
+    public boolean equals(@Nullable Object obj) {
+      if (this == obj) {
+        return true;
+      }
+      if (!(obj instanceof Key)) {
+        return false;
+      }
+      Key other = (Key) obj;
+      return hashCode == other.hashCode
+          && query.equals(other.query)
+          && Objects.equals(operationName, other.operationName);
+    }
+
+    @Override
+    public int hashCode() {
+      return hashCode;
+    }
+  }
+}
@@ -13,10 +13,11 @@ import io.opentelemetry.api.trace.StatusCode;
 import io.opentelemetry.instrumentation.api.instrumenter.Instrumenter;
 import io.opentelemetry.instrumentation.api.instrumenter.InstrumenterBuilder;
 import io.opentelemetry.instrumentation.api.instrumenter.SpanStatusExtractor;
+import javax.annotation.Nullable;
 
 @SuppressWarnings("AbbreviationAsWordInName")
 public final class GraphQLTelemetry {
-  private static final String INSTRUMENTATION_NAME = "io.opentelemetry.graphql-java-12.0";
+  static final String INSTRUMENTATION_NAME = "io.opentelemetry.graphql-java-12.0";
 
   /** Returns a new {@link GraphQLTelemetry} configured with the given {@link OpenTelemetry}. */
   public static GraphQLTelemetry create(OpenTelemetry openTelemetry) {
@@ -32,8 +33,11 @@ public final class GraphQLTelemetry {
 
   private final Instrumenter<InstrumentationExecutionParameters, ExecutionResult> instrumenter;
   private final boolean sanitizeQuery;
+  private final DocumentCache documentCache = new DocumentCache();
+  @Nullable private final DataFetcherMetrics dataFetcherMetrics;
 
-  GraphQLTelemetry(OpenTelemetry openTelemetry, boolean sanitizeQuery) {
+  GraphQLTelemetry(
+      OpenTelemetry openTelemetry, boolean sanitizeQuery, boolean dataFetcherMetricsEnabled) {
     InstrumenterBuilder<InstrumentationExecutionParameters, ExecutionResult> builder =
         Instrumenter.<InstrumentationExecutionParameters, ExecutionResult>builder(
                 openTelemetry, INSTRUMENTATION_NAME, ignored -> "GraphQL Operation")
@@ -54,12 +58,15 @@ public final class GraphQLTelemetry {
 
     this.instrumenter = builder.buildInstrumenter();
     this.sanitizeQuery = sanitizeQuery;
+    this.dataFetcherMetrics =
+        dataFetcherMetricsEnabled ? new DataFetcherMetrics(openTelemetry) : null;
   }
 
   /**
    * Returns a new {@link Instrumentation} that generates telemetry for received GraphQL requests.
    */
   public Instrumentation newInstrumentation() {
-    return new OpenTelemetryInstrumentation(instrumenter, sanitizeQuery);
+    return new OpenTelemetryInstrumentation(
+        instrumenter, sanitizeQuery, documentCache, dataFetcherMetrics);
   }
 }
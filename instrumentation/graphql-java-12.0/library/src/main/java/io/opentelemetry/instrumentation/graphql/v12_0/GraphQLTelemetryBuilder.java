@@ -15,6 +15,7 @@ public final class GraphQLTelemetryBuilder {
   private final OpenTelemetry openTelemetry;
 
   private boolean sanitizeQuery = true;
+  private boolean dataFetcherMetricsEnabled = false;
 
   GraphQLTelemetryBuilder(OpenTelemetry openTelemetry) {
     this.openTelemetry = openTelemetry;
@@ -27,11 +28,21 @@ public final class GraphQLTelemetryBuilder {
     return this;
   }
 
+  /**
+   * Sets whether the duration of data fetchers should be recorded in a histogram, aggregated by the
+   * path of the fetched field. Default is {@code false}.
+   */
+  @CanIgnoreReturnValue
+  public GraphQLTelemetryBuilder setDataFetcherMetricsEnabled(boolean dataFetcherMetricsEnabled) {
+    this.dataFetcherMetricsEnabled = dataFetcherMetricsEnabled;
+    return this;
+  }
+
   /**
    * Returns a new {@link GraphQLTelemetry} with the settings of this {@link
    * GraphQLTelemetryBuilder}.
    */
   public GraphQLTelemetry build() {
-    return new GraphQLTelemetry(openTelemetry, sanitizeQuery);
+    return new GraphQLTelemetry(openTelemetry, sanitizeQuery, dataFetcherMetricsEnabled);
   }
 }
@@ -7,6 +7,7 @@ package io.opentelemetry.instrumentation.graphql.v12_0;
 
 import graphql.ExecutionResult;
 import graphql.GraphQLError;
+import graphql.execution.ExecutionStepInfo;
 import graphql.execution.instrumentation.InstrumentationContext;
 import graphql.execution.instrumentation.InstrumentationState;
 import graphql.execution.instrumentation.SimpleInstrumentation;
@@ -38,6 +39,7 @@ import io.opentelemetry.context.Scope;
 import io.opentelemetry.instrumentation.api.instrumenter.Instrumenter;
 import io.opentelemetry.semconv.trace.attributes.SemanticAttributes;
 import java.util.Locale;
+import javax.annotation.Nullable;
 
 final class OpenTelemetryInstrumentation extends SimpleInstrumentation {
   private static final NodeVisitor sanitizingVisitor = new SanitizingVisitor();
@@ -45,12 +47,18 @@ final class OpenTelemetryInstrumentation extends SimpleInstrumentation {
 
   private final Instrumenter<InstrumentationExecutionParameters, ExecutionResult> instrumenter;
   private final boolean sanitizeQuery;
+  private final DocumentCache documentCache;
+  @Nullable private final DataFetcherMetrics dataFetcherMetrics;
 
   OpenTelemetryInstrumentation(
       Instrumenter<InstrumentationExecutionParameters, ExecutionResult> instrumenter,
-      boolean sanitizeQuery) {
+      boolean sanitizeQuery,
+      DocumentCache documentCache,
+      @Nullable DataFetcherMetrics dataFetcherMetrics) {
     this.instrumenter = instrumenter;
     this.sanitizeQuery = sanitizeQuery;
+    this.documentCache = documentCache;
+    this.dataFetcherMetrics = dataFetcherMetrics;
   }
 
   @Override
@@ -70,6 +78,8 @@ final class OpenTelemetryInstrumentation extends SimpleInstrumentation {
     Context context = instrumenter.start(parentContext, parameters);
     OpenTelemetryInstrumentationState state = parameters.getInstrumentationState();
     state.setContext(context);
+    state.setRequestQuery(parameters.getQuery());
+    state.setRequestOperationName(parameters.getOperation());
 
     return SimpleInstrumentationContext.whenCompleted(
         (result, throwable) -> {
@@ -108,11 +118,11 @@ final class OpenTelemetryInstrumentation extends SimpleInstrumentation {
     state.setOperation(operation);
     state.setOperationName(operationName);
 
-    Node<?> node = operationDefinition;
-    if (sanitizeQuery) {
-      node = sanitize(node);
-    }
-    state.setQuery(AstPrinter.printAst(node));
+    state.setQuery(
+        documentCache.getDocument(
+            state.getRequestQuery(),
+            state.getRequestOperationName(),
+            () -> printDocument(operationDefinition)));
 
     return SimpleInstrumentationContext.noOp();
   }
@@ -131,6 +141,31 @@ final class OpenTelemetryInstrumentation extends SimpleInstrumentation {
         };
   }
 
+  @Override
+  public InstrumentationContext<Object> beginFieldFetch(
+      InstrumentationFieldFetchParameters parameters) {
+    DataFetcherMetrics metrics = dataFetcherMetrics;
+    if (metrics == null) {
+      return SimpleInstrumentationContext.noOp();
+    }
+    OpenTelemetryInstrumentationState state = parameters.getInstrumentationState();
+    Context context = state.getContext() != null ? state.getContext() : Context.current();
+    ExecutionStepInfo stepInfo = parameters.getExecutionStepInfo();
+    long startNanos = System.nanoTime();
+
+    // completed when the fetched value is available, also for asynchronous data fetchers
+    return SimpleInstrumentationContext.whenCompleted(
+        (result, throwable) -> metrics.record(stepInfo, startNanos, context));
+  }
+
+  private String printDocument(OperationDefinition operationDefinition) {
+    Node<?> node = operationDefinition;
+    if (sanitizeQuery) {
+      node = sanitize(node);
+    }
+    return AstPrinter.printAst(node);
+  }
+
   private static Node<?> sanitize(Node<?> node) {
     return astTransformer.transform(node, sanitizingVisitor);
   }
@@ -14,6 +14,8 @@ final class OpenTelemetryInstrumentationState implements InstrumentationState {
   private Operation operation;
   private String operationName;
   private String query;
+  private String requestQuery;
+  private String requestOperationName;
 
   Context getContext() {
     return context;
@@ -46,4 +48,20 @@ final class OpenTelemetryInstrumentationState implements InstrumentationState {
   void setQuery(String query) {
     this.query = query;
   }
+
+  String getRequestQuery() {
+    return requestQuery;
+  }
+
+  void setRequestQuery(String requestQuery) {
+    this.requestQuery = requestQuery;
+  }
+
+  String getRequestOperationName() {
+    return requestOperationName;
+  }
+
+  void setRequestOperationName(String requestOperationName) {
+    this.requestOperationName = requestOperationName;
+  }
 }
@@ -0,0 +1,103 @@
+/*
+ * Copyright The OpenTelemetry Authors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package io.opentelemetry.instrumentation.graphql.v12_0;
+
+import static graphql.schema.idl.TypeRuntimeWiring.newTypeWiring;
+import static io.opentelemetry.sdk.testing.assertj.OpenTelemetryAssertions.assertThat;
+import static io.opentelemetry.sdk.testing.assertj.OpenTelemetryAssertions.equalTo;
+
+import graphql.ExecutionResult;
+import graphql.GraphQL;
+import graphql.schema.idl.RuntimeWiring;
+import graphql.schema.idl.SchemaGenerator;
+import graphql.schema.idl.SchemaParser;
+import io.opentelemetry.api.common.AttributeKey;
+import io.opentelemetry.instrumentation.testing.junit.InstrumentationExtension;
+import io.opentelemetry.instrumentation.testing.junit.LibraryInstrumentationExtension;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.RegisterExtension;
+
+class GraphqlDataFetcherMetricsTest {
+
+  @RegisterExtension
+  static final InstrumentationExtension testing = LibraryInstrumentationExtension.create();
+
+  private static final AttributeKey<String> FIELD_PATH =
+      AttributeKey.stringKey("graphql.field.path");
+
+  @Test
+  void recordsDataFetcherDurationsByFieldPath() {
+    List<Map<String, Object>> books = new ArrayList<>();
+    for (int i = 0; i < 3; i++) {
+      Map<String, Object> author = new HashMap<>();
+      author.put("name", "author-" + i);
+      Map<String, Object> book = new HashMap<>();
+      book.put("name", "book-" + i);
+      book.put("author", author);
+      books.add(book);
+    }
+
+    RuntimeWiring wiring =
+        RuntimeWiring.newRuntimeWiring()
+            .type(newTypeWiring("Query").dataFetcher("books", environment -> books))
+            .build();
+    GraphQL graphql =
+        GraphQL.newGraphQL(
+                new SchemaGenerator()
+                    .makeExecutableSchema(
+                        new SchemaParser()
+                            .parse(
+                                "type Query { books: [Book!]! }\n"
+                                    + "type Book { name: String, author: Author }\n"
+                                    + "type Author { name: String }"),
+                        wiring))
+            .instrumentation(
+                GraphQLTelemetry.builder(testing.getOpenTelemetry())
+                    .setDataFetcherMetricsEnabled(true)
+                    .build()
+                    .newInstrumentation())
+            .build();
+
+    ExecutionResult result = graphql.execute("{ books { name author { name } } }");
+
+    assertThat(result.getErrors()).isEmpty();
+    testing.waitAndAssertMetrics(
+        "io.opentelemetry.graphql-java-12.0",
+        "graphql.data_fetcher.duration",
+        metrics ->
+            metrics.anySatisfy(
+                metric ->
+                    assertThat(metric)
+                        .hasUnit("ms")
+                        .hasHistogramSatisfying(
+                            histogram ->
+                                histogram.hasPointsSatisfying(
+                                    point ->
+                                        point
+                                            .hasCount(1)
+                                            .hasAttributesSatisfyingExactly(
+                                                equalTo(FIELD_PATH, "/books")),
+                                    point ->
+                                        point
+                                            .hasCount(3)
+                                            .hasAttributesSatisfyingExactly(
+                                                equalTo(FIELD_PATH, "/books/name")),
+                                    point ->
+                                        point
+                                            .hasCount(3)
+                                            .hasAttributesSatisfyingExactly(
+                                                equalTo(FIELD_PATH, "/books/author")),
+                                    point ->
+                                        point
+                                            .hasCount(3)
+                                            .hasAttributesSatisfyingExactly(
+                                                equalTo(FIELD_PATH, "/books/author/name"))))));
+  }
+}
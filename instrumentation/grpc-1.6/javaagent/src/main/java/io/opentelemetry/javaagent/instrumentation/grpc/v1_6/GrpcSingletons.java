@@ -29,6 +29,12 @@ public final class GrpcSingletons {
     boolean experimentalSpanAttributes =
         InstrumentationConfig.get()
             .getBoolean("otel.instrumentation.grpc.experimental-span-attributes", false);
+    long messageEventLimit =
+        InstrumentationConfig.get()
+            .getLong("otel.instrumentation.grpc.experimental-message-event-limit", Long.MAX_VALUE);
+    boolean emitExperimentalMessageMetrics =
+        InstrumentationConfig.get()
+            .getBoolean("otel.instrumentation.grpc.experimental-message-metrics", false);
 
     List<String> clientRequestMetadata =
         InstrumentationConfig.get()
@@ -40,6 +46,8 @@ public final class GrpcSingletons {
     GrpcTelemetry telemetry =
         GrpcTelemetry.builder(GlobalOpenTelemetry.get())
             .setCaptureExperimentalSpanAttributes(experimentalSpanAttributes)
+            .setMessageEventLimit(messageEventLimit)
+            .setEmitExperimentalMessageMetrics(emitExperimentalMessageMetrics)
             .setCapturedClientRequestMetadata(clientRequestMetadata)
             .setCapturedServerRequestMetadata(serverRequestMetadata)
             .build();
@@ -0,0 +1,71 @@
+/*
+ * Copyright The OpenTelemetry Authors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package io.opentelemetry.instrumentation.grpc.v1_6;
+
+import io.grpc.Status;
+import io.opentelemetry.api.common.Attributes;
+import io.opentelemetry.api.common.AttributesBuilder;
+import io.opentelemetry.api.metrics.LongHistogram;
+import io.opentelemetry.api.metrics.Meter;
+import io.opentelemetry.context.Context;
+import io.opentelemetry.semconv.trace.attributes.SemanticAttributes;
+
+/**
+ * Records the number of messages exchanged per RPC as <a
+ * href="https://github.com/open-telemetry/opentelemetry-specification/blob/main/specification/metrics/semantic_conventions/rpc.md">RPC
+ * metrics</a>. Counts are aggregated on the call and recorded once when it completes, so that
+ * streaming calls do not pay for a metric recording per message.
+ */
+final class GrpcMessageMetrics {
+
+  private final LongHistogram requestsPerRpc;
+  private final LongHistogram responsesPerRpc;
+
+  private GrpcMessageMetrics(Meter meter, String side) {
+    requestsPerRpc =
+        meter
+            .histogramBuilder("rpc." + side + ".requests_per_rpc")
+            .setDescription("Measures the number of request messages per RPC")
+            .setUnit("{count}")
+            .ofLongs()
+            .build();
+    responsesPerRpc =
+        meter
+            .histogramBuilder("rpc." + side + ".responses_per_rpc")
+            .setDescription("Measures the number of response messages per RPC")
+            .setUnit("{count}")
+            .ofLongs()
+            .build();
+  }
+
+  static GrpcMessageMetrics client(Meter meter) {
+    return new GrpcMessageMetrics(meter, "client");
+  }
+
+  static GrpcMessageMetrics server(Meter meter) {
+    return new GrpcMessageMetrics(meter, "server");
+  }
+
+  void record(
+      Context context, GrpcRequest request, Status status, long requests, long responses) {
+    GrpcRpcAttributesGetter getter = GrpcRpcAttributesGetter.INSTANCE;
+    AttributesBuilder builder =
+        Attributes.builder()
+            .put(SemanticAttributes.RPC_SYSTEM, getter.getSystem(request))
+            .put(SemanticAttributes.RPC_GRPC_STATUS_CODE, status.getCode().value());
+    String service = getter.getService(request);
+    if (service != null) {
+      builder.put(SemanticAttributes.RPC_SERVICE, service);
+    }
+    String method = getter.getMethod(request);
+    if (method != null) {
+      builder.put(SemanticAttributes.RPC_METHOD, method);
+    }
+    Attributes attributes = builder.build();
+    requestsPerRpc.record(requests, attributes, context);
+    responsesPerRpc.record(responses, attributes, context);
+  }
+}
@@ -11,6 +11,7 @@ import io.grpc.Status;
 import io.opentelemetry.api.OpenTelemetry;
 import io.opentelemetry.context.propagation.ContextPropagators;
 import io.opentelemetry.instrumentation.api.instrumenter.Instrumenter;
+import javax.annotation.Nullable;
 
 /** Entrypoint for instrumenting gRPC servers or clients. */
 public final class GrpcTelemetry {
@@ -29,16 +30,25 @@ public final class GrpcTelemetry {
   private final Instrumenter<GrpcRequest, Status> clientInstrumenter;
   private final ContextPropagators propagators;
   private final boolean captureExperimentalSpanAttributes;
+  private final long messageEventLimit;
+  @Nullable private final GrpcMessageMetrics clientMessageMetrics;
+  @Nullable private final GrpcMessageMetrics serverMessageMetrics;
 
   GrpcTelemetry(
       Instrumenter<GrpcRequest, Status> serverInstrumenter,
       Instrumenter<GrpcRequest, Status> clientInstrumenter,
       ContextPropagators propagators,
-      boolean captureExperimentalSpanAttributes) {
+      boolean captureExperimentalSpanAttributes,
+      long messageEventLimit,
+      @Nullable GrpcMessageMetrics clientMessageMetrics,
+      @Nullable GrpcMessageMetrics serverMessageMetrics) {
     this.serverInstrumenter = serverInstrumenter;
     this.clientInstrumenter = clientInstrumenter;
     this.propagators = propagators;
     this.captureExperimentalSpanAttributes = captureExperimentalSpanAttributes;
+    this.messageEventLimit = messageEventLimit;
+    this.clientMessageMetrics = clientMessageMetrics;
+    this.serverMessageMetrics = serverMessageMetrics;
   }
 
   /**
@@ -46,7 +56,8 @@ public final class GrpcTelemetry {
    * io.grpc.ManagedChannelBuilder#intercept(ClientInterceptor...)}.
    */
   public ClientInterceptor newClientInterceptor() {
-    return new TracingClientInterceptor(clientInstrumenter, propagators);
+    return new TracingClientInterceptor(
+        clientInstrumenter, propagators, messageEventLimit, clientMessageMetrics);
   }
 
   /**
@@ -54,6 +65,10 @@ public final class GrpcTelemetry {
    * io.grpc.ServerBuilder#intercept(ServerInterceptor)}.
    */
   public ServerInterceptor newServerInterceptor() {
-    return new TracingServerInterceptor(serverInstrumenter, captureExperimentalSpanAttributes);
+    return new TracingServerInterceptor(
+        serverInstrumenter,
+        captureExperimentalSpanAttributes,
+        messageEventLimit,
+        serverMessageMetrics);
   }
 }
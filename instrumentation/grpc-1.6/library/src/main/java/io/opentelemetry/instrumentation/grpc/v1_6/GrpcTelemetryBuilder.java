@@ -8,6 +8,7 @@ package io.opentelemetry.instrumentation.grpc.v1_6;
 import com.google.errorprone.annotations.CanIgnoreReturnValue;
 import io.grpc.Status;
 import io.opentelemetry.api.OpenTelemetry;
+import io.opentelemetry.api.metrics.Meter;
 import io.opentelemetry.instrumentation.api.instrumenter.AttributesExtractor;
 import io.opentelemetry.instrumentation.api.instrumenter.Instrumenter;
 import io.opentelemetry.instrumentation.api.instrumenter.InstrumenterBuilder;
@@ -53,6 +54,8 @@ public final class GrpcTelemetryBuilder {
       additionalServerExtractors = new ArrayList<>();
 
   private boolean captureExperimentalSpanAttributes;
+  private long messageEventLimit = Long.MAX_VALUE;
+  private boolean emitExperimentalMessageMetrics;
   private List<String> capturedClientRequestMetadata = Collections.emptyList();
   private List<String> capturedServerRequestMetadata = Collections.emptyList();
 
@@ -132,6 +135,33 @@ public final class GrpcTelemetryBuilder {
     return this;
   }
 
+  /**
+   * Sets the maximum number of {@code message} events recorded on a single client or server span.
+   * Messages exchanged after the limit has been reached are not recorded as span events, which
+   * keeps the spans of long-lived streaming calls bounded. By default, all messages are recorded.
+   */
+  @CanIgnoreReturnValue
+  public GrpcTelemetryBuilder setMessageEventLimit(long messageEventLimit) {
+    this.messageEventLimit = messageEventLimit;
+    return this;
+  }
+
+  /**
+   * Configures the instrumentation to emit the experimental {@code rpc.client.requests_per_rpc},
+   * {@code rpc.client.responses_per_rpc}, {@code rpc.server.requests_per_rpc} and {@code
+   * rpc.server.responses_per_rpc} metrics. Message counts are aggregated on the call and recorded
+   * once when the call completes.
+   *
+   * @param emitExperimentalMessageMetrics {@code true} if the experimental message metrics are to
+   *     be emitted.
+   */
+  @CanIgnoreReturnValue
+  public GrpcTelemetryBuilder setEmitExperimentalMessageMetrics(
+      boolean emitExperimentalMessageMetrics) {
+    this.emitExperimentalMessageMetrics = emitExperimentalMessageMetrics;
+    return this;
+  }
+
   /** Sets which metadata request values should be captured as span attributes on client spans. */
   @CanIgnoreReturnValue
   public GrpcTelemetryBuilder setCapturedClientRequestMetadata(
@@ -200,12 +230,23 @@ public final class GrpcTelemetryBuilder {
           AttributesExtractor.constant(SemanticAttributes.PEER_SERVICE, peerService));
     }
 
+    GrpcMessageMetrics clientMessageMetrics = null;
+    GrpcMessageMetrics serverMessageMetrics = null;
+    if (emitExperimentalMessageMetrics) {
+      Meter meter = openTelemetry.getMeterProvider().get(INSTRUMENTATION_NAME);
+      clientMessageMetrics = GrpcMessageMetrics.client(meter);
+      serverMessageMetrics = GrpcMessageMetrics.server(meter);
+    }
+
     return new GrpcTelemetry(
         serverInstrumenterBuilder.buildServerInstrumenter(GrpcRequestGetter.INSTANCE),
         // gRPC client interceptors require two phases, one to set up request and one to execute.
         // So we go ahead and inject manually in this instrumentation.
         clientInstrumenterBuilder.buildInstrumenter(SpanKindExtractor.alwaysClient()),
         openTelemetry.getPropagators(),
-        captureExperimentalSpanAttributes);
+        captureExperimentalSpanAttributes,
+        messageEventLimit,
+        clientMessageMetrics,
+        serverMessageMetrics);
   }
 }
@@ -22,6 +22,7 @@ import io.opentelemetry.context.Scope;
 import io.opentelemetry.context.propagation.ContextPropagators;
 import io.opentelemetry.instrumentation.api.instrumenter.Instrumenter;
 import java.util.concurrent.atomic.AtomicLongFieldUpdater;
+import javax.annotation.Nullable;
 
 final class TracingClientInterceptor implements ClientInterceptor {
 
@@ -29,13 +30,24 @@ final class TracingClientInterceptor implements ClientInterceptor {
   private static final AtomicLongFieldUpdater<TracingClientCall> MESSAGE_ID_UPDATER =
       AtomicLongFieldUpdater.newUpdater(TracingClientCall.class, "messageId");
 
+  @SuppressWarnings("rawtypes")
+  private static final AtomicLongFieldUpdater<TracingClientCall> SENT_MESSAGE_COUNT_UPDATER =
+      AtomicLongFieldUpdater.newUpdater(TracingClientCall.class, "sentMessageCount");
+
   private final Instrumenter<GrpcRequest, Status> instrumenter;
   private final ContextPropagators propagators;
+  private final long messageEventLimit;
+  @Nullable private final GrpcMessageMetrics messageMetrics;
 
   TracingClientInterceptor(
-      Instrumenter<GrpcRequest, Status> instrumenter, ContextPropagators propagators) {
+      Instrumenter<GrpcRequest, Status> instrumenter,
+      ContextPropagators propagators,
+      long messageEventLimit,
+      @Nullable GrpcMessageMetrics messageMetrics) {
     this.instrumenter = instrumenter;
     this.propagators = propagators;
+    this.messageEventLimit = messageEventLimit;
+    this.messageMetrics = messageMetrics;
   }
 
   @Override
@@ -73,6 +85,10 @@ final class TracingClientInterceptor implements ClientInterceptor {
     @SuppressWarnings("UnusedVariable")
     volatile long messageId;
 
+    // Used by SENT_MESSAGE_COUNT_UPDATER
+    @SuppressWarnings("UnusedVariable")
+    volatile long sentMessageCount;
+
     TracingClientCall(
         ClientCall<REQUEST, RESPONSE> delegate,
         Context parentContext,
@@ -107,14 +123,16 @@ final class TracingClientInterceptor implements ClientInterceptor {
         instrumenter.end(context, request, Status.UNKNOWN, e);
         throw e;
       }
-      Span span = Span.fromContext(context);
-      Attributes attributes =
-          Attributes.of(
-              GrpcHelper.MESSAGE_TYPE,
-              "SENT",
-              GrpcHelper.MESSAGE_ID,
-              MESSAGE_ID_UPDATER.incrementAndGet(this));
-      span.addEvent("message", attributes);
+      if (messageMetrics != null) {
+        SENT_MESSAGE_COUNT_UPDATER.incrementAndGet(this);
+      }
+      long messageId = MESSAGE_ID_UPDATER.incrementAndGet(this);
+      if (messageId <= messageEventLimit) {
+        Span span = Span.fromContext(context);
+        Attributes attributes =
+            Attributes.of(GrpcHelper.MESSAGE_TYPE, "SENT", GrpcHelper.MESSAGE_ID, messageId);
+        span.addEvent("message", attributes);
+      }
     }
 
     final class TracingClientCallListener
@@ -137,14 +155,13 @@ final class TracingClientInterceptor implements ClientInterceptor {
 
       @Override
       public void onMessage(RESPONSE message) {
-        Span span = Span.fromContext(context);
-        Attributes attributes =
-            Attributes.of(
-                GrpcHelper.MESSAGE_TYPE,
-                "RECEIVED",
-                GrpcHelper.MESSAGE_ID,
-                MESSAGE_ID_UPDATER.incrementAndGet(TracingClientCall.this));
-        span.addEvent("message", attributes);
+        long messageId = MESSAGE_ID_UPDATER.incrementAndGet(TracingClientCall.this);
+        if (messageId <= messageEventLimit) {
+          Span span = Span.fromContext(context);
+          Attributes attributes =
+              Attributes.of(GrpcHelper.MESSAGE_TYPE, "RECEIVED", GrpcHelper.MESSAGE_ID, messageId);
+          span.addEvent("message", attributes);
+        }
         try (Scope ignored = context.makeCurrent()) {
           delegate().onMessage(message);
         }
@@ -154,6 +171,11 @@ final class TracingClientInterceptor implements ClientInterceptor {
       public void onClose(Status status, Metadata trailers) {
         request.setPeerSocketAddress(getAttributes().get(Grpc.TRANSPORT_ATTR_REMOTE_ADDR));
         instrumenter.end(context, request, status, status.getCause());
+        if (messageMetrics != null) {
+          // every message increments the message id, so the received count is the remainder
+          long sent = sentMessageCount;
+          messageMetrics.record(context, request, status, sent, messageId - sent);
+        }
         try (Scope ignored = parentContext.makeCurrent()) {
           delegate().onClose(status, trailers);
         }
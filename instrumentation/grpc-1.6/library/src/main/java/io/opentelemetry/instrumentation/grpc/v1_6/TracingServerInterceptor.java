@@ -20,6 +20,7 @@ import io.opentelemetry.context.Context;
 import io.opentelemetry.context.Scope;
 import io.opentelemetry.instrumentation.api.instrumenter.Instrumenter;
 import java.util.concurrent.atomic.AtomicLongFieldUpdater;
+import javax.annotation.Nullable;
 
 final class TracingServerInterceptor implements ServerInterceptor {
 
@@ -27,13 +28,24 @@ final class TracingServerInterceptor implements ServerInterceptor {
   private static final AtomicLongFieldUpdater<TracingServerCall> MESSAGE_ID_UPDATER =
       AtomicLongFieldUpdater.newUpdater(TracingServerCall.class, "messageId");
 
+  @SuppressWarnings("rawtypes")
+  private static final AtomicLongFieldUpdater<TracingServerCall> SENT_MESSAGE_COUNT_UPDATER =
+      AtomicLongFieldUpdater.newUpdater(TracingServerCall.class, "sentMessageCount");
+
   private final Instrumenter<GrpcRequest, Status> instrumenter;
   private final boolean captureExperimentalSpanAttributes;
+  private final long messageEventLimit;
+  @Nullable private final GrpcMessageMetrics messageMetrics;
 
   TracingServerInterceptor(
-      Instrumenter<GrpcRequest, Status> instrumenter, boolean captureExperimentalSpanAttributes) {
+      Instrumenter<GrpcRequest, Status> instrumenter,
+      boolean captureExperimentalSpanAttributes,
+      long messageEventLimit,
+      @Nullable GrpcMessageMetrics messageMetrics) {
     this.instrumenter = instrumenter;
     this.captureExperimentalSpanAttributes = captureExperimentalSpanAttributes;
+    this.messageEventLimit = messageEventLimit;
+    this.messageMetrics = messageMetrics;
   }
 
   @Override
@@ -71,6 +83,10 @@ final class TracingServerInterceptor implements ServerInterceptor {
     @SuppressWarnings("UnusedVariable")
     volatile long messageId;
 
+    // Used by SENT_MESSAGE_COUNT_UPDATER
+    @SuppressWarnings("UnusedVariable")
+    volatile long sentMessageCount;
+
     TracingServerCall(
         ServerCall<REQUEST, RESPONSE> delegate, Context context, GrpcRequest request) {
       super(delegate);
@@ -88,14 +104,16 @@ final class TracingServerInterceptor implements ServerInterceptor {
       try (Scope ignored = context.makeCurrent()) {
         super.sendMessage(message);
       }
-      Span span = Span.fromContext(context);
-      Attributes attributes =
-          Attributes.of(
-              GrpcHelper.MESSAGE_TYPE,
-              "SENT",
-              GrpcHelper.MESSAGE_ID,
-              MESSAGE_ID_UPDATER.incrementAndGet(this));
-      span.addEvent("message", attributes);
+      if (messageMetrics != null) {
+        SENT_MESSAGE_COUNT_UPDATER.incrementAndGet(this);
+      }
+      long messageId = MESSAGE_ID_UPDATER.incrementAndGet(this);
+      if (messageId <= messageEventLimit) {
+        Span span = Span.fromContext(context);
+        Attributes attributes =
+            Attributes.of(GrpcHelper.MESSAGE_TYPE, "SENT", GrpcHelper.MESSAGE_ID, messageId);
+        span.addEvent("message", attributes);
+      }
     }
 
     @Override
@@ -107,6 +125,15 @@ final class TracingServerInterceptor implements ServerInterceptor {
         throw e;
       }
       instrumenter.end(context, request, status, status.getCause());
+      recordMessageMetrics(status);
+    }
+
+    private void recordMessageMetrics(Status status) {
+      if (messageMetrics != null) {
+        // every message increments the message id, so the received count is the remainder
+        long sent = sentMessageCount;
+        messageMetrics.record(context, request, status, messageId - sent, sent);
+      }
     }
 
     final class TracingServerCallListener
@@ -123,13 +150,12 @@ final class TracingServerInterceptor implements ServerInterceptor {
       @Override
       public void onMessage(REQUEST message) {
         // TODO(anuraaga): Restore
-        Attributes attributes =
-            Attributes.of(
-                GrpcHelper.MESSAGE_TYPE,
-                "RECEIVED",
-                GrpcHelper.MESSAGE_ID,
-                MESSAGE_ID_UPDATER.incrementAndGet(TracingServerCall.this));
-        Span.fromContext(context).addEvent("message", attributes);
+        long messageId = MESSAGE_ID_UPDATER.incrementAndGet(TracingServerCall.this);
+        if (messageId <= messageEventLimit) {
+          Attributes attributes =
+              Attributes.of(GrpcHelper.MESSAGE_TYPE, "RECEIVED", GrpcHelper.MESSAGE_ID, messageId);
+          Span.fromContext(context).addEvent("message", attributes);
+        }
         delegate().onMessage(message);
       }
 
@@ -155,6 +181,7 @@ final class TracingServerInterceptor implements ServerInterceptor {
           throw e;
         }
         instrumenter.end(context, request, Status.CANCELLED, null);
+        recordMessageMetrics(Status.CANCELLED);
       }
 
       @Override
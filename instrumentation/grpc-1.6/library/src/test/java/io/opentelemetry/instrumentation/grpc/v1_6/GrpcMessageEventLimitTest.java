@@ -0,0 +1,152 @@
+/*
+ * Copyright The OpenTelemetry Authors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package io.opentelemetry.instrumentation.grpc.v1_6;
+
+import static io.opentelemetry.sdk.testing.assertj.OpenTelemetryAssertions.assertThat;
+import static io.opentelemetry.sdk.testing.assertj.OpenTelemetryAssertions.equalTo;
+
+import example.GreeterGrpc;
+import example.Helloworld;
+import io.grpc.BindableService;
+import io.grpc.ManagedChannel;
+import io.grpc.ManagedChannelBuilder;
+import io.grpc.Server;
+import io.grpc.ServerBuilder;
+import io.grpc.stub.StreamObserver;
+import io.opentelemetry.api.trace.SpanKind;
+import io.opentelemetry.instrumentation.testing.junit.InstrumentationExtension;
+import io.opentelemetry.instrumentation.testing.junit.LibraryInstrumentationExtension;
+import io.opentelemetry.semconv.trace.attributes.SemanticAttributes;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.RegisterExtension;
+
+class GrpcMessageEventLimitTest {
+
+  private static final int CLIENT_MESSAGE_COUNT = 5;
+
+  @RegisterExtension
+  static final InstrumentationExtension testing = LibraryInstrumentationExtension.create();
+
+  @Test
+  void limitsMessageEventsAndRecordsMessageCounts() throws Exception {
+    CountDownLatch latch = new CountDownLatch(2);
+
+    BindableService greeter =
+        new GreeterGrpc.GreeterImplBase() {
+          @Override
+          public StreamObserver<Helloworld.Response> conversation(
+              StreamObserver<Helloworld.Response> observer) {
+            return new StreamObserver<Helloworld.Response>() {
+              @Override
+              public void onNext(Helloworld.Response value) {
+                observer.onNext(value);
+              }
+
+              @Override
+              public void onError(Throwable t) {
+                observer.onError(t);
+              }
+
+              @Override
+              public void onCompleted() {
+                observer.onCompleted();
+                latch.countDown();
+              }
+            };
+          }
+        };
+
+    GrpcTelemetry telemetry =
+        GrpcTelemetry.builder(testing.getOpenTelemetry())
+            .setMessageEventLimit(2)
+            .setEmitExperimentalMessageMetrics(true)
+            .build();
+
+    Server server =
+        ServerBuilder.forPort(0)
+            .addService(greeter)
+            .intercept(telemetry.newServerInterceptor())
+            .build()
+            .start();
+    ManagedChannel channel =
+        AbstractGrpcStreamingTest.createChannel(
+            ManagedChannelBuilder.forAddress("localhost", server.getPort())
+                .intercept(telemetry.newClientInterceptor()));
+
+    try {
+      StreamObserver<Helloworld.Response> requests =
+          GreeterGrpc.newStub(channel)
+              .withWaitForReady()
+              .conversation(
+                  new StreamObserver<Helloworld.Response>() {
+                    @Override
+                    public void onNext(Helloworld.Response value) {}
+
+                    @Override
+                    public void onError(Throwable t) {}
+
+                    @Override
+                    public void onCompleted() {
+                      latch.countDown();
+                    }
+                  });
+      for (int i = 1; i <= CLIENT_MESSAGE_COUNT; i++) {
+        requests.onNext(Helloworld.Response.newBuilder().setMessage("call " + i).build());
+      }
+      requests.onCompleted();
+
+      assertThat(latch.await(10, TimeUnit.SECONDS)).isTrue();
+    } finally {
+      channel.shutdownNow().awaitTermination(10, TimeUnit.SECONDS);
+      server.shutdownNow().awaitTermination();
+    }
+
+    testing.waitAndAssertTraces(
+        trace ->
+            trace.hasSpansSatisfyingExactly(
+                span ->
+                    span.hasName("example.Greeter/Conversation")
+                        .hasKind(SpanKind.CLIENT)
+                        .hasNoParent()
+                        .satisfies(spanData -> assertThat(spanData.getEvents()).hasSize(2)),
+                span ->
+                    span.hasName("example.Greeter/Conversation")
+                        .hasKind(SpanKind.SERVER)
+                        .hasParent(trace.getSpan(0))
+                        .satisfies(spanData -> assertThat(spanData.getEvents()).hasSize(2))));
+
+    testing.waitAndAssertMetrics(
+        "io.opentelemetry.grpc-1.6",
+        "rpc.client.requests_per_rpc",
+        metrics ->
+            metrics.anySatisfy(
+                metric ->
+                    assertThat(metric)
+                        .hasHistogramSatisfying(
+                            histogram ->
+                                histogram.hasPointsSatisfying(
+                                    point ->
+                                        point
+                                            .hasSum(CLIENT_MESSAGE_COUNT)
+                                            .hasAttributesSatisfying(
+                                                equalTo(
+                                                    SemanticAttributes.RPC_METHOD,
+                                                    "Conversation"))))));
+    testing.waitAndAssertMetrics(
+        "io.opentelemetry.grpc-1.6",
+        "rpc.server.responses_per_rpc",
+        metrics ->
+            metrics.anySatisfy(
+                metric ->
+                    assertThat(metric)
+                        .hasHistogramSatisfying(
+                            histogram ->
+                                histogram.hasPointsSatisfying(
+                                    point -> point.hasSum(CLIENT_MESSAGE_COUNT)))));
+  }
+}
@@ -55,3 +55,23 @@ tasks.withType<Test>().configureEach {
   jvmArgs("--add-opens=java.base/java.lang=ALL-UNNAMED")
   jvmArgs("-XX:+IgnoreUnrecognizedVMOptions")
 }
+
+tasks {
+  val testAggregateSessionOperations by registering(Test::class) {
+    filter {
+      includeTestsMatching("AggregateSessionOperationsTest")
+    }
+    include("**/AggregateSessionOperationsTest.*")
+    jvmArgs("-Dotel.instrumentation.hibernate.experimental-aggregate-session-operations=true")
+  }
+
+  test {
+    filter {
+      excludeTestsMatching("AggregateSessionOperationsTest")
+    }
+  }
+
+  check {
+    dependsOn(testAggregateSessionOperations)
+  }
+}
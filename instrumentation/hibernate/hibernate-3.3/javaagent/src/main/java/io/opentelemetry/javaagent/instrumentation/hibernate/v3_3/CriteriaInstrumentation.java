@@ -71,6 +71,10 @@ public class CriteriaInstrumentation implements TypeInstrumentation {
       VirtualField<Criteria, SessionInfo> criteriaVirtualField =
           VirtualField.find(Criteria.class, SessionInfo.class);
       SessionInfo sessionInfo = criteriaVirtualField.get(criteria);
+      if (sessionInfo != null) {
+        // aggregated operations of the session end before the criteria is run
+        sessionInfo.endPendingOperations();
+      }
 
       Context parentContext = Java8BytecodeBridge.currentContext();
       hibernateOperation = new HibernateOperation("Criteria." + name, entityName, sessionInfo);
@@ -83,7 +83,24 @@ tasks.withType<Test>().configureEach {
 }
 
 tasks {
+  val testAggregateSessionOperations by registering(Test::class) {
+    filter {
+      includeTestsMatching("AggregateSessionOperationsTest")
+    }
+    include("**/AggregateSessionOperationsTest.*")
+    jvmArgs("-Dotel.instrumentation.hibernate.experimental-aggregate-session-operations=true")
+  }
+
+  withType<Test>().configureEach {
+    if (name != testAggregateSessionOperations.name) {
+      filter {
+        excludeTestsMatching("AggregateSessionOperationsTest")
+      }
+    }
+  }
+
   check {
     dependsOn(testing.suites)
+    dependsOn(testAggregateSessionOperations)
   }
 }
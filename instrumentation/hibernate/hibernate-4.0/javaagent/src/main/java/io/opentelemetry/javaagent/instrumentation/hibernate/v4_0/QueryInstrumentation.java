@@ -65,6 +65,10 @@ public class QueryInstrumentation implements TypeInstrumentation {
       VirtualField<Query, SessionInfo> queryVirtualField =
           VirtualField.find(Query.class, SessionInfo.class);
       SessionInfo sessionInfo = queryVirtualField.get(query);
+      if (sessionInfo != null) {
+        // aggregated operations of the session end before the query is run
+        sessionInfo.endPendingOperations();
+      }
 
       Context parentContext = Java8BytecodeBridge.currentContext();
       hibernateOperation =
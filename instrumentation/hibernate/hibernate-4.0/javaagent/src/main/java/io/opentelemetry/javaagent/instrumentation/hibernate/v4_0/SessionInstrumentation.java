@@ -16,6 +16,7 @@ import static net.bytebuddy.matcher.ElementMatchers.named;
 import static net.bytebuddy.matcher.ElementMatchers.namedOneOf;
 import static net.bytebuddy.matcher.ElementMatchers.returns;
 import static net.bytebuddy.matcher.ElementMatchers.takesArgument;
+import static net.bytebuddy.matcher.ElementMatchers.takesArguments;
 
 import io.opentelemetry.context.Context;
 import io.opentelemetry.context.Scope;
@@ -83,6 +84,11 @@ public class SessionInstrumentation implements TypeInstrumentation {
             .and(returns(named("org.hibernate.Transaction"))),
         SessionInstrumentation.class.getName() + "$GetTransactionAdvice");
 
+    // Runs of aggregated session operations are reported when the session is closed.
+    transformer.applyAdviceToMethod(
+        isMethod().and(named("close")).and(takesArguments(0)),
+        SessionInstrumentation.class.getName() + "$SessionCloseAdvice");
+
     transformer.applyAdviceToMethod(
         isMethod().and(returns(implementsInterface(named("org.hibernate.Query")))),
         SessionInstrumentation.class.getName() + "$GetQueryAdvice");
@@ -104,6 +110,7 @@ public class SessionInstrumentation implements TypeInstrumentation {
         @Advice.Argument(value = 1, optional = true) Object arg1,
         @Advice.Local("otelCallDepth") CallDepth callDepth,
         @Advice.Local("otelHibernateOperation") HibernateOperation hibernateOperation,
+        @Advice.Local("otelAggregatingSessionInfo") SessionInfo aggregatingSessionInfo,
         @Advice.Local("otelContext") Context context,
         @Advice.Local("otelScope") Scope scope) {
 
@@ -121,6 +128,14 @@ public class SessionInstrumentation implements TypeInstrumentation {
           getEntityName(descriptor, arg0, arg1, EntityNameUtil.bestGuessEntityName(session));
       hibernateOperation =
           new HibernateOperation(getSessionMethodOperationName(name), entityName, sessionInfo);
+      if (sessionInfo != null) {
+        context = sessionInfo.aggregate(instrumenter(), parentContext, hibernateOperation);
+        if (context != null) {
+          aggregatingSessionInfo = sessionInfo;
+          scope = context.makeCurrent();
+          return;
+        }
+      }
       if (!instrumenter().shouldStart(parentContext, hibernateOperation)) {
         return;
       }
@@ -134,6 +149,7 @@ public class SessionInstrumentation implements TypeInstrumentation {
         @Advice.Thrown Throwable throwable,
         @Advice.Local("otelCallDepth") CallDepth callDepth,
         @Advice.Local("otelHibernateOperation") HibernateOperation hibernateOperation,
+        @Advice.Local("otelAggregatingSessionInfo") SessionInfo aggregatingSessionInfo,
         @Advice.Local("otelContext") Context context,
         @Advice.Local("otelScope") Scope scope) {
 
@@ -143,7 +159,25 @@ public class SessionInstrumentation implements TypeInstrumentation {
 
       if (scope != null) {
         scope.close();
-        instrumenter().end(context, hibernateOperation, null, throwable);
+        if (aggregatingSessionInfo != null) {
+          aggregatingSessionInfo.endAggregatedOperation(throwable);
+        } else {
+          instrumenter().end(context, hibernateOperation, null, throwable);
+        }
+      }
+    }
+  }
+
+  @SuppressWarnings("unused")
+  public static class SessionCloseAdvice {
+
+    @Advice.OnMethodEnter(suppress = Throwable.class)
+    public static void close(@Advice.This SharedSessionContract session) {
+      VirtualField<SharedSessionContract, SessionInfo> virtualField =
+          VirtualField.find(SharedSessionContract.class, SessionInfo.class);
+      SessionInfo sessionInfo = virtualField.get(session);
+      if (sessionInfo != null) {
+        sessionInfo.endPendingOperations();
       }
     }
   }
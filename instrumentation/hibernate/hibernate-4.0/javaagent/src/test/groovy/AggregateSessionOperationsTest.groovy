@@ -0,0 +1,107 @@
+/*
+ * Copyright The OpenTelemetry Authors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+import org.hibernate.Session
+
+import static io.opentelemetry.api.trace.SpanKind.CLIENT
+import static io.opentelemetry.api.trace.SpanKind.INTERNAL
+
+// runs with otel.instrumentation.hibernate.experimental-aggregate-session-operations=true
+class AggregateSessionOperationsTest extends AbstractHibernateTest {
+
+  def "repeated operations are reported as one span"() {
+    setup:
+    runWithSpan("parent") {
+      Session session = sessionFactory.openSession()
+      session.beginTransaction()
+      for (int i = 0; i < 3; i++) {
+        session.refresh(prepopulated.get(0))
+      }
+      session.createQuery("from Value").list()
+      session.getTransaction().commit()
+      session.close()
+    }
+
+    expect:
+    assertTraces(1) {
+      trace(0, 8) {
+        span(0) {
+          name "parent"
+          kind INTERNAL
+          hasNoParent()
+        }
+        span(1) {
+          name "Session.refresh Value"
+          kind INTERNAL
+          childOf span(0)
+          attributes {
+            "hibernate.session_id" String
+            "hibernate.operation_count" 3L
+          }
+        }
+        for (int i = 2; i < 5; i++) {
+          span(i) {
+            name "SELECT db1.Value"
+            kind CLIENT
+            // the statements of the aggregated operations are children of their span
+            childOf span(1)
+          }
+        }
+        span(5) {
+          name "SELECT Value"
+          kind INTERNAL
+          childOf span(0)
+        }
+        span(6) {
+          name "SELECT db1.Value"
+          kind CLIENT
+          childOf span(5)
+        }
+        span(7) {
+          name "Transaction.commit"
+          kind INTERNAL
+          childOf span(0)
+        }
+      }
+      // the run of operations ends before the query starts
+      assert traces[0][1].endEpochNanos <= traces[0][5].startEpochNanos
+    }
+  }
+
+  def "rollback ends the pending operations"() {
+    setup:
+    Session session = sessionFactory.openSession()
+    runWithSpan("parent") {
+      session.beginTransaction()
+      session.save(new Value("Rolled back 1"))
+      session.save(new Value("Rolled back 2"))
+      session.getTransaction().rollback()
+    }
+
+    expect:
+    // the session is still open, so the operations can only be reported because of the rollback
+    assertTraces(1) {
+      trace(0, 2) {
+        span(0) {
+          name "parent"
+          kind INTERNAL
+          hasNoParent()
+        }
+        span(1) {
+          name "Session.save Value"
+          kind INTERNAL
+          childOf span(0)
+          attributes {
+            "hibernate.session_id" String
+            "hibernate.operation_count" 2L
+          }
+        }
+      }
+    }
+
+    cleanup:
+    session.close()
+  }
+}
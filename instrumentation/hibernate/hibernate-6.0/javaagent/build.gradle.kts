@@ -39,3 +39,23 @@ tasks.withType<Test>().configureEach {
   // TODO run tests both with and without experimental span attributes
   jvmArgs("-Dotel.instrumentation.hibernate.experimental-span-attributes=true")
 }
+
+tasks {
+  val testAggregateSessionOperations by registering(Test::class) {
+    filter {
+      includeTestsMatching("AggregateSessionOperationsTest")
+    }
+    include("**/AggregateSessionOperationsTest.*")
+    jvmArgs("-Dotel.instrumentation.hibernate.experimental-aggregate-session-operations=true")
+  }
+
+  test {
+    filter {
+      excludeTestsMatching("AggregateSessionOperationsTest")
+    }
+  }
+
+  check {
+    dependsOn(testAggregateSessionOperations)
+  }
+}
@@ -91,6 +91,10 @@ public class QueryInstrumentation implements TypeInstrumentation {
       VirtualField<CommonQueryContract, SessionInfo> queryVirtualField =
           VirtualField.find(CommonQueryContract.class, SessionInfo.class);
       SessionInfo sessionInfo = queryVirtualField.get(query);
+      if (sessionInfo != null) {
+        // aggregated operations of the session end before the query is run
+        sessionInfo.endPendingOperations();
+      }
 
       Context parentContext = Java8BytecodeBridge.currentContext();
       hibernateOperation =
@@ -43,6 +43,9 @@ public class TransactionInstrumentation implements TypeInstrumentation {
     transformer.applyAdviceToMethod(
         isMethod().and(named("commit")).and(takesArguments(0)),
         TransactionInstrumentation.class.getName() + "$TransactionCommitAdvice");
+    transformer.applyAdviceToMethod(
+        isMethod().and(named("rollback")).and(takesArguments(0)),
+        TransactionInstrumentation.class.getName() + "$TransactionRollbackAdvice");
   }
 
   @SuppressWarnings("unused")
@@ -64,6 +67,10 @@ public class TransactionInstrumentation implements TypeInstrumentation {
       VirtualField<Transaction, SessionInfo> transactionVirtualField =
           VirtualField.find(Transaction.class, SessionInfo.class);
       SessionInfo sessionInfo = transactionVirtualField.get(transaction);
+      if (sessionInfo != null) {
+        // aggregated operations of the transaction end before it is committed
+        sessionInfo.endPendingOperations();
+      }
 
       Context parentContext = Java8BytecodeBridge.currentContext();
       hibernateOperation = new HibernateOperation("Transaction.commit", sessionInfo);
@@ -93,4 +100,19 @@ public class TransactionInstrumentation implements TypeInstrumentation {
       }
     }
   }
+
+  @SuppressWarnings("unused")
+  public static class TransactionRollbackAdvice {
+
+    @Advice.OnMethodEnter(suppress = Throwable.class)
+    public static void startRollback(@Advice.This Transaction transaction) {
+      VirtualField<Transaction, SessionInfo> transactionVirtualField =
+          VirtualField.find(Transaction.class, SessionInfo.class);
+      SessionInfo sessionInfo = transactionVirtualField.get(transaction);
+      if (sessionInfo != null) {
+        // aggregated operations of the transaction end before it is rolled back
+        sessionInfo.endPendingOperations();
+      }
+    }
+  }
 }
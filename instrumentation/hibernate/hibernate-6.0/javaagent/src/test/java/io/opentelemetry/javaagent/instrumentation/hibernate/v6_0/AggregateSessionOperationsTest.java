@@ -0,0 +1,94 @@
+/*
+ * Copyright The OpenTelemetry Authors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package io.opentelemetry.javaagent.instrumentation.hibernate.v6_0;
+
+import static io.opentelemetry.sdk.testing.assertj.OpenTelemetryAssertions.assertThat;
+import static java.util.stream.Collectors.toList;
+
+import io.opentelemetry.api.common.AttributeKey;
+import io.opentelemetry.api.trace.SpanKind;
+import io.opentelemetry.sdk.trace.data.SpanData;
+import java.util.List;
+import org.hibernate.Session;
+import org.junit.jupiter.api.Test;
+
+// runs with otel.instrumentation.hibernate.experimental-aggregate-session-operations=true
+class AggregateSessionOperationsTest extends AbstractHibernateTest {
+
+  @Test
+  void repeatedOperationsAreReportedAsOneSpan() {
+    testing.runWithSpan(
+        "parent",
+        () -> {
+          Session session = sessionFactory.openSession();
+          session.beginTransaction();
+          for (int i = 0; i < 3; i++) {
+            session.persist(new Value("aggregated " + i));
+          }
+          session.merge(prepopulated.get(0));
+          session.getTransaction().commit();
+          session.close();
+        });
+
+    List<SpanData> spans = testing.waitForTraces(1).get(0);
+    SpanData parent = findSpans(spans, "parent").get(0);
+    List<SpanData> persistSpans = findSpans(spans, "Session.persist " + Value.class.getName());
+    List<SpanData> mergeSpans = findSpans(spans, "Session.merge " + Value.class.getName());
+    List<SpanData> commitSpans = findSpans(spans, "Transaction.commit");
+
+    assertThat(persistSpans).hasSize(1);
+    assertThat(persistSpans.get(0))
+        .hasParent(parent)
+        .hasAttribute(AttributeKey.longKey("hibernate.operation_count"), 3L);
+    assertThat(mergeSpans).hasSize(1);
+    assertThat(mergeSpans.get(0))
+        .hasParent(parent)
+        .hasAttributesSatisfying(
+            attributes ->
+                assertThat(attributes.get(AttributeKey.longKey("hibernate.operation_count")))
+                    .isNull());
+    // the statements of an operation are children of the span of its run
+    assertThat(spans)
+        .anySatisfy(
+            span -> assertThat(span).hasKind(SpanKind.CLIENT).hasParent(mergeSpans.get(0)));
+    assertThat(commitSpans).hasSize(1);
+    assertThat(persistSpans.get(0).getEndEpochNanos())
+        .isLessThanOrEqualTo(mergeSpans.get(0).getStartEpochNanos());
+    assertThat(mergeSpans.get(0).getEndEpochNanos())
+        .isLessThanOrEqualTo(commitSpans.get(0).getStartEpochNanos());
+  }
+
+  @Test
+  void rollbackEndsPendingOperations() {
+    Session session = sessionFactory.openSession();
+    try {
+      testing.runWithSpan(
+          "parent",
+          () -> {
+            session.beginTransaction();
+            session.persist(new Value("rolled back 1"));
+            session.persist(new Value("rolled back 2"));
+            session.getTransaction().rollback();
+          });
+
+      // the session is still open, so the operations can only be reported because of the rollback
+      testing.waitAndAssertTraces(
+          trace ->
+              trace.hasSpansSatisfyingExactly(
+                  span -> span.hasName("parent").hasNoParent(),
+                  span ->
+                      span.hasName("Session.persist " + Value.class.getName())
+                          .hasParent(trace.getSpan(0))
+                          .hasAttribute(AttributeKey.longKey("hibernate.operation_count"), 2L)));
+    } finally {
+      session.close();
+    }
+  }
+
+  private static List<SpanData> findSpans(List<SpanData> spans, String name) {
+    return spans.stream().filter(span -> span.getName().equals(name)).collect(toList());
+  }
+}
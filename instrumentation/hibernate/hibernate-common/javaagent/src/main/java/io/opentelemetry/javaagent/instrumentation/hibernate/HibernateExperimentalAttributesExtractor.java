@@ -20,6 +20,10 @@ class HibernateExperimentalAttributesExtractor
     if (sessionId != null) {
       attributes.put("hibernate.session_id", sessionId);
     }
+    int operationCount = hibernateOperation.getOperationCount();
+    if (operationCount > 1) {
+      attributes.put("hibernate.operation_count", operationCount);
+    }
   }
 
   @Override
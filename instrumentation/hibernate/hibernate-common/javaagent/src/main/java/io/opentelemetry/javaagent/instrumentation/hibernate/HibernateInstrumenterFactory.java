@@ -14,6 +14,10 @@ public final class HibernateInstrumenterFactory {
   static final boolean CAPTURE_EXPERIMENTAL_SPAN_ATTRIBUTES =
       InstrumentationConfig.get()
           .getBoolean("otel.instrumentation.hibernate.experimental-span-attributes", false);
+  static final boolean AGGREGATE_SESSION_OPERATIONS =
+      InstrumentationConfig.get()
+          .getBoolean(
+              "otel.instrumentation.hibernate.experimental-aggregate-session-operations", false);
 
   public static Instrumenter<HibernateOperation, Void> createInstrumenter(
       String instrumentationName) {
@@ -21,7 +25,7 @@ public final class HibernateInstrumenterFactory {
         Instrumenter.builder(
             GlobalOpenTelemetry.get(), instrumentationName, HibernateOperation::getName);
 
-    if (CAPTURE_EXPERIMENTAL_SPAN_ATTRIBUTES) {
+    if (CAPTURE_EXPERIMENTAL_SPAN_ATTRIBUTES || AGGREGATE_SESSION_OPERATIONS) {
       instrumenterBuilder.addAttributesExtractor(new HibernateExperimentalAttributesExtractor());
     }
 
@@ -5,9 +5,16 @@
 
 package io.opentelemetry.javaagent.instrumentation.hibernate;
 
+import io.opentelemetry.instrumentation.api.internal.cache.Cache;
+
 public class HibernateOperation {
+  // span names by operation and entity name, so that repeated operations on the same entity type
+  // don't concatenate the span name again
+  private static final Cache<String, Cache<String, String>> spanNames = Cache.bounded(64);
+
   private final String spanName;
   private final String sessionId;
+  private int operationCount = 1;
 
   public HibernateOperation(String operation, String entityName, SessionInfo sessionInfo) {
     this(spanNameForOperation(operation, entityName), sessionInfo);
@@ -26,9 +33,20 @@ public class HibernateOperation {
     return sessionId;
   }
 
+  /** Returns the number of identical operations that this operation stands for. */
+  public int getOperationCount() {
+    return operationCount;
+  }
+
+  void incrementOperationCount() {
+    operationCount++;
+  }
+
   private static String spanNameForOperation(String operationName, String entityName) {
     if (entityName != null) {
-      return operationName + " " + entityName;
+      return spanNames
+          .computeIfAbsent(operationName, unused -> Cache.bounded(1000))
+          .computeIfAbsent(entityName, unused -> operationName + " " + entityName);
     }
     return operationName;
   }
@@ -5,13 +5,29 @@
 
 package io.opentelemetry.javaagent.instrumentation.hibernate;
 
+import static io.opentelemetry.javaagent.instrumentation.hibernate.HibernateInstrumenterFactory.AGGREGATE_SESSION_OPERATIONS;
 import static io.opentelemetry.javaagent.instrumentation.hibernate.HibernateInstrumenterFactory.CAPTURE_EXPERIMENTAL_SPAN_ATTRIBUTES;
 
+import io.opentelemetry.context.Context;
+import io.opentelemetry.instrumentation.api.instrumenter.Instrumenter;
+import io.opentelemetry.instrumentation.api.internal.InstrumenterUtil;
+import io.opentelemetry.instrumentation.api.internal.Timer;
+import java.time.Instant;
 import java.util.UUID;
+import javax.annotation.Nullable;
 
 public class SessionInfo {
   private final String sessionId;
 
+  // a run of identical operations on this session that is reported as a single span; sessions are
+  // not used concurrently, so this needs no synchronization
+  @Nullable private Instrumenter<HibernateOperation, Void> runInstrumenter;
+  @Nullable private Context runParentContext;
+  @Nullable private HibernateOperation runOperation;
+  @Nullable private Context runContext;
+  @Nullable private Timer runTimer;
+  @Nullable private Instant runEndTime;
+
   public SessionInfo() {
     sessionId = generateSessionId();
   }
@@ -20,6 +36,86 @@ public class SessionInfo {
     return sessionId;
   }
 
+  /**
+   * Adds the operation to the run of identical operations of this session when aggregating session
+   * operations is enabled, ending the previous run if the operation does not continue it. The span
+   * of a run is started with its first operation, so that it is the parent of the spans created
+   * while any of its operations is in progress.
+   *
+   * @return the context of the run that the operation was added to, which must be made current
+   *     while the operation is in progress, or null if the operation was not added to a run; if a
+   *     context is returned, no span must be started for the operation and {@link
+   *     #endAggregatedOperation(Throwable)} must be called when it ends
+   */
+  @Nullable
+  public Context aggregate(
+      Instrumenter<HibernateOperation, Void> instrumenter,
+      Context parentContext,
+      HibernateOperation operation) {
+    if (!AGGREGATE_SESSION_OPERATIONS) {
+      return null;
+    }
+    if (runOperation != null
+        && runInstrumenter == instrumenter
+        && runParentContext == parentContext
+        && runOperation.getName().equals(operation.getName())) {
+      runOperation.incrementOperationCount();
+      return runContext;
+    }
+    endPendingOperations();
+    if (!instrumenter.shouldStart(parentContext, operation)) {
+      return null;
+    }
+    runInstrumenter = instrumenter;
+    runParentContext = parentContext;
+    runOperation = operation;
+    runContext = instrumenter.start(parentContext, operation);
+    runTimer = Timer.start();
+    return runContext;
+  }
+
+  /** Ends an operation that was added to a run by {@link #aggregate}. */
+  public void endAggregatedOperation(@Nullable Throwable throwable) {
+    if (runTimer == null) {
+      return;
+    }
+    runEndTime = runTimer.now();
+    if (throwable != null) {
+      endPendingOperations(throwable);
+    }
+  }
+
+  /**
+   * Ends the span of the pending run of aggregated operations, if there is one. This must be called
+   * before other operations of this session are reported, so that the span of the run does not
+   * overlap them. The span ends when the last operation of the run ended, so it does not end after
+   * its parent even when the run is only ended after the parent.
+   */
+  public void endPendingOperations() {
+    endPendingOperations(null);
+  }
+
+  private void endPendingOperations(@Nullable Throwable throwable) {
+    if (runInstrumenter != null
+        && runOperation != null
+        && runContext != null
+        && runTimer != null) {
+      InstrumenterUtil.end(
+          runInstrumenter,
+          runContext,
+          runOperation,
+          null,
+          throwable,
+          runEndTime != null ? runEndTime : runTimer.now());
+    }
+    runInstrumenter = null;
+    runParentContext = null;
+    runOperation = null;
+    runContext = null;
+    runTimer = null;
+    runEndTime = null;
+  }
+
   private static String generateSessionId() {
     if (!CAPTURE_EXPERIMENTAL_SPAN_ATTRIBUTES) {
       return null;
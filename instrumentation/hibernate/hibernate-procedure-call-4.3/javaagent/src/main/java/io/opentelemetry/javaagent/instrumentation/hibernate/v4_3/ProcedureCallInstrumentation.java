@@ -64,6 +64,10 @@ public class ProcedureCallInstrumentation implements TypeInstrumentation {
       VirtualField<ProcedureCall, SessionInfo> criteriaVirtualField =
           VirtualField.find(ProcedureCall.class, SessionInfo.class);
       SessionInfo sessionInfo = criteriaVirtualField.get(call);
+      if (sessionInfo != null) {
+        // aggregated operations of the session end before the procedure call is run
+        sessionInfo.endPendingOperations();
+      }
 
       Context parentContext = Java8BytecodeBridge.currentContext();
       hibernateOperation =
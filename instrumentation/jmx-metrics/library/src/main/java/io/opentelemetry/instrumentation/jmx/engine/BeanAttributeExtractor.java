@@ -10,6 +10,7 @@ import static java.util.logging.Level.INFO;
 
 import java.util.ArrayList;
 import java.util.List;
+import java.util.Map;
 import java.util.logging.Level;
 import java.util.logging.Logger;
 import javax.annotation.Nullable;
@@ -111,6 +112,11 @@ public class BeanAttributeExtractor implements MetricAttributeExtractor {
     this.nameChain = nameChain;
   }
 
+  /** Get the name of the MBean attribute read by this extractor. */
+  String getBaseName() {
+    return baseName;
+  }
+
   /**
    * Get a human readable name of the attribute to extract. Used to form the metric name if none is
    * provided. Also useful for logging or debugging.
@@ -211,29 +217,7 @@ public class BeanAttributeExtractor implements MetricAttributeExtractor {
   private Object extractAttributeValue(MBeanServer server, ObjectName objectName, Logger logger) {
     try {
       Object value = server.getAttribute(objectName, baseName);
-
-      int k = 0;
-      while (k < nameChain.length) {
-        if (value instanceof CompositeData) {
-          value = ((CompositeData) value).get(nameChain[k]);
-        } else if (value instanceof TabularData) {
-          value = ((TabularData) value).get(new String[] {nameChain[k]});
-        } else {
-          if (logger != null) {
-            logger.log(
-                FINE,
-                "Encountered a value of {0} while extracting attribute {1} for ObjectName {2}; unable to extract metric value",
-                new Object[] {
-                  (value == null ? "NULL" : value.getClass().getName()),
-                  getAttributeName(),
-                  objectName
-                });
-          }
-          break;
-        }
-        k++;
-      }
-      return value;
+      return drillDown(value, objectName, logger);
     } catch (Exception e) {
       // We do not really care about the actual reason for failure
       if (logger != null) {
@@ -251,6 +235,69 @@ public class BeanAttributeExtractor implements MetricAttributeExtractor {
     return extractAttributeValue(server, objectName, null);
   }
 
+  /*
+   * In case the value is a CompositeData or TabularData, drills down into it following the
+   * name chain.
+   */
+  @Nullable
+  private Object drillDown(
+      @Nullable Object value, @Nullable ObjectName objectName, @Nullable Logger logger) {
+    int k = 0;
+    while (k < nameChain.length) {
+      if (value instanceof CompositeData) {
+        value = ((CompositeData) value).get(nameChain[k]);
+      } else if (value instanceof TabularData) {
+        value = ((TabularData) value).get(new String[] {nameChain[k]});
+      } else {
+        if (logger != null) {
+          logger.log(
+              FINE,
+              "Encountered a value of {0} while extracting attribute {1} for ObjectName {2}; unable to extract metric value",
+              new Object[] {
+                (value == null ? "NULL" : value.getClass().getName()),
+                getAttributeName(),
+                objectName
+              });
+        }
+        break;
+      }
+      k++;
+    }
+    return value;
+  }
+
+  /*
+   * Extracts the attribute value from the MBean attribute values that have already been read,
+   * keyed by MBean attribute name.
+   */
+  @Nullable
+  private Object extractAttributeValue(Map<String, Object> beanAttributes) {
+    try {
+      return drillDown(beanAttributes.get(baseName), null, null);
+    } catch (RuntimeException e) {
+      // e.g. InvalidKeyException if the composite value does not know the key
+      return null;
+    }
+  }
+
+  @Nullable
+  Number extractNumericalAttribute(Map<String, Object> beanAttributes) {
+    Object value = extractAttributeValue(beanAttributes);
+    if (value instanceof Number) {
+      return (Number) value;
+    }
+    return null;
+  }
+
+  @Nullable
+  String extractValue(Map<String, Object> beanAttributes) {
+    Object value = extractAttributeValue(beanAttributes);
+    if (value instanceof String) {
+      return (String) value;
+    }
+    return null;
+  }
+
   @Nullable
   Number extractNumericalAttribute(MBeanServer server, ObjectName objectName) {
     Object value = extractAttributeValue(server, objectName);
@@ -5,23 +5,41 @@
 
 package io.opentelemetry.instrumentation.jmx.engine;
 
+import static java.util.logging.Level.FINE;
+
 import java.util.ArrayList;
+import java.util.Collections;
 import java.util.HashSet;
+import java.util.IdentityHashMap;
 import java.util.List;
 import java.util.Set;
 import java.util.concurrent.Executors;
 import java.util.concurrent.ScheduledExecutorService;
 import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.logging.Logger;
 import javax.management.MBeanServer;
+import javax.management.MBeanServerDelegate;
 import javax.management.MBeanServerFactory;
+import javax.management.MBeanServerNotification;
+import javax.management.Notification;
+import javax.management.NotificationListener;
 import javax.management.ObjectName;
+import javax.management.relation.MBeanServerNotificationFilter;
 
 /**
  * A class responsible for finding MBeans that match metric definitions specified by a set of
  * MetricDefs.
+ *
+ * <p>Once an MBeanServer has been queried, MBean registrations and unregistrations on it are
+ * observed through the notifications emitted by its {@link MBeanServerDelegate}, and the MBeans are
+ * looked up again only when such a notification arrives. The periodic discovery then only looks for
+ * MBeanServers that are not observed yet.
  */
 class BeanFinder {
 
+  private static final Logger logger = Logger.getLogger(BeanFinder.class.getName());
+
   private final MetricRegistrar registrar;
   private MetricConfiguration conf;
   private final ScheduledExecutorService exec = Executors.newSingleThreadScheduledExecutor();
@@ -29,6 +47,13 @@ class BeanFinder {
   private final long maxDelay;
   private long delay = 1000; // number of milliseconds until first attempt to discover MBeans
 
+  // only accessed from the executor thread
+  private final Set<MBeanServer> observedServers =
+      Collections.newSetFromMap(new IdentityHashMap<>());
+  // set when an MBean (un)registration has been notified and a refresh is scheduled
+  private final AtomicBoolean refreshPending = new AtomicBoolean();
+  private final NotificationListener registrationListener = this::onRegistrationNotification;
+
   BeanFinder(MetricRegistrar registrar, long discoveryDelay) {
     this.registrar = registrar;
     this.discoveryDelay = Math.max(1000, discoveryDelay); // Enforce sanity
@@ -42,7 +67,11 @@ class BeanFinder {
         new Runnable() {
           @Override
           public void run() {
-            refreshState();
+            List<MBeanServer> servers = MBeanServerFactory.findMBeanServer(null);
+            // subscribe before querying so that no MBean registered in between is missed
+            if (observeNewServers(servers)) {
+              refreshState(servers);
+            }
             // Use discoveryDelay as the increment for the actual delay
             delay = Math.min(delay + discoveryDelay, maxDelay);
             exec.schedule(this, delay, TimeUnit.MILLISECONDS);
@@ -52,15 +81,66 @@ class BeanFinder {
         TimeUnit.MILLISECONDS);
   }
 
+  /**
+   * Start observing MBean registrations on the servers that are not observed yet.
+   *
+   * @return true if the MBeans have to be looked up again, that is if there is a server that was
+   *     not observed so far
+   */
+  private boolean observeNewServers(List<MBeanServer> servers) {
+    boolean refreshNeeded = false;
+    for (MBeanServer server : servers) {
+      if (observedServers.contains(server)) {
+        continue;
+      }
+      refreshNeeded = true;
+      MBeanServerNotificationFilter filter = new MBeanServerNotificationFilter();
+      filter.enableAllObjectNames();
+      try {
+        server.addNotificationListener(
+            MBeanServerDelegate.DELEGATE_NAME, registrationListener, filter, null);
+        observedServers.add(server);
+      } catch (Exception e) {
+        // keep polling this server
+        logger.log(FINE, "Unable to observe MBean registrations: {0}", e);
+      }
+    }
+    return refreshNeeded;
+  }
+
+  private void onRegistrationNotification(Notification notification, Object handback) {
+    if (!(notification instanceof MBeanServerNotification)) {
+      return;
+    }
+    if (MBeanServerNotification.UNREGISTRATION_NOTIFICATION.equals(notification.getType())) {
+      // another MBean can be registered under the same name later
+      ObjectName objectName = ((MBeanServerNotification) notification).getMBeanName();
+      for (MetricDef metricDef : conf.getMetricDefs()) {
+        for (MetricExtractor extractor : metricDef.getMetricExtractors()) {
+          extractor.removeConstantAttributes(objectName);
+        }
+      }
+    }
+    // coalesce bursts of (un)registrations, e.g. while an application is deployed, into a single
+    // refresh
+    if (refreshPending.compareAndSet(false, true)) {
+      exec.schedule(
+          () -> {
+            refreshPending.set(false);
+            refreshState(MBeanServerFactory.findMBeanServer(null));
+          },
+          discoveryDelay,
+          TimeUnit.MILLISECONDS);
+    }
+  }
+
   /**
    * Go over all configured metric definitions and try to find matching MBeans. Once a match is
    * found for a given metric definition, submit the definition to MetricRegistrar for further
    * handling. Successive invocations of this method may find matches that were previously
    * unavailable, in such cases MetricRegistrar will extend the coverage for the new MBeans
    */
-  private void refreshState() {
-    List<MBeanServer> servers = MBeanServerFactory.findMBeanServer(null);
-
+  private void refreshState(List<MBeanServer> servers) {
     for (MetricDef metricDef : conf.getMetricDefs()) {
       resolveBeans(metricDef, servers);
     }
@@ -90,9 +170,14 @@ class BeanFinder {
         resolveAttributes(allObjectNames, server, metricDef);
 
         // Assuming that only one MBeanServer has the required MBeans
-        break;
+        return;
       }
     }
+
+    // The MBeans, or the MBeanServer they were registered with, have gone away
+    for (MetricExtractor extractor : metricDef.getMetricExtractors()) {
+      extractor.clearStatus();
+    }
   }
 
   /**
@@ -105,6 +190,7 @@ class BeanFinder {
    */
   private void resolveAttributes(
       Set<ObjectName> objectNames, MBeanServer server, MetricDef metricDef) {
+    boolean newInstruments = false;
     for (MetricExtractor extractor : metricDef.getMetricExtractors()) {
       // For each MetricExtractor, find the subset of MBeans that have the required attribute
       List<ObjectName> validObjectNames = new ArrayList<>();
@@ -123,8 +209,14 @@ class BeanFinder {
       }
       if (!validObjectNames.isEmpty()) {
         // Ready to collect metric values
-        registrar.enrollExtractor(server, validObjectNames, extractor, attributeInfo);
+        newInstruments |=
+            registrar.enrollExtractor(server, validObjectNames, extractor, attributeInfo);
+      } else {
+        extractor.clearStatus();
       }
     }
+    if (newInstruments) {
+      registrar.registerCollection(metricDef);
+    }
   }
 }
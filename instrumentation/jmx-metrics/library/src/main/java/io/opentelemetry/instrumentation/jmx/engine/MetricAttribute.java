@@ -5,6 +5,8 @@
 
 package io.opentelemetry.instrumentation.jmx.engine;
 
+import java.util.Map;
+import javax.annotation.Nullable;
 import javax.management.MBeanServer;
 import javax.management.ObjectName;
 
@@ -12,21 +14,64 @@ import javax.management.ObjectName;
  * A class representing a metric attribute. It is responsible for extracting the attribute value (to
  * be reported as a Measurement attribute), and for holding the corresponding attribute name to be
  * used. Objects of this class are immutable.
+ *
+ * <p>Unless the attribute is dynamic, its value is expected to stay the same for the lifetime of
+ * an MBean, and is only extracted until a value has been found for the MBean.
  */
 public class MetricAttribute {
   private final String name;
   private final MetricAttributeExtractor extractor;
+  private final boolean dynamic;
 
   public MetricAttribute(String name, MetricAttributeExtractor extractor) {
+    this(name, extractor, false);
+  }
+
+  /**
+   * Constructor for MetricAttribute.
+   *
+   * @param name the metric attribute name
+   * @param extractor the extractor providing the metric attribute value
+   * @param dynamic whether the value has to be extracted on every collection, because it can
+   *     change during the lifetime of an MBean
+   */
+  public MetricAttribute(String name, MetricAttributeExtractor extractor, boolean dynamic) {
     this.name = name;
     this.extractor = extractor;
+    this.dynamic = dynamic;
   }
 
   public String getAttributeName() {
     return name;
   }
 
+  public boolean isDynamic() {
+    return dynamic;
+  }
+
   String acquireAttributeValue(MBeanServer server, ObjectName objectName) {
     return extractor.extractValue(server, objectName);
   }
+
+  /**
+   * Like {@link #acquireAttributeValue(MBeanServer, ObjectName)}, but uses the already read MBean
+   * attribute values instead of querying the MBean if the value comes from an MBean attribute.
+   */
+  @Nullable
+  String acquireAttributeValue(
+      MBeanServer server, ObjectName objectName, Map<String, Object> beanAttributes) {
+    if (extractor instanceof BeanAttributeExtractor) {
+      return ((BeanAttributeExtractor) extractor).extractValue(beanAttributes);
+    }
+    return extractor.extractValue(server, objectName);
+  }
+
+  /** Returns the name of the MBean attribute the value is read from, if there is one. */
+  @Nullable
+  String getBeanAttributeName() {
+    if (extractor instanceof BeanAttributeExtractor) {
+      return ((BeanAttributeExtractor) extractor).getBaseName();
+    }
+    return null;
+  }
 }
@@ -5,7 +5,15 @@
 
 package io.opentelemetry.instrumentation.jmx.engine;
 
+import io.opentelemetry.api.common.Attributes;
+import io.opentelemetry.api.metrics.ObservableDoubleMeasurement;
+import io.opentelemetry.api.metrics.ObservableLongMeasurement;
+import io.opentelemetry.api.metrics.ObservableMeasurement;
+import java.util.HashSet;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
 import javax.annotation.Nullable;
+import javax.management.ObjectName;
 
 /**
  * A class holding the info needed to support a single metric: how to define it in OpenTelemetry and
@@ -24,8 +32,18 @@ public class MetricExtractor {
   // Defines the Measurement attributes to be used when reporting the metric value.
   private final MetricAttribute[] attributes;
 
+  private final boolean hasDynamicAttributes;
+
+  // The values of the non-dynamic attributes, resolved once per MBean
+  private final Map<ObjectName, Attributes> constantAttributes = new ConcurrentHashMap<>();
+
   @Nullable private volatile DetectionStatus status;
 
+  // The instrument to report the metric values to, created on first enrollment. Only one of them
+  // is set, depending on the type of the metric values.
+  @Nullable private volatile ObservableDoubleMeasurement doubleMeasurement;
+  @Nullable private volatile ObservableLongMeasurement longMeasurement;
+
   public MetricExtractor(
       BeanAttributeExtractor attributeExtractor,
       MetricInfo metricInfo,
@@ -33,6 +51,11 @@ public class MetricExtractor {
     this.attributeExtractor = attributeExtractor;
     this.metricInfo = metricInfo;
     this.attributes = attributes;
+    boolean hasDynamicAttributes = false;
+    for (MetricAttribute attribute : attributes) {
+      hasDynamicAttributes |= attribute.isDynamic();
+    }
+    this.hasDynamicAttributes = hasDynamicAttributes;
   }
 
   MetricInfo getInfo() {
@@ -47,12 +70,76 @@ public class MetricExtractor {
     return attributes;
   }
 
+  boolean hasDynamicAttributes() {
+    return hasDynamicAttributes;
+  }
+
+  @Nullable
+  Attributes getConstantAttributes(ObjectName objectName) {
+    return constantAttributes.get(objectName);
+  }
+
+  void setConstantAttributes(ObjectName objectName, Attributes attributes) {
+    constantAttributes.put(objectName, attributes);
+  }
+
+  /** Forgets the non-dynamic attribute values of an MBean, e.g. when it has been unregistered. */
+  void removeConstantAttributes(ObjectName objectName) {
+    constantAttributes.remove(objectName);
+  }
+
+  /**
+   * Replaces the DetectionStatus after a refresh. The non-dynamic attribute values are only kept
+   * for the MBeans that are still detected on the same MBeanServer.
+   */
   void setStatus(DetectionStatus status) {
+    DetectionStatus previous = this.status;
+    if (previous != null && previous.getServer() != status.getServer()) {
+      constantAttributes.clear();
+    } else {
+      constantAttributes.keySet().retainAll(new HashSet<>(status.getObjectNames()));
+    }
     this.status = status;
   }
 
+  /**
+   * Stops the collection of the metric values, e.g. when the MBeans or their MBeanServer have gone
+   * away. The instrument is kept so that the extractor can be enrolled again later.
+   */
+  void clearStatus() {
+    this.status = null;
+    constantAttributes.clear();
+  }
+
   @Nullable
   DetectionStatus getStatus() {
     return status;
   }
+
+  void setMeasurement(ObservableDoubleMeasurement measurement) {
+    this.doubleMeasurement = measurement;
+  }
+
+  void setMeasurement(ObservableLongMeasurement measurement) {
+    this.longMeasurement = measurement;
+  }
+
+  @Nullable
+  ObservableMeasurement getMeasurement() {
+    ObservableDoubleMeasurement doubleMeasurement = this.doubleMeasurement;
+    return doubleMeasurement != null ? doubleMeasurement : longMeasurement;
+  }
+
+  /** Reports the metric value to the instrument created for this extractor. */
+  void record(Number value, Attributes attributes) {
+    ObservableDoubleMeasurement doubleMeasurement = this.doubleMeasurement;
+    if (doubleMeasurement != null) {
+      doubleMeasurement.record(value.doubleValue(), attributes);
+      return;
+    }
+    ObservableLongMeasurement longMeasurement = this.longMeasurement;
+    if (longMeasurement != null) {
+      longMeasurement.record(value.longValue(), attributes);
+    }
+  }
 }
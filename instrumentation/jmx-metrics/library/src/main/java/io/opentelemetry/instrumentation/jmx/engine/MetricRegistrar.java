@@ -10,25 +10,43 @@ import static java.util.logging.Level.INFO;
 import io.opentelemetry.api.OpenTelemetry;
 import io.opentelemetry.api.common.Attributes;
 import io.opentelemetry.api.common.AttributesBuilder;
+import io.opentelemetry.api.metrics.BatchCallback;
 import io.opentelemetry.api.metrics.DoubleGaugeBuilder;
 import io.opentelemetry.api.metrics.LongCounterBuilder;
 import io.opentelemetry.api.metrics.LongUpDownCounterBuilder;
 import io.opentelemetry.api.metrics.Meter;
-import io.opentelemetry.api.metrics.ObservableDoubleMeasurement;
-import io.opentelemetry.api.metrics.ObservableLongMeasurement;
+import io.opentelemetry.api.metrics.ObservableMeasurement;
+import java.util.ArrayList;
 import java.util.Collection;
-import java.util.function.Consumer;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
 import java.util.logging.Logger;
+import javax.management.Attribute;
+import javax.management.AttributeList;
 import javax.management.MBeanServer;
 import javax.management.ObjectName;
 
-/** A class responsible for maintaining the set of metrics to collect and report. */
+/**
+ * A class responsible for maintaining the set of metrics to collect and report.
+ *
+ * <p>All metrics of a MetricDef are collected by a single batch callback, which reads all the
+ * attributes required from an MBean with a single {@link MBeanServer#getAttributes} call per
+ * collection.
+ */
 class MetricRegistrar {
 
   private static final Logger logger = Logger.getLogger(MetricRegistrar.class.getName());
 
   private final Meter meter;
 
+  // only accessed from the BeanFinder executor thread
+  private final Map<MetricDef, BatchCallback> batchCallbacks = new HashMap<>();
+
   MetricRegistrar(OpenTelemetry openTelemetry, String instrumentationScope) {
     meter = openTelemetry.getMeter(instrumentationScope);
   }
@@ -40,8 +58,10 @@ class MetricRegistrar {
    * @param objectNames the Objectnames that are known to the server and that know the attribute
    *     that is required to get the metric values
    * @param extractor the MetricExtractor responsible for getting the metric values
+   * @return true if a new instrument was created for the extractor, in which case {@link
+   *     #registerCollection(MetricDef)} has to be called for its MetricDef
    */
-  void enrollExtractor(
+  boolean enrollExtractor(
       MBeanServer server,
       Collection<ObjectName> objectNames,
       MetricExtractor extractor,
@@ -50,7 +70,8 @@ class MetricRegistrar {
     DetectionStatus status = new DetectionStatus(server, objectNames);
     boolean firstEnrollment;
     synchronized (extractor) {
-      firstEnrollment = extractor.getStatus() == null;
+      // the status is cleared when the MBeans go away, the instrument is there already
+      firstEnrollment = extractor.getStatus() == null && extractor.getMeasurement() == null;
       // For successive enrollments, it is sufficient to refresh the status
       extractor.setStatus(status);
     }
@@ -79,9 +100,9 @@ class MetricRegistrar {
             }
 
             if (attributeInfo.usesDoubleValues()) {
-              builder.ofDoubles().buildWithCallback(doubleTypeCallback(extractor));
+              extractor.setMeasurement(builder.ofDoubles().buildObserver());
             } else {
-              builder.buildWithCallback(longTypeCallback(extractor));
+              extractor.setMeasurement(builder.buildObserver());
             }
             logger.log(INFO, "Created Counter for {0}", metricName);
           }
@@ -100,9 +121,9 @@ class MetricRegistrar {
             }
 
             if (attributeInfo.usesDoubleValues()) {
-              builder.ofDoubles().buildWithCallback(doubleTypeCallback(extractor));
+              extractor.setMeasurement(builder.ofDoubles().buildObserver());
             } else {
-              builder.buildWithCallback(longTypeCallback(extractor));
+              extractor.setMeasurement(builder.buildObserver());
             }
             logger.log(INFO, "Created UpDownCounter for {0}", metricName);
           }
@@ -121,72 +142,176 @@ class MetricRegistrar {
             }
 
             if (attributeInfo.usesDoubleValues()) {
-              builder.buildWithCallback(doubleTypeCallback(extractor));
+              extractor.setMeasurement(builder.buildObserver());
             } else {
-              builder.ofLongs().buildWithCallback(longTypeCallback(extractor));
+              extractor.setMeasurement(builder.ofLongs().buildObserver());
             }
             logger.log(INFO, "Created Gauge for {0}", metricName);
           }
       }
     }
+    return firstEnrollment;
+  }
+
+  /**
+   * (Re)registers the batch callback collecting all the metrics of the given MetricDef that have
+   * an instrument.
+   */
+  void registerCollection(MetricDef metricDef) {
+    List<ObservableMeasurement> measurements = new ArrayList<>();
+    for (MetricExtractor extractor : metricDef.getMetricExtractors()) {
+      ObservableMeasurement measurement = extractor.getMeasurement();
+      if (measurement != null) {
+        measurements.add(measurement);
+      }
+    }
+    if (measurements.isEmpty()) {
+      return;
+    }
+
+    BatchCallback previous = batchCallbacks.remove(metricDef);
+    if (previous != null) {
+      previous.close();
+    }
+    batchCallbacks.put(
+        metricDef,
+        meter.batchCallback(
+            () -> collect(metricDef),
+            measurements.get(0),
+            measurements.subList(1, measurements.size()).toArray(new ObservableMeasurement[0])));
   }
 
   /*
-   * A method generating metric collection callback for asynchronous Measurement
-   * of Double type.
+   * Collects the metric values of all enrolled extractors of the given MetricDef, reading all
+   * attributes needed from one MBean at once.
    */
-  static Consumer<ObservableDoubleMeasurement> doubleTypeCallback(MetricExtractor extractor) {
-    return measurement -> {
+  static void collect(MetricDef metricDef) {
+    // group the extractors by the MBeans they read from
+    Map<MBeanServer, Map<ObjectName, List<MetricExtractor>>> extractorsByBean = new HashMap<>();
+    for (MetricExtractor extractor : metricDef.getMetricExtractors()) {
       DetectionStatus status = extractor.getStatus();
-      if (status != null) {
-        MBeanServer server = status.getServer();
-        for (ObjectName objectName : status.getObjectNames()) {
-          Number metricValue =
-              extractor.getMetricValueExtractor().extractNumericalAttribute(server, objectName);
-          if (metricValue != null) {
-            // get the metric attributes
-            Attributes attr = createMetricAttributes(server, objectName, extractor);
-            measurement.record(metricValue.doubleValue(), attr);
-          }
+      if (status == null || extractor.getMeasurement() == null) {
+        continue;
+      }
+      Map<ObjectName, List<MetricExtractor>> extractorsByObjectName =
+          extractorsByBean.computeIfAbsent(status.getServer(), server -> new LinkedHashMap<>());
+      for (ObjectName objectName : status.getObjectNames()) {
+        extractorsByObjectName
+            .computeIfAbsent(objectName, unused -> new ArrayList<>())
+            .add(extractor);
+      }
+    }
+
+    for (Map.Entry<MBeanServer, Map<ObjectName, List<MetricExtractor>>> serverEntry :
+        extractorsByBean.entrySet()) {
+      MBeanServer server = serverEntry.getKey();
+      for (Map.Entry<ObjectName, List<MetricExtractor>> beanEntry :
+          serverEntry.getValue().entrySet()) {
+        ObjectName objectName = beanEntry.getKey();
+        List<MetricExtractor> extractors = beanEntry.getValue();
+        Map<String, Object> beanAttributes = readAttributes(server, objectName, extractors);
+        for (MetricExtractor extractor : extractors) {
+          record(server, objectName, extractor, beanAttributes);
         }
       }
-    };
+    }
+  }
+
+  private static void record(
+      MBeanServer server,
+      ObjectName objectName,
+      MetricExtractor extractor,
+      Map<String, Object> beanAttributes) {
+    Number metricValue =
+        extractor.getMetricValueExtractor().extractNumericalAttribute(beanAttributes);
+    if (metricValue == null) {
+      return;
+    }
+    // get the metric attributes
+    Attributes attr = createMetricAttributes(server, objectName, extractor, beanAttributes);
+    extractor.record(metricValue, attr);
   }
 
   /*
-   * A method generating metric collection callback for asynchronous Measurement
-   * of Long type.
+   * Reads the values of all MBean attributes used by the given extractors, both for the metric
+   * values and for the metric attributes that are not resolved yet, with a single call.
    */
-  static Consumer<ObservableLongMeasurement> longTypeCallback(MetricExtractor extractor) {
-    return measurement -> {
-      DetectionStatus status = extractor.getStatus();
-      if (status != null) {
-        MBeanServer server = status.getServer();
-        for (ObjectName objectName : status.getObjectNames()) {
-          Number metricValue =
-              extractor.getMetricValueExtractor().extractNumericalAttribute(server, objectName);
-          if (metricValue != null) {
-            // get the metric attributes
-            Attributes attr = createMetricAttributes(server, objectName, extractor);
-            measurement.record(metricValue.longValue(), attr);
-          }
+  private static Map<String, Object> readAttributes(
+      MBeanServer server, ObjectName objectName, List<MetricExtractor> extractors) {
+    Set<String> attributeNames = new LinkedHashSet<>();
+    for (MetricExtractor extractor : extractors) {
+      attributeNames.add(extractor.getMetricValueExtractor().getBaseName());
+      boolean constantAttributesKnown = extractor.getConstantAttributes(objectName) != null;
+      for (MetricAttribute metricAttribute : extractor.getAttributes()) {
+        if (constantAttributesKnown && !metricAttribute.isDynamic()) {
+          continue;
+        }
+        String beanAttributeName = metricAttribute.getBeanAttributeName();
+        if (beanAttributeName != null) {
+          attributeNames.add(beanAttributeName);
         }
       }
-    };
+    }
+
+    AttributeList attributes;
+    try {
+      attributes = server.getAttributes(objectName, attributeNames.toArray(new String[0]));
+    } catch (Exception e) {
+      // the MBean may have been unregistered since it was discovered, further extraction
+      // malfunctions are silent to avoid flooding the log
+      return Collections.emptyMap();
+    }
+    Map<String, Object> values = new HashMap<>();
+    for (Attribute attribute : attributes.asList()) {
+      values.put(attribute.getName(), attribute.getValue());
+    }
+    return values;
   }
 
   /*
    * An auxiliary method for collecting measurement attributes to go along
-   * the metric values
+   * the metric values. Non-dynamic attributes are resolved once per MBean.
    */
   static Attributes createMetricAttributes(
-      MBeanServer server, ObjectName objectName, MetricExtractor extractor) {
-    MetricAttribute[] metricAttributes = extractor.getAttributes();
-    AttributesBuilder attrBuilder = Attributes.builder();
-    for (MetricAttribute metricAttribute : metricAttributes) {
-      String attributeValue = metricAttribute.acquireAttributeValue(server, objectName);
+      MBeanServer server,
+      ObjectName objectName,
+      MetricExtractor extractor,
+      Map<String, Object> beanAttributes) {
+    Attributes constantAttributes = extractor.getConstantAttributes(objectName);
+    if (constantAttributes == null) {
+      AttributesBuilder attrBuilder = Attributes.builder();
+      boolean complete = true;
+      for (MetricAttribute metricAttribute : extractor.getAttributes()) {
+        if (metricAttribute.isDynamic()) {
+          continue;
+        }
+        String attributeValue =
+            metricAttribute.acquireAttributeValue(server, objectName, beanAttributes);
+        if (attributeValue != null) {
+          attrBuilder.put(metricAttribute.getAttributeName(), attributeValue);
+        } else {
+          // values are often unavailable while the MBean is starting, try again next time
+          complete = false;
+        }
+      }
+      constantAttributes = attrBuilder.build();
+      if (complete) {
+        extractor.setConstantAttributes(objectName, constantAttributes);
+      }
+    }
+    if (!extractor.hasDynamicAttributes()) {
+      return constantAttributes;
+    }
+
+    AttributesBuilder attrBuilder = constantAttributes.toBuilder();
+    for (MetricAttribute metricAttribute : extractor.getAttributes()) {
+      if (!metricAttribute.isDynamic()) {
+        continue;
+      }
+      String attributeValue =
+          metricAttribute.acquireAttributeValue(server, objectName, beanAttributes);
       if (attributeValue != null) {
-        attrBuilder = attrBuilder.put(metricAttribute.getAttributeName(), attributeValue);
+        attrBuilder.put(metricAttribute.getAttributeName(), attributeValue);
       }
     }
     return attrBuilder.build();
@@ -100,35 +100,44 @@ abstract class MetricStructure {
           throw new IllegalStateException(
               "nothing specified for metric attribute key '" + key + "'");
         }
-        list.add(buildMetricAttribute(key, target.trim()));
+        list.add(buildMetricAttribute(key, target.trim(), false));
       }
     }
   }
 
-  private static MetricAttribute buildMetricAttribute(String key, String target) {
+  private static MetricAttribute buildMetricAttribute(String key, String target, boolean dynamic) {
     // The recognized forms of target are:
     //  - param(STRING)
     //  - beanattr(STRING)
     //  - const(STRING)
     // where STRING is the name of the corresponding parameter key, attribute name,
-    // or the direct value to use
+    // or the direct value to use. Any of them can be wrapped as dynamic(...), in which case
+    // the value is evaluated on every collection instead of once per MBean.
+    if (!dynamic && target.startsWith("dynamic(") && target.endsWith(")")) {
+      return buildMetricAttribute(key, target.substring(8, target.length() - 1).trim(), true);
+    }
+
     int k = target.indexOf(')');
 
     // Check for one of the cases as above
     if (target.startsWith("param(")) {
       if (k > 0) {
         return new MetricAttribute(
-            key, MetricAttributeExtractor.fromObjectNameParameter(target.substring(6, k).trim()));
+            key,
+            MetricAttributeExtractor.fromObjectNameParameter(target.substring(6, k).trim()),
+            dynamic);
       }
     } else if (target.startsWith("beanattr(")) {
       if (k > 0) {
         return new MetricAttribute(
-            key, MetricAttributeExtractor.fromBeanAttribute(target.substring(9, k).trim()));
+            key,
+            MetricAttributeExtractor.fromBeanAttribute(target.substring(9, k).trim()),
+            dynamic);
       }
     } else if (target.startsWith("const(")) {
       if (k > 0) {
         return new MetricAttribute(
-            key, MetricAttributeExtractor.fromConstant(target.substring(6, k).trim()));
+            key, MetricAttributeExtractor.fromConstant(target.substring(6, k).trim()), dynamic);
       }
     }
 
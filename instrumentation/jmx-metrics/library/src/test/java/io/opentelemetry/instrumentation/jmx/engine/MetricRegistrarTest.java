@@ -0,0 +1,309 @@
+/*
+ * Copyright The OpenTelemetry Authors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package io.opentelemetry.instrumentation.jmx.engine;
+
+import static io.opentelemetry.sdk.testing.assertj.OpenTelemetryAssertions.assertThat;
+import static io.opentelemetry.sdk.testing.assertj.OpenTelemetryAssertions.equalTo;
+
+import io.opentelemetry.api.common.AttributeKey;
+import io.opentelemetry.api.common.Attributes;
+import io.opentelemetry.instrumentation.testing.junit.InstrumentationExtension;
+import io.opentelemetry.instrumentation.testing.junit.LibraryInstrumentationExtension;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
+import javax.management.Attribute;
+import javax.management.AttributeList;
+import javax.management.AttributeNotFoundException;
+import javax.management.DynamicMBean;
+import javax.management.MBeanAttributeInfo;
+import javax.management.MBeanInfo;
+import javax.management.MBeanServer;
+import javax.management.MBeanServerFactory;
+import javax.management.ObjectName;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.RegisterExtension;
+
+class MetricRegistrarTest {
+
+  @RegisterExtension
+  static final InstrumentationExtension testing = LibraryInstrumentationExtension.create();
+
+  private static final String INSTRUMENTATION_SCOPE = "io.opentelemetry.jmx.test";
+
+  private static MBeanServer theServer;
+  private static ObjectName objectName;
+  private static CountingMBean mbean;
+
+  @BeforeAll
+  static void setUp() throws Exception {
+    theServer = MBeanServerFactory.createMBeanServer("otel.jmx.test.registrar");
+    objectName = new ObjectName("otel.jmx.test:type=Counting");
+    mbean = new CountingMBean();
+    theServer.registerMBean(mbean, objectName);
+  }
+
+  @AfterAll
+  static void tearDown() {
+    MBeanServerFactory.releaseMBeanServer(theServer);
+    theServer = null;
+  }
+
+  @Test
+  void readsAllAttributesOfAnMBeanAtOnce() {
+    MetricAttribute nameAttribute =
+        new MetricAttribute("name", MetricAttributeExtractor.fromBeanAttribute("Name"));
+    MetricExtractor activeExtractor =
+        new MetricExtractor(
+            new BeanAttributeExtractor("Active"),
+            new MetricInfo("test.active", null, "1", MetricInfo.Type.UPDOWNCOUNTER),
+            nameAttribute);
+    MetricExtractor totalExtractor =
+        new MetricExtractor(
+            new BeanAttributeExtractor("Total"),
+            new MetricInfo("test.total", null, "1", MetricInfo.Type.COUNTER),
+            nameAttribute);
+    MetricDef metricDef =
+        new MetricDef(new BeanGroup(null, objectName), activeExtractor, totalExtractor);
+
+    MetricRegistrar registrar =
+        new MetricRegistrar(testing.getOpenTelemetry(), INSTRUMENTATION_SCOPE);
+    assertThat(
+            registrar.enrollExtractor(
+                theServer,
+                Collections.singletonList(objectName),
+                activeExtractor,
+                new AttributeInfo(3, null)))
+        .isTrue();
+    assertThat(
+            registrar.enrollExtractor(
+                theServer,
+                Collections.singletonList(objectName),
+                totalExtractor,
+                new AttributeInfo(42L, null)))
+        .isTrue();
+    registrar.registerCollection(metricDef);
+
+    testing.waitAndAssertMetrics(
+        INSTRUMENTATION_SCOPE,
+        "test.active",
+        metrics ->
+            metrics.anySatisfy(
+                metric ->
+                    assertThat(metric)
+                        .hasLongSumSatisfying(
+                            sum ->
+                                sum.hasPointsSatisfying(
+                                    point ->
+                                        point
+                                            .hasValue(3)
+                                            .hasAttributesSatisfyingExactly(
+                                                equalTo(
+                                                    AttributeKey.stringKey("name"), "pool-1"))))));
+    testing.waitAndAssertMetrics(
+        INSTRUMENTATION_SCOPE,
+        "test.total",
+        metrics ->
+            metrics.anySatisfy(
+                metric ->
+                    assertThat(metric)
+                        .hasLongSumSatisfying(
+                            sum -> sum.hasPointsSatisfying(point -> point.hasValue(42)))));
+
+    assertThat(mbean.getAttributeCalls.get()).isZero();
+    assertThat(mbean.getAttributesCalls.get()).isPositive();
+    assertThat(mbean.firstRequestedAttributes.get())
+        .containsExactlyInAnyOrder("Active", "Total", "Name");
+    // the non-dynamic attribute is not read again once resolved
+    testing.clearData();
+    testing.waitAndAssertMetrics(
+        INSTRUMENTATION_SCOPE, "test.total", metrics -> metrics.isNotEmpty());
+    assertThat(mbean.lastRequestedAttributes.get()).containsExactlyInAnyOrder("Active", "Total");
+  }
+
+  @Test
+  void resolvesNonDynamicAttributesOncePerMBean() throws Exception {
+    ObjectName objectName = new ObjectName("otel.jmx.test:type=Counting,name=constant");
+    CountingMBean mbean = new CountingMBean();
+    theServer.registerMBean(mbean, objectName);
+
+    MetricExtractor extractor =
+        new MetricExtractor(
+            new BeanAttributeExtractor("Active"),
+            new MetricInfo("test.constant.active", null, "1", MetricInfo.Type.GAUGE),
+            new MetricAttribute("name", MetricAttributeExtractor.fromBeanAttribute("Name")),
+            new MetricAttribute(
+                "state", MetricAttributeExtractor.fromBeanAttribute("State"), /* dynamic= */ true));
+    MetricRegistrar registrar =
+        new MetricRegistrar(testing.getOpenTelemetry(), INSTRUMENTATION_SCOPE);
+    registrar.enrollExtractor(
+        theServer, Collections.singletonList(objectName), extractor, new AttributeInfo(3, null));
+    registrar.registerCollection(new MetricDef(new BeanGroup(null, objectName), extractor));
+
+    testing.waitAndAssertMetrics(
+        INSTRUMENTATION_SCOPE,
+        "test.constant.active",
+        metrics ->
+            metrics.anySatisfy(
+                metric ->
+                    assertThat(metric)
+                        .hasLongGaugeSatisfying(
+                            gauge ->
+                                gauge.hasPointsSatisfying(
+                                    point ->
+                                        point.hasAttributesSatisfyingExactly(
+                                            equalTo(AttributeKey.stringKey("name"), "pool-1"),
+                                            equalTo(
+                                                AttributeKey.stringKey("state"), "running"))))));
+
+    assertThat(extractor.getConstantAttributes(objectName))
+        .isEqualTo(Attributes.of(AttributeKey.stringKey("name"), "pool-1"));
+    // once resolved, only the dynamic attribute is read along with the metric value
+    testing.clearData();
+    testing.waitAndAssertMetrics(
+        INSTRUMENTATION_SCOPE, "test.constant.active", metrics -> metrics.isNotEmpty());
+    assertThat(mbean.lastRequestedAttributes.get()).containsExactlyInAnyOrder("Active", "State");
+
+    extractor.removeConstantAttributes(objectName);
+    assertThat(extractor.getConstantAttributes(objectName)).isNull();
+  }
+
+  @Test
+  void forgetsNonDynamicAttributesOfMBeansThatAreGone() throws Exception {
+    ObjectName objectName = new ObjectName("otel.jmx.test:type=Counting,name=gone");
+    ObjectName otherObjectName = new ObjectName("otel.jmx.test:type=Counting,name=other");
+    theServer.registerMBean(new CountingMBean(), objectName);
+    theServer.registerMBean(new CountingMBean(), otherObjectName);
+
+    MetricExtractor extractor =
+        new MetricExtractor(
+            new BeanAttributeExtractor("Active"),
+            new MetricInfo("test.gone.active", null, "1", MetricInfo.Type.GAUGE),
+            new MetricAttribute("name", MetricAttributeExtractor.fromBeanAttribute("Name")));
+    MetricRegistrar registrar =
+        new MetricRegistrar(testing.getOpenTelemetry(), INSTRUMENTATION_SCOPE);
+    registrar.enrollExtractor(
+        theServer,
+        Arrays.asList(objectName, otherObjectName),
+        extractor,
+        new AttributeInfo(3, null));
+    registrar.registerCollection(new MetricDef(new BeanGroup(null, objectName), extractor));
+
+    testing.waitAndAssertMetrics(
+        INSTRUMENTATION_SCOPE, "test.gone.active", metrics -> metrics.isNotEmpty());
+    assertThat(extractor.getConstantAttributes(objectName)).isNotNull();
+    assertThat(extractor.getConstantAttributes(otherObjectName)).isNotNull();
+
+    // a refresh no longer finds one of the MBeans
+    theServer.unregisterMBean(objectName);
+    assertThat(
+            registrar.enrollExtractor(
+                theServer,
+                Collections.singletonList(otherObjectName),
+                extractor,
+                new AttributeInfo(3, null)))
+        .isFalse();
+    assertThat(extractor.getConstantAttributes(objectName)).isNull();
+    assertThat(extractor.getConstantAttributes(otherObjectName)).isNotNull();
+
+    // the MBeans are enrolled from another MBeanServer
+    MBeanServer otherServer = MBeanServerFactory.newMBeanServer("otel.jmx.test.other");
+    assertThat(
+            registrar.enrollExtractor(
+                otherServer,
+                Collections.singletonList(otherObjectName),
+                extractor,
+                new AttributeInfo(3, null)))
+        .isFalse();
+    assertThat(extractor.getConstantAttributes(otherObjectName)).isNull();
+
+    // none of the MBeans is found anymore
+    extractor.clearStatus();
+    assertThat(extractor.getStatus()).isNull();
+    // enrolling again does not create another instrument
+    assertThat(
+            registrar.enrollExtractor(
+                theServer,
+                Collections.singletonList(otherObjectName),
+                extractor,
+                new AttributeInfo(3, null)))
+        .isFalse();
+
+    theServer.unregisterMBean(otherObjectName);
+  }
+
+  static class CountingMBean implements DynamicMBean {
+    private final Map<String, Object> values;
+    final AtomicInteger getAttributeCalls = new AtomicInteger();
+    final AtomicInteger getAttributesCalls = new AtomicInteger();
+    final AtomicReference<String[]> firstRequestedAttributes = new AtomicReference<>();
+    final AtomicReference<String[]> lastRequestedAttributes = new AtomicReference<>();
+
+    CountingMBean() {
+      values = new HashMap<>();
+      values.put("Active", 3);
+      values.put("Total", 42L);
+      values.put("Name", "pool-1");
+      values.put("State", "running");
+    }
+
+    @Override
+    public Object getAttribute(String attribute) throws AttributeNotFoundException {
+      getAttributeCalls.incrementAndGet();
+      if (!values.containsKey(attribute)) {
+        throw new AttributeNotFoundException(attribute);
+      }
+      return values.get(attribute);
+    }
+
+    @Override
+    public AttributeList getAttributes(String[] attributes) {
+      getAttributesCalls.incrementAndGet();
+      String[] requestedAttributes = Arrays.copyOf(attributes, attributes.length);
+      firstRequestedAttributes.compareAndSet(null, requestedAttributes);
+      lastRequestedAttributes.set(requestedAttributes);
+      AttributeList list = new AttributeList();
+      for (String attribute : attributes) {
+        if (values.containsKey(attribute)) {
+          list.add(new Attribute(attribute, values.get(attribute)));
+        }
+      }
+      return list;
+    }
+
+    @Override
+    public void setAttribute(Attribute attribute) {
+      throw new UnsupportedOperationException();
+    }
+
+    @Override
+    public AttributeList setAttributes(AttributeList attributes) {
+      throw new UnsupportedOperationException();
+    }
+
+    @Override
+    public Object invoke(String actionName, Object[] params, String[] signature) {
+      throw new UnsupportedOperationException();
+    }
+
+    @Override
+    public MBeanInfo getMBeanInfo() {
+      MBeanAttributeInfo[] attributes = new MBeanAttributeInfo[values.size()];
+      int i = 0;
+      for (Map.Entry<String, Object> entry : values.entrySet()) {
+        attributes[i++] =
+            new MBeanAttributeInfo(
+                entry.getKey(), entry.getValue().getClass().getName(), "", true, false, false);
+      }
+      return new MBeanInfo(CountingMBean.class.getName(), "", attributes, null, null, null);
+    }
+  }
+}
@@ -10,6 +10,7 @@ package io.opentelemetry.instrumentation.jmx.engine;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.entry;
+import static org.assertj.core.api.Assertions.tuple;
 
 import io.opentelemetry.instrumentation.jmx.yaml.JmxConfig;
 import io.opentelemetry.instrumentation.jmx.yaml.JmxRule;
@@ -18,6 +19,7 @@ import io.opentelemetry.instrumentation.jmx.yaml.RuleParser;
 import java.io.ByteArrayInputStream;
 import java.io.InputStream;
 import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
 import java.util.List;
 import java.util.Map;
 import org.junit.jupiter.api.Assertions;
@@ -248,6 +250,39 @@ class RuleParserTest {
     assertThat(l1.acquireAttributeValue(null, null)).isEqualTo("value2");
   }
 
+  private static final String CONF_DYNAMIC =
+      "---                                   # keep stupid spotlessJava at bay\n"
+          + "rules:\n"
+          + "  - bean: my-test:type=dynamic\n"
+          + "    metricAttribute:\n"
+          + "      key1: beanattr(Name)\n"
+          + "      key2: dynamic(beanattr(State))\n"
+          + "      key3: dynamic( const(value3) )\n"
+          + "    mapping:\n"
+          + "      ATTRIBUTE:\n";
+
+  @Test
+  void testDynamicMetricAttributes() throws Exception {
+    InputStream is = new ByteArrayInputStream(CONF_DYNAMIC.getBytes(StandardCharsets.UTF_8));
+    JmxConfig config = parser.loadConfig(is);
+    assertThat(config).isNotNull();
+
+    MetricDef metricDef = config.getRules().get(0).buildMetricDef();
+    MetricExtractor m1 = metricDef.getMetricExtractors()[0];
+    assertThat(m1.hasDynamicAttributes()).isTrue();
+    assertThat(m1.getAttributes())
+        .extracting(MetricAttribute::getAttributeName, MetricAttribute::isDynamic)
+        .containsExactlyInAnyOrder(
+            tuple("key1", false), tuple("key2", true), tuple("key3", true));
+
+    MetricAttribute key3 =
+        Arrays.stream(m1.getAttributes())
+            .filter(attribute -> attribute.getAttributeName().equals("key3"))
+            .findFirst()
+            .get();
+    assertThat(key3.acquireAttributeValue(null, null)).isEqualTo("value3");
+  }
+
   private static final String CONF7 =
       "---                                   # keep stupid spotlessJava at bay\n"
           + "rules:\n"
@@ -5,7 +5,6 @@
 
 package io.opentelemetry.javaagent.instrumentation.lettuce.v5_0.rx;
 
-import static io.opentelemetry.javaagent.instrumentation.lettuce.v5_0.LettuceInstrumentationUtil.expectsResponse;
 import static net.bytebuddy.matcher.ElementMatchers.isMethod;
 import static net.bytebuddy.matcher.ElementMatchers.isPublic;
 import static net.bytebuddy.matcher.ElementMatchers.nameEndsWith;
@@ -21,7 +20,6 @@ import java.util.function.Supplier;
 import net.bytebuddy.asm.Advice;
 import net.bytebuddy.description.type.TypeDescription;
 import net.bytebuddy.matcher.ElementMatcher;
-import org.reactivestreams.Subscription;
 import reactor.core.publisher.Flux;
 import reactor.core.publisher.Mono;
 
@@ -65,14 +63,7 @@ public class LettuceReactiveCommandsInstrumentation implements TypeInstrumentati
     public static <K, V, T> void monitorSpan(
         @Advice.Enter RedisCommand<K, V, T> command,
         @Advice.Return(readOnly = false) Mono<T> publisher) {
-      boolean finishSpanOnClose = !expectsResponse(command);
-      LettuceMonoDualConsumer<? super Subscription, T> mdc =
-          new LettuceMonoDualConsumer<>(command, finishSpanOnClose);
-      publisher = publisher.doOnSubscribe(mdc);
-      // register the call back to close the span only if necessary
-      if (!finishSpanOnClose) {
-        publisher = publisher.doOnSuccessOrError(mdc);
-      }
+      publisher = new LettuceTracedMono<>(publisher, command);
     }
   }
 
@@ -90,18 +81,7 @@ public class LettuceReactiveCommandsInstrumentation implements TypeInstrumentati
     public static <K, V, T> void monitorSpan(
         @Advice.Enter RedisCommand<K, V, T> command,
         @Advice.Return(readOnly = false) Flux<T> publisher) {
-
-      boolean expectsResponse = expectsResponse(command);
-      LettuceFluxTerminationRunnable handler =
-          new LettuceFluxTerminationRunnable(command, expectsResponse);
-      publisher = publisher.doOnSubscribe(handler.getOnSubscribeConsumer());
-      // don't register extra callbacks to finish the spans if the command being instrumented is one
-      // of those that return
-      // Mono<Void> (In here a flux is created first and then converted to Mono<Void>)
-      if (expectsResponse) {
-        publisher = publisher.doOnEach(handler);
-        publisher = publisher.doOnCancel(handler);
-      }
+      publisher = new LettuceTracedFlux<>(publisher, command);
     }
   }
 }
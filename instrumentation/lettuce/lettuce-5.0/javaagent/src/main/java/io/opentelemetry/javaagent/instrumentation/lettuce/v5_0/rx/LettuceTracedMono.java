@@ -0,0 +1,27 @@
+/*
+ * Copyright The OpenTelemetry Authors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package io.opentelemetry.javaagent.instrumentation.lettuce.v5_0.rx;
+
+import io.lettuce.core.protocol.RedisCommand;
+import reactor.core.CoreSubscriber;
+import reactor.core.publisher.Mono;
+
+/** Traces each subscription to a {@link Mono} returned by the reactive redis commands. */
+public final class LettuceTracedMono<T> extends Mono<T> {
+
+  private final Mono<T> source;
+  private final RedisCommand<?, ?, ?> command;
+
+  public LettuceTracedMono(Mono<T> source, RedisCommand<?, ?, ?> command) {
+    this.source = source;
+    this.command = command;
+  }
+
+  @Override
+  public void subscribe(CoreSubscriber<? super T> actual) {
+    LettuceTracingSubscriber.subscribe(source, actual, command, /* endOnFirstValue= */ true);
+  }
+}
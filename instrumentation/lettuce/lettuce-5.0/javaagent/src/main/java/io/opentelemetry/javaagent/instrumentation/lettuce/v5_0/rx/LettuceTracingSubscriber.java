@@ -0,0 +1,168 @@
+/*
+ * Copyright The OpenTelemetry Authors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package io.opentelemetry.javaagent.instrumentation.lettuce.v5_0.rx;
+
+import static io.opentelemetry.javaagent.instrumentation.lettuce.v5_0.LettuceInstrumentationUtil.expectsResponse;
+import static io.opentelemetry.javaagent.instrumentation.lettuce.v5_0.LettuceSingletons.instrumenter;
+
+import io.lettuce.core.protocol.RedisCommand;
+import io.opentelemetry.api.trace.Span;
+import io.opentelemetry.context.Context;
+import io.opentelemetry.context.Scope;
+import io.opentelemetry.javaagent.bootstrap.internal.InstrumentationConfig;
+import java.util.concurrent.atomic.AtomicIntegerFieldUpdater;
+import javax.annotation.Nullable;
+import org.reactivestreams.Publisher;
+import org.reactivestreams.Subscription;
+import reactor.core.CoreSubscriber;
+
+/**
+ * Traces a single subscription to a reactive redis command: starts the span when subscribed, ends
+ * it when the command terminates or is cancelled, and makes the context the command was subscribed
+ * in current while signalling the downstream subscriber. Doing all of that in one subscriber
+ * avoids the operator and subscriber allocations of chaining {@code doOnSubscribe()}, {@code
+ * doOnEach()} and {@code doOnCancel()}.
+ */
+final class LettuceTracingSubscriber<T> implements CoreSubscriber<T>, Subscription {
+
+  private static final boolean CAPTURE_EXPERIMENTAL_SPAN_ATTRIBUTES =
+      InstrumentationConfig.get()
+          .getBoolean("otel.instrumentation.lettuce.experimental-span-attributes", false);
+
+  @SuppressWarnings("rawtypes")
+  private static final AtomicIntegerFieldUpdater<LettuceTracingSubscriber> ENDED =
+      AtomicIntegerFieldUpdater.newUpdater(LettuceTracingSubscriber.class, "ended");
+
+  private final CoreSubscriber<? super T> actual;
+  private final RedisCommand<?, ?, ?> command;
+  // null when there is no context to propagate to the downstream subscriber
+  @Nullable private final Context parentContext;
+  // null when there is no span to end
+  @Nullable private final Context context;
+  // a Mono completes with its only value, so the span can be ended on the first onNext()
+  private final boolean endOnFirstValue;
+  private final boolean captureExperimentalSpanAttributes;
+
+  private Subscription subscription;
+  private int numResults;
+  private volatile int ended;
+
+  private LettuceTracingSubscriber(
+      CoreSubscriber<? super T> actual,
+      RedisCommand<?, ?, ?> command,
+      @Nullable Context parentContext,
+      @Nullable Context context,
+      boolean endOnFirstValue) {
+    this.actual = actual;
+    this.command = command;
+    this.parentContext = parentContext;
+    this.context = context;
+    this.endOnFirstValue = endOnFirstValue;
+    // the result count and cancellation are only recorded for Flux commands, and skipped when the
+    // attributes would be dropped anyway because the span is not sampled
+    this.captureExperimentalSpanAttributes =
+        CAPTURE_EXPERIMENTAL_SPAN_ATTRIBUTES
+            && !endOnFirstValue
+            && context != null
+            && Span.fromContext(context).isRecording();
+  }
+
+  static <T> void subscribe(
+      Publisher<? extends T> source,
+      CoreSubscriber<? super T> actual,
+      RedisCommand<?, ?, ?> command,
+      boolean endOnFirstValue) {
+    Context parentContext = Context.current();
+    Context context = null;
+    if (instrumenter().shouldStart(parentContext, command)) {
+      context = instrumenter().start(parentContext, command);
+      // commands that do not have a response never complete, so they're ended right away
+      if (!expectsResponse(command)) {
+        instrumenter().end(context, command, null, null);
+        context = null;
+      }
+    }
+    boolean propagateContext = parentContext != Context.root();
+    if (context == null && !propagateContext) {
+      source.subscribe(actual);
+      return;
+    }
+    source.subscribe(
+        new LettuceTracingSubscriber<T>(
+            actual, command, propagateContext ? parentContext : null, context, endOnFirstValue));
+  }
+
+  @Override
+  public void onSubscribe(Subscription subscription) {
+    this.subscription = subscription;
+    try (Scope ignored = makeParentCurrent()) {
+      actual.onSubscribe(this);
+    }
+  }
+
+  @Override
+  public void onNext(T value) {
+    numResults++;
+    if (endOnFirstValue) {
+      end(/* isCommandCancelled= */ false, null);
+    }
+    try (Scope ignored = makeParentCurrent()) {
+      actual.onNext(value);
+    }
+  }
+
+  @Override
+  public void onError(Throwable throwable) {
+    end(/* isCommandCancelled= */ false, throwable);
+    try (Scope ignored = makeParentCurrent()) {
+      actual.onError(throwable);
+    }
+  }
+
+  @Override
+  public void onComplete() {
+    end(/* isCommandCancelled= */ false, null);
+    try (Scope ignored = makeParentCurrent()) {
+      actual.onComplete();
+    }
+  }
+
+  @Override
+  public reactor.util.context.Context currentContext() {
+    return actual.currentContext();
+  }
+
+  @Override
+  public void request(long n) {
+    subscription.request(n);
+  }
+
+  @Override
+  public void cancel() {
+    end(/* isCommandCancelled= */ true, null);
+    subscription.cancel();
+  }
+
+  @Nullable
+  private Scope makeParentCurrent() {
+    // try-with-resources skips closing a null resource
+    return parentContext == null ? null : parentContext.makeCurrent();
+  }
+
+  private void end(boolean isCommandCancelled, @Nullable Throwable throwable) {
+    if (context == null || !ENDED.compareAndSet(this, 0, 1)) {
+      return;
+    }
+    if (captureExperimentalSpanAttributes) {
+      Span span = Span.fromContext(context);
+      span.setAttribute("lettuce.command.results.count", numResults);
+      if (isCommandCancelled) {
+        span.setAttribute("lettuce.command.cancelled", true);
+      }
+    }
+    instrumenter().end(context, command, null, throwable);
+  }
+}
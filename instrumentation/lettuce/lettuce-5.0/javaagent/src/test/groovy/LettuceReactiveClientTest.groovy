@@ -258,6 +258,28 @@ class LettuceReactiveClientTest extends AgentInstrumentationSpecification {
     }
   }
 
+  def "cancelled mono command ends its span"() {
+    setup:
+    // blocks until the timeout as the list is empty, so it is cancelled before it completes
+    def disposable = reactiveCommands.blpop(1, "NON_EXISTENT_LIST").subscribe()
+    disposable.dispose()
+
+    expect:
+    assertTraces(1) {
+      trace(0, 1) {
+        span(0) {
+          name "BLPOP"
+          kind CLIENT
+          attributes {
+            "$SemanticAttributes.DB_SYSTEM" "redis"
+            "$SemanticAttributes.DB_STATEMENT" { it.startsWith("BLPOP") }
+            "$SemanticAttributes.DB_OPERATION" "BLPOP"
+          }
+        }
+      }
+    }
+  }
+
   def "non reactive command should not produce span"() {
     when:
     def res = reactiveCommands.digest(null)
@@ -1,6 +1,7 @@
 plugins {
   id("otel.library-instrumentation")
   id("otel.nullaway-conventions")
+  id("otel.jmh-conventions")
 }
 
 dependencies {
@@ -10,6 +11,9 @@ dependencies {
 
   testImplementation(project(":instrumentation:lettuce:lettuce-5.1:testing"))
   testImplementation(project(":instrumentation:reactor:reactor-3.1:library"))
+
+  jmhImplementation("io.lettuce:lettuce-core:5.1.0.RELEASE")
+  jmhImplementation("io.opentelemetry:opentelemetry-sdk")
 }
 
 tasks {
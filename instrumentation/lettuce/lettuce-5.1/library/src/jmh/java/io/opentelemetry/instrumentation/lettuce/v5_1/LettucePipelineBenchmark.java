@@ -0,0 +1,80 @@
+/*
+ * Copyright The OpenTelemetry Authors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package io.opentelemetry.instrumentation.lettuce.v5_1;
+
+import io.lettuce.core.tracing.Tracer;
+import io.opentelemetry.sdk.OpenTelemetrySdk;
+import io.opentelemetry.sdk.trace.SdkTracerProvider;
+import io.opentelemetry.sdk.trace.samplers.Sampler;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Measures the tracing of a pipeline of commands, which Lettuce all starts before the first reply
+ * arrives and finishes in order as the replies are read.
+ */
+@Fork(3)
+@Warmup(iterations = 10, time = 1)
+@Measurement(iterations = 5, time = 1)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@BenchmarkMode(Mode.AverageTime)
+@State(Scope.Thread)
+public class LettucePipelineBenchmark {
+
+  private static final int PIPELINE_SIZE = 100;
+
+  @Param({"true", "false"})
+  public boolean sampled;
+
+  private SdkTracerProvider tracerProvider;
+  private Tracer tracer;
+  private String[] args;
+  private Tracer.Span[] spans;
+
+  @Setup
+  public void setup() {
+    tracerProvider =
+        SdkTracerProvider.builder()
+            .setSampler(sampled ? Sampler.alwaysOn() : Sampler.alwaysOff())
+            .build();
+    OpenTelemetrySdk openTelemetry =
+        OpenTelemetrySdk.builder().setTracerProvider(tracerProvider).build();
+    tracer = LettuceTelemetry.create(openTelemetry).newTracing().getTracerProvider().getTracer();
+
+    args = new String[PIPELINE_SIZE];
+    for (int i = 0; i < PIPELINE_SIZE; i++) {
+      args[i] = "key<session:" + i + "> value<{\"user\":" + i + ",\"roles\":[\"admin\"]}>";
+    }
+    spans = new Tracer.Span[PIPELINE_SIZE];
+  }
+
+  @TearDown
+  public void tearDown() {
+    tracerProvider.close();
+  }
+
+  @Benchmark
+  public Tracer.Span[] pipeline() {
+    for (int i = 0; i < PIPELINE_SIZE; i++) {
+      spans[i] = tracer.nextSpan().name("SET").tag("redis.args", args[i]).start();
+    }
+    for (Tracer.Span span : spans) {
+      span.finish();
+    }
+    return spans;
+  }
+}
@@ -17,17 +17,19 @@ import java.util.List;
 // https://github.com/lettuce-io/lettuce-core/blob/main/src/main/java/io/lettuce/core/protocol/CommandArgs.java
 public final class OtelCommandArgsUtil {
 
+  private static final StringCodec STRING_CODEC = new StringCodec();
+
   /**
    * Extract argument {@link List} from {@link CommandArgs} so that we wouldn't need to parse them
    * from command {@link String} with {@link LettuceArgSplitter#splitArgs}.
+   *
+   * <p>The arguments are decoded when this method is called, as keys and values can be mutable
+   * objects, like byte arrays, that the application may change once the command is sent.
    */
   public static List<String> getCommandArgs(CommandArgs<?, ?> commandArgs) {
-    List<String> result = new ArrayList<>();
-    StringCodec stringCodec = new StringCodec();
-
+    List<String> result = new ArrayList<>(commandArgs.singularArguments.size());
     for (SingularArgument argument : commandArgs.singularArguments) {
-      String value = getArgValue(stringCodec, argument);
-      result.add(value);
+      result.add(getArgValue(STRING_CODEC, argument));
     }
     return result;
   }
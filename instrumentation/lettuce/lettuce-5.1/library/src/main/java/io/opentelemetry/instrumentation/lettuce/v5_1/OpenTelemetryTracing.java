@@ -225,7 +225,9 @@ final class OpenTelemetryTracing implements Tracing {
       }
       span.updateName(command.getType().name());
 
-      if (command.getArgs() != null) {
+      // the arguments are decoded when the command starts, so that later changes to them don't change
+      // the statement, but only when the statement is going to be recorded
+      if (command.getArgs() != null && span.isRecording()) {
         argsList = OtelCommandArgsUtil.getCommandArgs(command.getArgs());
       }
 
@@ -326,7 +328,9 @@ final class OpenTelemetryTracing implements Tracing {
     }
 
     private void finish(Span span) {
-      if (name != null) {
+      // the statement is only rendered for spans that are recorded, pipelined commands are mostly
+      // not sampled
+      if (name != null && span.isRecording()) {
         String statement =
             sanitizer.sanitize(name, argsList != null ? argsList : splitArgs(argsString));
         span.setAttribute(SemanticAttributes.DB_STATEMENT, statement);
@@ -0,0 +1,113 @@
+/*
+ * Copyright The OpenTelemetry Authors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package io.opentelemetry.instrumentation.lettuce.v5_1
+
+import io.lettuce.core.codec.RedisCodec
+import io.lettuce.core.output.StatusOutput
+import io.lettuce.core.protocol.Command
+import io.lettuce.core.protocol.CommandArgs
+import io.lettuce.core.protocol.CommandType
+import io.opentelemetry.instrumentation.test.InstrumentationSpecification
+import io.opentelemetry.instrumentation.test.LibraryTestTrait
+import io.opentelemetry.sdk.OpenTelemetrySdk
+import io.opentelemetry.sdk.trace.SdkTracerProvider
+import io.opentelemetry.sdk.trace.samplers.Sampler
+import io.opentelemetry.semconv.trace.attributes.SemanticAttributes
+
+import java.nio.ByteBuffer
+import java.nio.charset.StandardCharsets
+
+import static io.opentelemetry.api.trace.SpanKind.CLIENT
+
+// commands are started without a redis server here, the client tests cover the statements of the
+// commands that lettuce sends
+class LettuceCommandStatementTest extends InstrumentationSpecification implements LibraryTestTrait {
+
+  def "statement is rendered from the arguments at command start"() {
+    setup:
+    def tracer = LettuceTelemetry.create(getOpenTelemetry()).newTracing().getTracerProvider().getTracer()
+    def codec = new CountingCodec()
+    byte[] key = "key".getBytes(StandardCharsets.UTF_8)
+    def command = new Command<>(CommandType.SET, new StatusOutput<>(codec),
+      new CommandArgs<>(codec).addKey(key).addValue("value".getBytes(StandardCharsets.UTF_8)))
+
+    when:
+    def span = tracer.nextSpan().name("SET")
+    span.start(command)
+    // the application reuses the key once the command is sent
+    key[2] = (byte) 'z'
+    span.finish()
+
+    then:
+    codec.encodeCount > 0
+    assertTraces(1) {
+      trace(0, 1) {
+        span(0) {
+          name "SET"
+          kind CLIENT
+          attributes {
+            "$SemanticAttributes.DB_SYSTEM" "redis"
+            "$SemanticAttributes.DB_STATEMENT" "SET key ?"
+          }
+        }
+      }
+    }
+  }
+
+  def "arguments are not decoded for commands that are not recorded"() {
+    setup:
+    def tracerProvider = SdkTracerProvider.builder().setSampler(Sampler.alwaysOff()).build()
+    def openTelemetry = OpenTelemetrySdk.builder().setTracerProvider(tracerProvider).build()
+    def tracer = LettuceTelemetry.create(openTelemetry).newTracing().getTracerProvider().getTracer()
+    def codec = new CountingCodec()
+    def command = new Command<>(CommandType.SET, new StatusOutput<>(codec),
+      new CommandArgs<>(codec).addKey("key".getBytes(StandardCharsets.UTF_8))
+        .addValue("value".getBytes(StandardCharsets.UTF_8)))
+
+    when:
+    def span = tracer.nextSpan().name("SET")
+    span.start(command)
+    span.finish()
+
+    then:
+    codec.encodeCount == 0
+
+    cleanup:
+    tracerProvider.close()
+  }
+
+  static class CountingCodec implements RedisCodec<byte[], byte[]> {
+    int encodeCount
+
+    @Override
+    byte[] decodeKey(ByteBuffer bytes) {
+      return decode(bytes)
+    }
+
+    @Override
+    byte[] decodeValue(ByteBuffer bytes) {
+      return decode(bytes)
+    }
+
+    @Override
+    ByteBuffer encodeKey(byte[] key) {
+      encodeCount++
+      return ByteBuffer.wrap(key)
+    }
+
+    @Override
+    ByteBuffer encodeValue(byte[] value) {
+      encodeCount++
+      return ByteBuffer.wrap(value)
+    }
+
+    private static byte[] decode(ByteBuffer bytes) {
+      byte[] result = new byte[bytes.remaining()]
+      bytes.get(result)
+      return result
+    }
+  }
+}
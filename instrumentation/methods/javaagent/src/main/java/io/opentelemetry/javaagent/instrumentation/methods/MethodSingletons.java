@@ -6,18 +6,40 @@
 package io.opentelemetry.javaagent.instrumentation.methods;
 
 import io.opentelemetry.api.GlobalOpenTelemetry;
+import io.opentelemetry.instrumentation.api.annotation.support.async.AsyncOperationEndSupport;
 import io.opentelemetry.instrumentation.api.instrumenter.Instrumenter;
 import io.opentelemetry.instrumentation.api.instrumenter.SpanKindExtractor;
 import io.opentelemetry.instrumentation.api.instrumenter.code.CodeAttributesExtractor;
 import io.opentelemetry.instrumentation.api.instrumenter.code.CodeAttributesGetter;
 import io.opentelemetry.instrumentation.api.instrumenter.code.CodeSpanNameExtractor;
 import io.opentelemetry.instrumentation.api.instrumenter.util.ClassAndMethod;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
 
 public final class MethodSingletons {
   private static final String INSTRUMENTATION_NAME = "io.opentelemetry.methods";
 
   private static final Instrumenter<ClassAndMethod, Void> INSTRUMENTER;
 
+  // the advice only has constant class and method names, cache what is derived from them so that
+  // traced methods don't pay for it on every invocation
+  private static final ClassValue<Map<String, ClassAndMethod>> CLASS_AND_METHODS =
+      new ClassValue<Map<String, ClassAndMethod>>() {
+        @Override
+        protected Map<String, ClassAndMethod> computeValue(Class<?> type) {
+          return new ConcurrentHashMap<>();
+        }
+      };
+  private static final ClassValue<Map<String, AsyncOperationEndSupport<ClassAndMethod, Void>>>
+      END_SUPPORTS =
+          new ClassValue<Map<String, AsyncOperationEndSupport<ClassAndMethod, Void>>>() {
+            @Override
+            protected Map<String, AsyncOperationEndSupport<ClassAndMethod, Void>> computeValue(
+                Class<?> type) {
+              return new ConcurrentHashMap<>();
+            }
+          };
+
   static {
     CodeAttributesGetter<ClassAndMethod> codeAttributesGetter =
         ClassAndMethod.codeAttributesGetter();
@@ -35,5 +57,31 @@ public final class MethodSingletons {
     return INSTRUMENTER;
   }
 
+  public static ClassAndMethod classAndMethod(Class<?> declaringClass, String methodName) {
+    return CLASS_AND_METHODS
+        .get(declaringClass)
+        .computeIfAbsent(methodName, name -> ClassAndMethod.create(declaringClass, name));
+  }
+
+  public static AsyncOperationEndSupport<ClassAndMethod, Void> endSupport(
+      Class<?> declaringClass, String returnTypeName) {
+    return END_SUPPORTS
+        .get(declaringClass)
+        .computeIfAbsent(
+            returnTypeName,
+            name ->
+                AsyncOperationEndSupport.create(
+                    INSTRUMENTER, Void.class, loadReturnType(declaringClass, name)));
+  }
+
+  private static Class<?> loadReturnType(Class<?> declaringClass, String returnTypeName) {
+    try {
+      return Class.forName(returnTypeName, false, declaringClass.getClassLoader());
+    } catch (ClassNotFoundException e) {
+      // primitive return types can't be loaded, and can't be async either
+      return Object.class;
+    }
+  }
+
   private MethodSingletons() {}
 }
@@ -0,0 +1,108 @@
+/*
+ * Copyright The OpenTelemetry Authors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package io.opentelemetry.instrumentation.mongo.v3_1;
+
+import java.util.Arrays;
+import java.util.concurrent.TimeUnit;
+import org.bson.BsonArray;
+import org.bson.BsonDateTime;
+import org.bson.BsonDocument;
+import org.bson.BsonInt32;
+import org.bson.BsonString;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Measures sanitizing the statements of aggregation commands that have the same shape but
+ * different values, as an application running the same queries would send.
+ */
+@Fork(3)
+@Warmup(iterations = 10, time = 1)
+@Measurement(iterations = 5, time = 1)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@BenchmarkMode(Mode.AverageTime)
+@State(Scope.Thread)
+public class MongoDbAttributesGetterBenchmark {
+
+  private static final int COMMAND_COUNT = 128;
+
+  // the number of distinct query shapes among the commands
+  @Param({"1", "16"})
+  public int shapes;
+
+  private MongoDbAttributesGetter getter;
+  private BsonDocument[] commands;
+  private int index;
+
+  @Setup
+  public void setup() {
+    getter =
+        new MongoDbAttributesGetter(true, MongoTelemetryBuilder.DEFAULT_MAX_NORMALIZED_QUERY_LENGTH);
+    commands = new BsonDocument[COMMAND_COUNT];
+    for (int i = 0; i < COMMAND_COUNT; i++) {
+      commands[i] = aggregate(i, i % shapes);
+    }
+  }
+
+  @Benchmark
+  public String sanitizeAggregate() {
+    BsonDocument command = commands[index];
+    index = (index + 1) % COMMAND_COUNT;
+    return getter.sanitizeStatement(command);
+  }
+
+  private static BsonDocument aggregate(int value, int shape) {
+    BsonDocument match =
+        new BsonDocument("status", new BsonString("status-" + value))
+            .append(
+                "createdAt",
+                new BsonDocument("$gte", new BsonDateTime(1_600_000_000_000L + value))
+                    .append("$lt", new BsonDateTime(1_700_000_000_000L + value)))
+            .append(
+                "region",
+                new BsonDocument(
+                    "$in",
+                    new BsonArray(
+                        Arrays.asList(
+                            new BsonString("eu-" + value), new BsonString("us-" + value)))));
+    // a distinct field name per shape
+    match.append("tenant" + shape, new BsonInt32(value));
+
+    BsonArray pipeline =
+        new BsonArray(
+            Arrays.asList(
+                new BsonDocument("$match", match),
+                new BsonDocument(
+                    "$lookup",
+                    new BsonDocument("from", new BsonString("customers"))
+                        .append("localField", new BsonString("customerId"))
+                        .append("foreignField", new BsonString("_id"))
+                        .append("as", new BsonString("customer"))),
+                new BsonDocument("$unwind", new BsonString("$customer")),
+                new BsonDocument(
+                    "$group",
+                    new BsonDocument("_id", new BsonString("$customer.country"))
+                        .append("total", new BsonDocument("$sum", new BsonString("$amount")))
+                        .append("orders", new BsonDocument("$sum", new BsonInt32(1)))),
+                new BsonDocument("$sort", new BsonDocument("total", new BsonInt32(-1))),
+                new BsonDocument("$limit", new BsonInt32(10 + value))));
+
+    return new BsonDocument("aggregate", new BsonString("orders"))
+        .append("pipeline", pipeline)
+        .append("allowDiskUse", new BsonInt32(value % 2))
+        .append("cursor", new BsonDocument("batchSize", new BsonInt32(100 + value)))
+        .append("$db", new BsonString("shop"));
+  }
+}
@@ -0,0 +1,151 @@
+/*
+ * Copyright The OpenTelemetry Authors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package io.opentelemetry.instrumentation.mongo.v3_1;
+
+import java.util.Map;
+import javax.annotation.Nullable;
+import org.bson.BsonArray;
+import org.bson.BsonDocument;
+import org.bson.BsonValue;
+
+/**
+ * The shape of a command: everything of a command that ends up in its sanitized statement, that is
+ * the field names, the nesting of documents and arrays, and the value of the first field of the
+ * command, which is preserved when sanitizing. Other values are replaced when sanitizing, so they
+ * are not part of the shape. Commands with equal shapes have the same sanitized statement.
+ *
+ * <p>The shape ends once the statement written so far is known to be longer than the maximum
+ * statement length, as the rest of the command is truncated anyway.
+ */
+final class CommandShape {
+
+  private static final char DOCUMENT_START = '{';
+  private static final char DOCUMENT_END = '}';
+  private static final char ARRAY_START = '[';
+  private static final char ARRAY_END = ']';
+  private static final char NAME = 'n';
+  private static final char VALUE = '?';
+  private static final char PRESERVED_VALUE = 'v';
+  private static final char TRUNCATED = '!';
+
+  // an unambiguous encoding of the shape, names and preserved values are prefixed with their length
+  private final String encoded;
+
+  private CommandShape(String encoded) {
+    this.encoded = encoded;
+  }
+
+  static CommandShape of(BsonDocument command, int maxLength) {
+    Encoder encoder = new Encoder(maxLength);
+    encoder.add(command, /* isRoot= */ true);
+    return new CommandShape(encoder.builder.toString());
+  }
+
+  /** Returns an estimate of the memory used by this shape, in characters. */
+  int weight() {
+    return encoded.length();
+  }
+
+  @Override
+  public boolean equals(@Nullable Object obj) {
+    if (this == obj) {
+      return true;
+    }
+    if (!(obj instanceof CommandShape)) {
+      return false;
+    }
+    return encoded.equals(((CommandShape) obj).encoded);
+  }
+
+  @Override
+  public int hashCode() {
+    return encoded.hashCode();
+  }
+
+  @Override
+  public String toString() {
+    return encoded;
+  }
+
+  private static final class Encoder {
+    private final int maxLength;
+    private final StringBuilder builder = new StringBuilder(64);
+    // a lower bound of the length of the statement written for the encoded part of the command
+    private int length;
+
+    private Encoder(int maxLength) {
+      this.maxLength = maxLength;
+    }
+
+    // the methods return true when the rest of the command does not change the statement
+    private boolean add(BsonDocument document, boolean isRoot) {
+      if (append(DOCUMENT_START, 1)) {
+        return true;
+      }
+      boolean firstField = true;
+      for (Map.Entry<String, BsonValue> entry : document.entrySet()) {
+        // "name": plus the quoted name
+        if (append(NAME, 3) || append(entry.getKey())) {
+          return true;
+        }
+        // same condition as in MongoDbAttributesGetter.writeScrubbed
+        if (isRoot && firstField && entry.getValue().isString()) {
+          String value = entry.getValue().asString().getValue();
+          if (append(PRESERVED_VALUE, 2) || append(value)) {
+            return true;
+          }
+        } else if (add(entry.getValue())) {
+          return true;
+        }
+        firstField = false;
+      }
+      return append(DOCUMENT_END, 1);
+    }
+
+    private boolean add(BsonArray array) {
+      if (append(ARRAY_START, 1)) {
+        return true;
+      }
+      for (BsonValue value : array) {
+        if (add(value)) {
+          return true;
+        }
+      }
+      return append(ARRAY_END, 1);
+    }
+
+    private boolean add(BsonValue value) {
+      if (value.isDocument()) {
+        return add(value.asDocument(), /* isRoot= */ false);
+      } else if (value.isArray()) {
+        return add(value.asArray());
+      } else {
+        // "?"
+        return append(VALUE, 3);
+      }
+    }
+
+    private boolean append(char token, int tokenLength) {
+      builder.append(token);
+      return addLength(tokenLength);
+    }
+
+    private boolean append(String string) {
+      // the length keeps names like "ab" + "c" and "a" + "bc" apart
+      builder.append(string.length()).append(':').append(string);
+      return addLength(string.length());
+    }
+
+    private boolean addLength(int tokenLength) {
+      length += tokenLength;
+      if (length > maxLength) {
+        builder.append(TRUNCATED);
+        return true;
+      }
+      return false;
+    }
+  }
+}
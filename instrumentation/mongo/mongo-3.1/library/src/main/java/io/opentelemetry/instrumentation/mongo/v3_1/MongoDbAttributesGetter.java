@@ -9,6 +9,7 @@ import com.mongodb.ServerAddress;
 import com.mongodb.connection.ConnectionDescription;
 import com.mongodb.event.CommandStartedEvent;
 import io.opentelemetry.instrumentation.api.instrumenter.db.DbClientAttributesGetter;
+import io.opentelemetry.instrumentation.api.internal.cache.Cache;
 import io.opentelemetry.semconv.trace.attributes.SemanticAttributes;
 import java.lang.reflect.InvocationTargetException;
 import java.lang.reflect.Method;
@@ -28,6 +29,8 @@ class MongoDbAttributesGetter implements DbClientAttributesGetter<CommandStarted
 
   @Nullable private static final Method IS_TRUNCATED_METHOD;
   private static final String HIDDEN_CHAR = "?";
+  // in characters of the cached statements
+  private static final long SANITIZED_STATEMENT_CACHE_MAX_WEIGHT = 1024 * 1024;
 
   static {
     IS_TRUNCATED_METHOD =
@@ -40,6 +43,12 @@ class MongoDbAttributesGetter implements DbClientAttributesGetter<CommandStarted
   private final boolean statementSanitizationEnabled;
   private final int maxNormalizedQueryLength;
   @Nullable private final JsonWriterSettings jsonWriterSettings;
+  // sanitized statements by the shape of the commands they were written for, commands of the same
+  // shape only differ in values that are replaced when sanitizing
+  private final Cache<CommandShape, String> sanitizedStatements =
+      Cache.bounded(
+          SANITIZED_STATEMENT_CACHE_MAX_WEIGHT,
+          (shape, statement) -> 1 + shape.weight() + statement.length());
 
   MongoDbAttributesGetter(boolean statementSanitizationEnabled, int maxNormalizedQueryLength) {
     this.statementSanitizationEnabled = statementSanitizationEnabled;
@@ -94,6 +103,14 @@ class MongoDbAttributesGetter implements DbClientAttributesGetter<CommandStarted
   }
 
   String sanitizeStatement(BsonDocument command) {
+    if (statementSanitizationEnabled) {
+      return sanitizedStatements.computeIfAbsent(
+          CommandShape.of(command, maxNormalizedQueryLength), shape -> writeStatement(command));
+    }
+    return writeStatement(command);
+  }
+
+  private String writeStatement(BsonDocument command) {
     StringBuilderWriter stringWriter = new StringBuilderWriter(128);
     // jsonWriterSettings is generally not null but could be due to security manager or unknown
     // API incompatibilities, which we can't detect by Muzzle because we use reflection.
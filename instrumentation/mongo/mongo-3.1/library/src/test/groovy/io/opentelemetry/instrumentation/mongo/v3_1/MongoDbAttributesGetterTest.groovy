@@ -74,6 +74,78 @@ class MongoDbAttributesGetterTest extends Specification {
     normalized == '{"cmd": "c", "f1": ["?", "?' || normalized == '{"cmd": "c", "f1": ["?",'
   }
 
+  def 'should sanitize commands of the same shape to the same statement'() {
+    setup:
+    def extractor = new MongoDbAttributesGetter(true, DEFAULT_MAX_NORMALIZED_QUERY_LENGTH)
+
+    expect:
+    sanitizeStatementAcrossVersions(extractor,
+      new BsonDocument("find", new BsonString("c1"))
+        .append("filter", new BsonDocument("a", new BsonInt32(1)))) ==
+      '{"find": "c1", "filter": {"a": "?"}}'
+
+    sanitizeStatementAcrossVersions(extractor,
+      new BsonDocument("find", new BsonString("c1"))
+        .append("filter", new BsonDocument("a", new BsonString("value")))) ==
+      '{"find": "c1", "filter": {"a": "?"}}'
+
+    sanitizeStatementAcrossVersions(extractor,
+      new BsonDocument("find", new BsonString("c2"))
+        .append("filter", new BsonDocument("a", new BsonInt32(1)))) ==
+      '{"find": "c2", "filter": {"a": "?"}}'
+
+    sanitizeStatementAcrossVersions(extractor,
+      new BsonDocument("find", new BsonString("c1"))
+        .append("filter", new BsonDocument("b", new BsonInt32(1)))) ==
+      '{"find": "c1", "filter": {"b": "?"}}'
+
+    sanitizeStatementAcrossVersions(extractor,
+      new BsonDocument("find", new BsonString("c1"))
+        .append("filter", new BsonArray(asList(new BsonInt32(1), new BsonInt32(2))))) ==
+      '{"find": "c1", "filter": ["?", "?"]}'
+
+    sanitizeStatementAcrossVersions(extractor,
+      new BsonDocument("find", new BsonString("c1"))
+        .append("filter", new BsonArray(asList(new BsonDocument("a", new BsonInt32(1)))))) ==
+      '{"find": "c1", "filter": [{"a": "?"}]}'
+  }
+
+  def 'should truncate commands that only differ after the maximum length'() {
+    setup:
+    def extractor = new MongoDbAttributesGetter(true, 20)
+
+    def first = sanitizeStatementAcrossVersions(extractor,
+      new BsonDocument("cmd", new BsonString("c"))
+        .append("f1", new BsonString("c1"))
+        .append("f2", new BsonString("c2")))
+    def second = sanitizeStatementAcrossVersions(extractor,
+      new BsonDocument("cmd", new BsonString("c"))
+        .append("f1", new BsonString("c1"))
+        .append("f3", new BsonArray(asList(new BsonString("c2")))))
+    expect:
+    first == second
+  }
+
+  def 'should compare command shapes by their content'() {
+    setup:
+    def command = new BsonDocument("find", new BsonString("c1"))
+      .append("filter", new BsonDocument("a", new BsonInt32(1)))
+    def sameShape = new BsonDocument("find", new BsonString("c1"))
+      .append("filter", new BsonDocument("a", new BsonString("value")))
+    // names that contain the characters used to encode the shape
+    def first = new BsonDocument("cmd", new BsonString("c"))
+      .append("a", new BsonInt32(1))
+      .append("n1:b", new BsonInt32(1))
+    def second = new BsonDocument("cmd", new BsonString("c"))
+      .append("a?n1:b", new BsonInt32(1))
+
+    expect:
+    CommandShape.of(command, 100) == CommandShape.of(sameShape, 100)
+    CommandShape.of(command, 100).hashCode() == CommandShape.of(sameShape, 100).hashCode()
+    CommandShape.of(command, 100) != CommandShape.of(command.clone().append("b", new BsonInt32(1)), 100)
+    CommandShape.of(first, 100) != CommandShape.of(second, 100)
+  }
+
   def sanitizeStatementAcrossVersions(MongoDbAttributesGetter extractor, BsonDocument query) {
     return sanitizeAcrossVersions(extractor.sanitizeStatement(query))
   }
@@ -24,12 +24,12 @@ public final class AnnotationSingletons {
       "io.opentelemetry.opentelemetry-instrumentation-annotations-1.16";
 
   private static final Logger logger = Logger.getLogger(AnnotationSingletons.class.getName());
-  private static final Instrumenter<Method, Object> INSTRUMENTER = createInstrumenter();
+  private static final Instrumenter<WithSpanMethod, Object> INSTRUMENTER = createInstrumenter();
   private static final Instrumenter<MethodRequest, Object> INSTRUMENTER_WITH_ATTRIBUTES =
       createInstrumenterWithAttributes();
   private static final SpanAttributesExtractor ATTRIBUTES = createAttributesExtractor();
 
-  public static Instrumenter<Method, Object> instrumenter() {
+  public static Instrumenter<WithSpanMethod, Object> instrumenter() {
     return INSTRUMENTER;
   }
 
@@ -41,20 +41,19 @@ public final class AnnotationSingletons {
     return ATTRIBUTES;
   }
 
-  private static Instrumenter<Method, Object> createInstrumenter() {
-    return Instrumenter.builder(
-            GlobalOpenTelemetry.get(),
-            INSTRUMENTATION_NAME,
-            AnnotationSingletons::spanNameFromMethod)
-        .addAttributesExtractor(CodeAttributesExtractor.create(MethodCodeAttributesGetter.INSTANCE))
-        .buildInstrumenter(AnnotationSingletons::spanKindFromMethod);
+  private static Instrumenter<WithSpanMethod, Object> createInstrumenter() {
+    return Instrumenter.<WithSpanMethod, Object>builder(
+            GlobalOpenTelemetry.get(), INSTRUMENTATION_NAME, WithSpanMethod::spanName)
+        .addAttributesExtractor(
+            CodeAttributesExtractor.create(WithSpanMethodCodeAttributesGetter.INSTANCE))
+        .buildInstrumenter(WithSpanMethod::spanKind);
   }
 
   private static Instrumenter<MethodRequest, Object> createInstrumenterWithAttributes() {
-    return Instrumenter.builder(
+    return Instrumenter.<MethodRequest, Object>builder(
             GlobalOpenTelemetry.get(),
             INSTRUMENTATION_NAME,
-            AnnotationSingletons::spanNameFromMethodRequest)
+            request -> request.withSpanMethod().spanName())
         .addAttributesExtractor(
             CodeAttributesExtractor.create(MethodRequestCodeAttributesGetter.INSTANCE))
         .addAttributesExtractor(
@@ -62,18 +61,14 @@ public final class AnnotationSingletons {
                 MethodRequest::method,
                 WithSpanParameterAttributeNamesExtractor.INSTANCE,
                 MethodRequest::args))
-        .buildInstrumenter(AnnotationSingletons::spanKindFromMethodRequest);
+        .buildInstrumenter(request -> request.withSpanMethod().spanKind());
   }
 
   private static SpanAttributesExtractor createAttributesExtractor() {
     return SpanAttributesExtractor.create(WithSpanParameterAttributeNamesExtractor.INSTANCE);
   }
 
-  private static SpanKind spanKindFromMethodRequest(MethodRequest request) {
-    return spanKindFromMethod(request.method());
-  }
-
-  private static SpanKind spanKindFromMethod(Method method) {
+  static SpanKind spanKindFromMethod(Method method) {
     WithSpan annotation = method.getDeclaredAnnotation(WithSpan.class);
     if (annotation == null) {
       return SpanKind.INTERNAL;
@@ -91,11 +86,7 @@ public final class AnnotationSingletons {
     }
   }
 
-  private static String spanNameFromMethodRequest(MethodRequest request) {
-    return spanNameFromMethod(request.method());
-  }
-
-  private static String spanNameFromMethod(Method method) {
+  static String spanNameFromMethod(Method method) {
     WithSpan annotation = method.getDeclaredAnnotation(WithSpan.class);
     String spanName = annotation.value();
     if (spanName.isEmpty()) {
@@ -8,16 +8,20 @@ package io.opentelemetry.javaagent.instrumentation.instrumentationannotations;
 import java.lang.reflect.Method;
 
 public final class MethodRequest {
-  private final Method method;
+  private final WithSpanMethod withSpanMethod;
   private final Object[] args;
 
-  public MethodRequest(Method method, Object[] args) {
-    this.method = method;
+  public MethodRequest(WithSpanMethod withSpanMethod, Object[] args) {
+    this.withSpanMethod = withSpanMethod;
     this.args = args;
   }
 
+  public WithSpanMethod withSpanMethod() {
+    return this.withSpanMethod;
+  }
+
   public Method method() {
-    return this.method;
+    return this.withSpanMethod.method();
   }
 
   public Object[] args() {
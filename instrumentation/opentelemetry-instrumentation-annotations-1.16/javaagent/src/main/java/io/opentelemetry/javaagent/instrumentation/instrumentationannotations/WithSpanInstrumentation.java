@@ -16,12 +16,10 @@ import static net.bytebuddy.matcher.ElementMatchers.whereAny;
 
 import io.opentelemetry.context.Context;
 import io.opentelemetry.context.Scope;
-import io.opentelemetry.instrumentation.api.annotation.support.async.AsyncOperationEndSupport;
 import io.opentelemetry.instrumentation.api.instrumenter.Instrumenter;
 import io.opentelemetry.javaagent.bootstrap.Java8BytecodeBridge;
 import io.opentelemetry.javaagent.extension.instrumentation.TypeInstrumentation;
 import io.opentelemetry.javaagent.extension.instrumentation.TypeTransformer;
-import java.lang.reflect.Method;
 import net.bytebuddy.asm.Advice;
 import net.bytebuddy.description.annotation.AnnotationSource;
 import net.bytebuddy.description.method.MethodDescription;
@@ -79,15 +77,19 @@ public class WithSpanInstrumentation implements TypeInstrumentation {
 
     @Advice.OnMethodEnter(suppress = Throwable.class)
     public static void onEnter(
-        @Advice.Origin Method originMethod,
-        @Advice.Local("otelMethod") Method method,
+        @Advice.Origin("#t") Class<?> declaringClass,
+        @Advice.Origin("#m#d") String methodNameAndDescriptor,
+        @Advice.Local("otelMethod") WithSpanMethod method,
         @Advice.Local("otelContext") Context context,
         @Advice.Local("otelScope") Scope scope) {
-      // Every usage of @Advice.Origin Method is replaced with a call to Class.getMethod, copy it
-      // to local variable so that there would be only one call to Class.getMethod.
-      method = originMethod;
+      // @Advice.Origin Method would be replaced with a call to Class.getMethod on every
+      // invocation, the class and the method descriptor are constants
+      method = WithSpanMethod.get(declaringClass, methodNameAndDescriptor);
+      if (method == null) {
+        return;
+      }
 
-      Instrumenter<Method, Object> instrumenter = instrumenter();
+      Instrumenter<WithSpanMethod, Object> instrumenter = instrumenter();
       Context current = Java8BytecodeBridge.currentContext();
 
       if (instrumenter.shouldStart(current, method)) {
@@ -98,7 +100,7 @@ public class WithSpanInstrumentation implements TypeInstrumentation {
 
     @Advice.OnMethodExit(onThrowable = Throwable.class, suppress = Throwable.class)
     public static void stopSpan(
-        @Advice.Local("otelMethod") Method method,
+        @Advice.Local("otelMethod") WithSpanMethod method,
         @Advice.Local("otelContext") Context context,
         @Advice.Local("otelScope") Scope scope,
         @Advice.Return(typing = Assigner.Typing.DYNAMIC, readOnly = false) Object returnValue,
@@ -108,9 +110,7 @@ public class WithSpanInstrumentation implements TypeInstrumentation {
       }
       scope.close();
 
-      AsyncOperationEndSupport<Method, Object> operationEndSupport =
-          AsyncOperationEndSupport.create(instrumenter(), Object.class, method.getReturnType());
-      returnValue = operationEndSupport.asyncEnd(context, method, returnValue, throwable);
+      returnValue = method.endSupport().asyncEnd(context, method, returnValue, throwable);
     }
   }
 
@@ -119,16 +119,19 @@ public class WithSpanInstrumentation implements TypeInstrumentation {
 
     @Advice.OnMethodEnter(suppress = Throwable.class)
     public static void onEnter(
-        @Advice.Origin Method originMethod,
-        @Advice.Local("otelMethod") Method method,
+        @Advice.Origin("#t") Class<?> declaringClass,
+        @Advice.Origin("#m#d") String methodNameAndDescriptor,
         @Advice.AllArguments(typing = Assigner.Typing.DYNAMIC) Object[] args,
         @Advice.Local("otelRequest") MethodRequest request,
         @Advice.Local("otelContext") Context context,
         @Advice.Local("otelScope") Scope scope) {
 
-      // Every usage of @Advice.Origin Method is replaced with a call to Class.getMethod, copy it
-      // to local variable so that there would be only one call to Class.getMethod.
-      method = originMethod;
+      // @Advice.Origin Method would be replaced with a call to Class.getMethod on every
+      // invocation, the class and the method descriptor are constants
+      WithSpanMethod method = WithSpanMethod.get(declaringClass, methodNameAndDescriptor);
+      if (method == null) {
+        return;
+      }
 
       Instrumenter<MethodRequest, Object> instrumenter = instrumenterWithAttributes();
       Context current = Java8BytecodeBridge.currentContext();
@@ -142,7 +145,6 @@ public class WithSpanInstrumentation implements TypeInstrumentation {
 
     @Advice.OnMethodExit(onThrowable = Throwable.class, suppress = Throwable.class)
     public static void stopSpan(
-        @Advice.Local("otelMethod") Method method,
         @Advice.Local("otelRequest") MethodRequest request,
         @Advice.Local("otelContext") Context context,
         @Advice.Local("otelScope") Scope scope,
@@ -152,10 +154,11 @@ public class WithSpanInstrumentation implements TypeInstrumentation {
         return;
       }
       scope.close();
-      AsyncOperationEndSupport<MethodRequest, Object> operationEndSupport =
-          AsyncOperationEndSupport.create(
-              instrumenterWithAttributes(), Object.class, method.getReturnType());
-      returnValue = operationEndSupport.asyncEnd(context, request, returnValue, throwable);
+      returnValue =
+          request
+              .withSpanMethod()
+              .endSupportWithAttributes()
+              .asyncEnd(context, request, returnValue, throwable);
     }
   }
 }
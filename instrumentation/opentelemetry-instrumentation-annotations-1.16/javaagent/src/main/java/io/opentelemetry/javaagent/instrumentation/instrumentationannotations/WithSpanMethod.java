@@ -0,0 +1,144 @@
+/*
+ * Copyright The OpenTelemetry Authors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package io.opentelemetry.javaagent.instrumentation.instrumentationannotations;
+
+import static io.opentelemetry.javaagent.instrumentation.instrumentationannotations.AnnotationSingletons.instrumenter;
+import static io.opentelemetry.javaagent.instrumentation.instrumentationannotations.AnnotationSingletons.instrumenterWithAttributes;
+
+import io.opentelemetry.api.trace.SpanKind;
+import io.opentelemetry.instrumentation.api.annotation.support.async.AsyncOperationEndSupport;
+import java.lang.reflect.Method;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import javax.annotation.Nullable;
+
+/**
+ * Everything the {@code @WithSpan} advice needs to know about a traced method, resolved once per
+ * method instead of on every invocation.
+ *
+ * <p>The advice identifies the method by its declaring class and its name and descriptor, which
+ * ByteBuddy inlines as constants. Using {@code @Advice.Origin Method} instead would make ByteBuddy
+ * emit a {@code Class.getMethod} call on every invocation of the traced method.
+ */
+public final class WithSpanMethod {
+
+  private static final ClassValue<Map<String, WithSpanMethod>> cache =
+      new ClassValue<Map<String, WithSpanMethod>>() {
+        @Override
+        protected Map<String, WithSpanMethod> computeValue(Class<?> type) {
+          return new ConcurrentHashMap<>();
+        }
+      };
+
+  private final Method method;
+  private final String spanName;
+  private final SpanKind spanKind;
+  private final AsyncOperationEndSupport<WithSpanMethod, Object> endSupport;
+  private final AsyncOperationEndSupport<MethodRequest, Object> endSupportWithAttributes;
+
+  private WithSpanMethod(Method method) {
+    this.method = method;
+    this.spanName = AnnotationSingletons.spanNameFromMethod(method);
+    this.spanKind = AnnotationSingletons.spanKindFromMethod(method);
+    this.endSupport =
+        AsyncOperationEndSupport.create(instrumenter(), Object.class, method.getReturnType());
+    this.endSupportWithAttributes =
+        AsyncOperationEndSupport.create(
+            instrumenterWithAttributes(), Object.class, method.getReturnType());
+  }
+
+  /**
+   * Returns the traced method declared by {@code declaringClass} whose name and descriptor
+   * concatenated equal {@code methodNameAndDescriptor}, or {@code null} if there is no such method.
+   */
+  @Nullable
+  public static WithSpanMethod get(Class<?> declaringClass, String methodNameAndDescriptor) {
+    Map<String, WithSpanMethod> methods = cache.get(declaringClass);
+    WithSpanMethod withSpanMethod = methods.get(methodNameAndDescriptor);
+    if (withSpanMethod == null) {
+      Method method = findMethod(declaringClass, methodNameAndDescriptor);
+      if (method == null) {
+        return null;
+      }
+      withSpanMethod = new WithSpanMethod(method);
+      WithSpanMethod existing = methods.putIfAbsent(methodNameAndDescriptor, withSpanMethod);
+      if (existing != null) {
+        withSpanMethod = existing;
+      }
+    }
+    return withSpanMethod;
+  }
+
+  @Nullable
+  private static Method findMethod(Class<?> declaringClass, String methodNameAndDescriptor) {
+    for (Method method : declaringClass.getDeclaredMethods()) {
+      String name = method.getName();
+      if (methodNameAndDescriptor.startsWith(name)
+          && methodNameAndDescriptor.equals(name + descriptor(method))) {
+        return method;
+      }
+    }
+    return null;
+  }
+
+  private static String descriptor(Method method) {
+    StringBuilder descriptor = new StringBuilder("(");
+    for (Class<?> parameterType : method.getParameterTypes()) {
+      appendDescriptor(descriptor, parameterType);
+    }
+    descriptor.append(')');
+    appendDescriptor(descriptor, method.getReturnType());
+    return descriptor.toString();
+  }
+
+  private static void appendDescriptor(StringBuilder descriptor, Class<?> type) {
+    while (type.isArray()) {
+      descriptor.append('[');
+      type = type.getComponentType();
+    }
+    if (type == void.class) {
+      descriptor.append('V');
+    } else if (type == boolean.class) {
+      descriptor.append('Z');
+    } else if (type == byte.class) {
+      descriptor.append('B');
+    } else if (type == char.class) {
+      descriptor.append('C');
+    } else if (type == short.class) {
+      descriptor.append('S');
+    } else if (type == int.class) {
+      descriptor.append('I');
+    } else if (type == long.class) {
+      descriptor.append('J');
+    } else if (type == float.class) {
+      descriptor.append('F');
+    } else if (type == double.class) {
+      descriptor.append('D');
+    } else {
+      descriptor.append('L').append(type.getName().replace('.', '/')).append(';');
+    }
+  }
+
+  public Method method() {
+    return method;
+  }
+
+  String spanName() {
+    return spanName;
+  }
+
+  SpanKind spanKind() {
+    return spanKind;
+  }
+
+  public AsyncOperationEndSupport<WithSpanMethod, Object> endSupport() {
+    return endSupport;
+  }
+
+  public AsyncOperationEndSupport<MethodRequest, Object> endSupportWithAttributes() {
+    return endSupportWithAttributes;
+  }
+}
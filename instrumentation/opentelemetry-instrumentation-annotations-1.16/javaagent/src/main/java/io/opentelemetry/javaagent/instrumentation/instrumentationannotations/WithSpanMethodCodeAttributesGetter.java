@@ -0,0 +1,22 @@
+/*
+ * Copyright The OpenTelemetry Authors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package io.opentelemetry.javaagent.instrumentation.instrumentationannotations;
+
+import io.opentelemetry.instrumentation.api.instrumenter.code.CodeAttributesGetter;
+
+enum WithSpanMethodCodeAttributesGetter implements CodeAttributesGetter<WithSpanMethod> {
+  INSTANCE;
+
+  @Override
+  public Class<?> getCodeClass(WithSpanMethod withSpanMethod) {
+    return withSpanMethod.method().getDeclaringClass();
+  }
+
+  @Override
+  public String getMethodName(WithSpanMethod withSpanMethod) {
+    return withSpanMethod.method().getName();
+  }
+}
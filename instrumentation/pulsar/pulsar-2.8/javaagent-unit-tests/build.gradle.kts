@@ -3,5 +3,7 @@ plugins {
 }
 
 dependencies {
+  testImplementation(project(":instrumentation-api"))
   testImplementation(project(":instrumentation:pulsar:pulsar-2.8:javaagent"))
+  testImplementation("org.apache.pulsar:pulsar-client:2.8.0")
 }
@@ -0,0 +1,89 @@
+/*
+ * Copyright The OpenTelemetry Authors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package io.opentelemetry.javaagent.instrumentation.pulsar.v2_8.telemetry;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import io.opentelemetry.api.trace.SpanContext;
+import io.opentelemetry.api.trace.propagation.W3CTraceContextPropagator;
+import io.opentelemetry.context.Context;
+import io.opentelemetry.instrumentation.api.instrumenter.SpanLinksBuilder;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.stream.Collectors;
+import org.apache.pulsar.client.api.Message;
+import org.apache.pulsar.client.api.Messages;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+
+class PulsarBatchRequestSpanLinksExtractorTest {
+
+  @Test
+  void linksUpToMaxLinksMessages() {
+    assertThat(extractLinks(10, 3, false)).containsExactly(spanId(0), spanId(1), spanId(2));
+  }
+
+  @Test
+  void samplesLinksOverTheWholeBatch() {
+    // every 4th message is linked, a step of 3 would leave the end of the batch unlinked
+    assertThat(extractLinks(10, 3, true)).containsExactly(spanId(0), spanId(4), spanId(8));
+    assertThat(extractLinks(9, 3, true)).containsExactly(spanId(0), spanId(3), spanId(6));
+  }
+
+  @Test
+  void linksAllMessagesOfASmallBatch() {
+    assertThat(extractLinks(2, 3, true)).containsExactly(spanId(0), spanId(1));
+    assertThat(extractLinks(2, 3, false)).containsExactly(spanId(0), spanId(1));
+  }
+
+  @Test
+  void doesNotLinkWhenDisabled() {
+    SpanLinksBuilder spanLinks = mock(SpanLinksBuilder.class);
+    new PulsarBatchRequestSpanLinksExtractor(W3CTraceContextPropagator.getInstance(), 0, false)
+        .extract(spanLinks, Context.root(), batchRequest(3));
+
+    verify(spanLinks, never()).addLink(any());
+  }
+
+  private static List<String> extractLinks(int messages, int maxLinks, boolean sampleLinks) {
+    SpanLinksBuilder spanLinks = mock(SpanLinksBuilder.class);
+    new PulsarBatchRequestSpanLinksExtractor(
+            W3CTraceContextPropagator.getInstance(), maxLinks, sampleLinks)
+        .extract(spanLinks, Context.root(), batchRequest(messages));
+
+    ArgumentCaptor<SpanContext> captor = ArgumentCaptor.forClass(SpanContext.class);
+    verify(spanLinks, times(Math.min(messages, maxLinks))).addLink(captor.capture());
+    return captor.getAllValues().stream().map(SpanContext::getSpanId).collect(Collectors.toList());
+  }
+
+  private static String spanId(int index) {
+    return String.format("090a0b0c0d0e0f%02x", index);
+  }
+
+  @SuppressWarnings("unchecked")
+  private static PulsarBatchRequest batchRequest(int count) {
+    List<Message<Object>> messages = new ArrayList<>();
+    for (int i = 0; i < count; i++) {
+      Message<Object> message = mock(Message.class);
+      when(message.getProperties())
+          .thenReturn(
+              Collections.singletonMap(
+                  "traceparent", "00-ff01020304050600ff0a0b0c0d0e0f00-" + spanId(i) + "-01"));
+      messages.add(message);
+    }
+    Messages<Object> batch = mock(Messages.class);
+    when(batch.size()).thenReturn(count);
+    when(batch.iterator()).thenAnswer(invocation -> messages.iterator());
+    return PulsarBatchRequest.create(batch, null);
+  }
+}
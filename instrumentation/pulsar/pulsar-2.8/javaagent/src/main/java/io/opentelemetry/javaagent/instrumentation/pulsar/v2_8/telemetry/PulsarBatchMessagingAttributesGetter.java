@@ -6,11 +6,10 @@
 package io.opentelemetry.javaagent.instrumentation.pulsar.v2_8.telemetry;
 
 import io.opentelemetry.instrumentation.api.instrumenter.messaging.MessagingAttributesGetter;
+import java.util.ArrayList;
 import java.util.List;
-import java.util.Objects;
-import java.util.stream.Collectors;
-import java.util.stream.StreamSupport;
 import javax.annotation.Nullable;
+import org.apache.pulsar.client.api.Message;
 
 enum PulsarBatchMessagingAttributesGetter
     implements MessagingAttributesGetter<PulsarBatchRequest, Void> {
@@ -41,10 +40,11 @@ enum PulsarBatchMessagingAttributesGetter
   @Nullable
   @Override
   public Long getMessagePayloadSize(PulsarBatchRequest request) {
-    return StreamSupport.stream(request.getMessages().spliterator(), false)
-        .map(message -> (long) message.size())
-        .reduce(Long::sum)
-        .orElse(null);
+    long size = 0;
+    for (Message<?> message : request.getMessages()) {
+      size += message.size();
+    }
+    return request.getMessages().size() == 0 ? null : size;
   }
 
   @Nullable
@@ -61,9 +61,13 @@ enum PulsarBatchMessagingAttributesGetter
 
   @Override
   public List<String> getMessageHeader(PulsarBatchRequest request, String name) {
-    return StreamSupport.stream(request.getMessages().spliterator(), false)
-        .map(message -> message.getProperty(name))
-        .filter(Objects::nonNull)
-        .collect(Collectors.toList());
+    List<String> values = new ArrayList<>();
+    for (Message<?> message : request.getMessages()) {
+      String value = message.getProperty(name);
+      if (value != null) {
+        values.add(value);
+      }
+    }
+    return values;
   }
 }
@@ -0,0 +1,32 @@
+/*
+ * Copyright The OpenTelemetry Authors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package io.opentelemetry.javaagent.instrumentation.pulsar.v2_8.telemetry;
+
+import io.opentelemetry.api.common.AttributesBuilder;
+import io.opentelemetry.context.Context;
+import io.opentelemetry.instrumentation.api.instrumenter.AttributesExtractor;
+import io.opentelemetry.semconv.trace.attributes.SemanticAttributes;
+import javax.annotation.Nullable;
+
+enum PulsarBatchReceiveAttributesExtractor
+    implements AttributesExtractor<PulsarBatchRequest, Void> {
+  INSTANCE;
+
+  @Override
+  public void onStart(
+      AttributesBuilder attributes, Context parentContext, PulsarBatchRequest request) {
+    attributes.put(
+        SemanticAttributes.MESSAGING_BATCH_MESSAGE_COUNT, (long) request.getMessages().size());
+  }
+
+  @Override
+  public void onEnd(
+      AttributesBuilder attributes,
+      Context context,
+      PulsarBatchRequest request,
+      @Nullable Void response,
+      @Nullable Throwable error) {}
+}
@@ -5,28 +5,62 @@
 
 package io.opentelemetry.javaagent.instrumentation.pulsar.v2_8.telemetry;
 
+import io.opentelemetry.api.trace.Span;
+import io.opentelemetry.api.trace.SpanContext;
 import io.opentelemetry.context.Context;
 import io.opentelemetry.context.propagation.TextMapPropagator;
 import io.opentelemetry.instrumentation.api.instrumenter.SpanLinksBuilder;
 import io.opentelemetry.instrumentation.api.instrumenter.SpanLinksExtractor;
-import io.opentelemetry.instrumentation.api.internal.PropagatorBasedSpanLinksExtractor;
 import org.apache.pulsar.client.api.Message;
+import org.apache.pulsar.client.api.Messages;
 
+/**
+ * Links the batch receive span to the contexts of the received messages, up to {@code maxLinks} of
+ * them. The context of a message is only extracted when it can still be linked, so the work done
+ * for a batch does not grow with the number of messages past that limit.
+ */
 final class PulsarBatchRequestSpanLinksExtractor implements SpanLinksExtractor<PulsarBatchRequest> {
-  private final SpanLinksExtractor<PulsarRequest> singleRecordLinkExtractor;
+  private final TextMapPropagator propagator;
+  private final int maxLinks;
+  private final boolean sampleLinks;
 
-  PulsarBatchRequestSpanLinksExtractor(TextMapPropagator propagator) {
-    this.singleRecordLinkExtractor =
-        new PropagatorBasedSpanLinksExtractor<>(propagator, MessageTextMapGetter.INSTANCE);
+  PulsarBatchRequestSpanLinksExtractor(
+      TextMapPropagator propagator, int maxLinks, boolean sampleLinks) {
+    this.propagator = propagator;
+    this.maxLinks = maxLinks;
+    this.sampleLinks = sampleLinks;
   }
 
   @Override
   public void extract(
       SpanLinksBuilder spanLinks, Context parentContext, PulsarBatchRequest request) {
-
-    for (Message<?> message : request.getMessages()) {
-      singleRecordLinkExtractor.extract(
-          spanLinks, Context.root(), PulsarRequest.create(message, request.getUrlData()));
+    if (maxLinks <= 0) {
+      return;
+    }
+    Messages<?> messages = request.getMessages();
+    // when sampling, every step-th message is linked, so that the links are spread over the whole
+    // batch instead of only covering its beginning; the step is rounded up so that the last
+    // linked message is not cut off by the limit before the end of the batch is reached
+    int step = sampleLinks ? Math.max(1, (messages.size() + maxLinks - 1) / maxLinks) : 1;
+    int index = 0;
+    int links = 0;
+    for (Message<?> message : messages) {
+      if (links >= maxLinks) {
+        return;
+      }
+      if (index++ % step != 0) {
+        continue;
+      }
+      Context context =
+          propagator.extract(
+              Context.root(),
+              PulsarRequest.create(message, request.getUrlData()),
+              MessageTextMapGetter.INSTANCE);
+      SpanContext spanContext = Span.fromContext(context).getSpanContext();
+      if (spanContext.isValid()) {
+        spanLinks.addLink(spanContext);
+        links++;
+      }
     }
   }
 }
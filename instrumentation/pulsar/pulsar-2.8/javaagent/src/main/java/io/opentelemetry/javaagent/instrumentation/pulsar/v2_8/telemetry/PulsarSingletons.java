@@ -38,6 +38,13 @@ public final class PulsarSingletons {
       TELEMETRY.getPropagators().getTextMapPropagator();
   private static final List<String> capturedHeaders =
       ExperimentalConfig.get().getMessagingHeaders();
+  // matches the default span link limit of the SDK, links past it would be dropped anyway
+  private static final int BATCH_RECEIVE_MAX_LINKS =
+      InstrumentationConfig.get()
+          .getInt("otel.instrumentation.pulsar.experimental-batch-receive-max-links", 128);
+  private static final boolean BATCH_RECEIVE_SAMPLE_LINKS =
+      InstrumentationConfig.get()
+          .getBoolean("otel.instrumentation.pulsar.experimental-batch-receive-sample-links", false);
 
   private static final Instrumenter<PulsarRequest, Void> CONSUMER_PROCESS_INSTRUMENTER =
       createConsumerProcessInstrumenter();
@@ -87,10 +94,13 @@ public final class PulsarSingletons {
             createMessagingAttributesExtractor(getter, MessageOperation.RECEIVE))
         .addAttributesExtractor(
             NetClientAttributesExtractor.create(new PulsarNetClientAttributesGetter()))
+        .addAttributesExtractor(PulsarBatchReceiveAttributesExtractor.INSTANCE)
         .setEnabled(ExperimentalConfig.get().messagingReceiveInstrumentationEnabled())
         .addSpanLinksExtractor(
             new PulsarBatchRequestSpanLinksExtractor(
-                GlobalOpenTelemetry.getPropagators().getTextMapPropagator()))
+                GlobalOpenTelemetry.getPropagators().getTextMapPropagator(),
+                BATCH_RECEIVE_MAX_LINKS,
+                BATCH_RECEIVE_SAMPLE_LINKS))
         .buildInstrumenter(SpanKindExtractor.alwaysConsumer());
   }
 
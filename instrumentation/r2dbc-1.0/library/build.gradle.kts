@@ -1,5 +1,6 @@
 plugins {
   id("otel.library-instrumentation")
+  id("otel.jmh-conventions")
 }
 
 dependencies {
@@ -8,8 +9,13 @@ dependencies {
 
   testImplementation(project(":instrumentation:r2dbc-1.0:testing"))
   testImplementation(project(":instrumentation:reactor:reactor-3.1:library"))
+
+  jmhImplementation("io.r2dbc:r2dbc-h2:1.0.0.RELEASE")
+  jmhImplementation("io.opentelemetry:opentelemetry-sdk")
 }
 
-tasks.withType<Test>().configureEach {
-  usesService(gradle.sharedServices.registrations["testcontainersBuildService"].service)
+tasks {
+  withType<Test>().configureEach {
+    usesService(gradle.sharedServices.registrations["testcontainersBuildService"].service)
+  }
 }
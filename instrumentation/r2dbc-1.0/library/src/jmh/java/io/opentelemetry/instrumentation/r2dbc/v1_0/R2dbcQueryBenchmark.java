@@ -0,0 +1,99 @@
+/*
+ * Copyright The OpenTelemetry Authors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package io.opentelemetry.instrumentation.r2dbc.v1_0;
+
+import io.opentelemetry.sdk.OpenTelemetrySdk;
+import io.opentelemetry.sdk.trace.SdkTracerProvider;
+import io.opentelemetry.sdk.trace.samplers.Sampler;
+import io.r2dbc.spi.Connection;
+import io.r2dbc.spi.ConnectionFactories;
+import io.r2dbc.spi.ConnectionFactory;
+import io.r2dbc.spi.ConnectionFactoryOptions;
+import io.r2dbc.spi.Result;
+import io.r2dbc.spi.Statement;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+/**
+ * Measures executing small queries against an in-memory database, as reactive applications issue
+ * many of them per request.
+ */
+@Fork(3)
+@Warmup(iterations = 10, time = 1)
+@Measurement(iterations = 5, time = 1)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@BenchmarkMode(Mode.AverageTime)
+@State(Scope.Thread)
+public class R2dbcQueryBenchmark {
+
+  // "none" executes the queries without the instrumentation
+  @Param({"none", "sampled", "unsampled"})
+  public String tracing;
+
+  private SdkTracerProvider tracerProvider;
+  private Connection connection;
+  private int id;
+
+  @Setup
+  public void setup() {
+    ConnectionFactoryOptions options =
+        ConnectionFactoryOptions.parse("r2dbc:h2:mem:///benchmark?options=DB_CLOSE_DELAY=-1");
+    ConnectionFactory connectionFactory = ConnectionFactories.get(options);
+    if (!tracing.equals("none")) {
+      tracerProvider =
+          SdkTracerProvider.builder()
+              .setSampler(tracing.equals("sampled") ? Sampler.alwaysOn() : Sampler.alwaysOff())
+              .build();
+      OpenTelemetrySdk openTelemetry =
+          OpenTelemetrySdk.builder().setTracerProvider(tracerProvider).build();
+      connectionFactory =
+          R2dbcTelemetry.create(openTelemetry).wrapConnectionFactory(connectionFactory, options);
+    }
+    connection = Mono.from(connectionFactory.create()).block();
+
+    execute("CREATE TABLE IF NOT EXISTS item (id INT PRIMARY KEY, name VARCHAR(255))");
+    for (int i = 0; i < 100; i++) {
+      execute("MERGE INTO item VALUES (" + i + ", 'item " + i + "')");
+    }
+  }
+
+  @TearDown
+  public void tearDown() {
+    Mono.from(connection.close()).block();
+    if (tracerProvider != null) {
+      tracerProvider.close();
+    }
+  }
+
+  @Benchmark
+  public Object selectById() {
+    id = (id + 1) % 100;
+    Statement statement =
+        connection.createStatement("SELECT name FROM item WHERE id = $1").bind("$1", id);
+    return Flux.from(statement.execute())
+        .flatMap(result -> result.map((row, metadata) -> row.get(0, String.class)))
+        .blockLast();
+  }
+
+  private void execute(String sql) {
+    Flux.from(connection.createStatement(sql).execute())
+        .flatMap(Result::getRowsUpdated)
+        .blockLast();
+  }
+}
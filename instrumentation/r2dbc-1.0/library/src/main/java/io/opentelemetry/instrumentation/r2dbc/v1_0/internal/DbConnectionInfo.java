@@ -0,0 +1,72 @@
+/*
+ * Copyright The OpenTelemetry Authors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package io.opentelemetry.instrumentation.r2dbc.v1_0.internal;
+
+import static io.r2dbc.spi.ConnectionFactoryOptions.DATABASE;
+import static io.r2dbc.spi.ConnectionFactoryOptions.DRIVER;
+import static io.r2dbc.spi.ConnectionFactoryOptions.HOST;
+import static io.r2dbc.spi.ConnectionFactoryOptions.PORT;
+import static io.r2dbc.spi.ConnectionFactoryOptions.PROTOCOL;
+import static io.r2dbc.spi.ConnectionFactoryOptions.USER;
+
+import io.r2dbc.spi.ConnectionFactoryOptions;
+import java.util.Locale;
+
+/**
+ * The attributes of the connections created by a connection factory, which are the same for all
+ * the queries executed through the factory.
+ *
+ * <p>This class is internal and is hence not for public use. Its APIs are unstable and can change
+ * at any time.
+ */
+public final class DbConnectionInfo {
+  private final String user;
+  private final String name;
+  private final String host;
+  private final Integer port;
+  private final String connectionString;
+
+  public DbConnectionInfo(ConnectionFactoryOptions factoryOptions) {
+    this.user = factoryOptions.hasOption(USER) ? (String) factoryOptions.getValue(USER) : null;
+    this.name =
+        factoryOptions.hasOption(DATABASE)
+            ? ((String) factoryOptions.getValue(DATABASE)).toLowerCase(Locale.ROOT)
+            : null;
+    String driver =
+        factoryOptions.hasOption(DRIVER) ? (String) factoryOptions.getValue(DRIVER) : null;
+    String protocol =
+        factoryOptions.hasOption(PROTOCOL) ? (String) factoryOptions.getValue(PROTOCOL) : null;
+    this.host = factoryOptions.hasOption(HOST) ? (String) factoryOptions.getValue(HOST) : null;
+    this.port = factoryOptions.hasOption(PORT) ? (Integer) factoryOptions.getValue(PORT) : null;
+    this.connectionString =
+        String.format(
+            "%s%s:%s%s",
+            driver != null ? driver : "",
+            protocol != null ? ":" + protocol : "",
+            host != null ? "//" + host : "",
+            port != null ? ":" + port : "");
+  }
+
+  public String getUser() {
+    return user;
+  }
+
+  public String getName() {
+    return name;
+  }
+
+  public String getHost() {
+    return host;
+  }
+
+  public Integer getPort() {
+    return port;
+  }
+
+  public String getConnectionString() {
+    return connectionString;
+  }
+}
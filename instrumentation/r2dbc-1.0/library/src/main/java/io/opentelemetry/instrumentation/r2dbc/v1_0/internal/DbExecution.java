@@ -5,75 +5,68 @@
 
 package io.opentelemetry.instrumentation.r2dbc.v1_0.internal;
 
-import static io.r2dbc.spi.ConnectionFactoryOptions.DATABASE;
-import static io.r2dbc.spi.ConnectionFactoryOptions.DRIVER;
-import static io.r2dbc.spi.ConnectionFactoryOptions.HOST;
-import static io.r2dbc.spi.ConnectionFactoryOptions.PORT;
-import static io.r2dbc.spi.ConnectionFactoryOptions.PROTOCOL;
-import static io.r2dbc.spi.ConnectionFactoryOptions.USER;
-
 import io.opentelemetry.context.Context;
+import io.opentelemetry.instrumentation.api.internal.cache.Cache;
 import io.opentelemetry.semconv.trace.attributes.SemanticAttributes;
 import io.r2dbc.proxy.core.QueryExecutionInfo;
 import io.r2dbc.proxy.core.QueryInfo;
 import io.r2dbc.spi.Connection;
 import io.r2dbc.spi.ConnectionFactoryOptions;
+import java.util.List;
 import java.util.Locale;
 import java.util.stream.Collectors;
+import javax.annotation.Nullable;
 
 /**
  * This class is internal and is hence not for public use. Its APIs are unstable and can change at
  * any time.
  */
 public final class DbExecution {
+  // the database product of a connection doesn't change, while the connections of a routing, proxy
+  // or pooling connection factory can reach different databases
+  private static final Cache<Connection, String> systemByConnection = Cache.weak();
+
+  private final DbConnectionInfo connectionInfo;
   private final String system;
-  private final String user;
-  private final String name;
-  private final String host;
-  private final Integer port;
-  private final String connectionString;
   private final String rawStatement;
 
   private Context context;
 
   public DbExecution(QueryExecutionInfo queryInfo, ConnectionFactoryOptions factoryOptions) {
-    Connection originalConnection = queryInfo.getConnectionInfo().getOriginalConnection();
-    this.system =
-        originalConnection != null
-            ? originalConnection
+    this(queryInfo, new DbConnectionInfo(factoryOptions));
+  }
+
+  public DbExecution(QueryExecutionInfo queryInfo, DbConnectionInfo connectionInfo) {
+    this.connectionInfo = connectionInfo;
+    this.system = getSystem(queryInfo.getConnectionInfo().getOriginalConnection());
+    List<QueryInfo> queries = queryInfo.getQueries();
+    // executions of a statement have a single query, whose string can be used as is
+    this.rawStatement =
+        queries.size() == 1
+            ? queries.get(0).getQuery()
+            : queries.stream().map(QueryInfo::getQuery).collect(Collectors.joining(";\n"));
+  }
+
+  private static String getSystem(@Nullable Connection originalConnection) {
+    if (originalConnection == null) {
+      return SemanticAttributes.DbSystemValues.OTHER_SQL;
+    }
+    return systemByConnection.computeIfAbsent(
+        originalConnection,
+        connection ->
+            connection
                 .getMetadata()
                 .getDatabaseProductName()
                 .toLowerCase(Locale.ROOT)
-                .split(" ")[0]
-            : SemanticAttributes.DbSystemValues.OTHER_SQL;
-    this.user = factoryOptions.hasOption(USER) ? (String) factoryOptions.getValue(USER) : null;
-    this.name =
-        factoryOptions.hasOption(DATABASE)
-            ? ((String) factoryOptions.getValue(DATABASE)).toLowerCase(Locale.ROOT)
-            : null;
-    String driver =
-        factoryOptions.hasOption(DRIVER) ? (String) factoryOptions.getValue(DRIVER) : null;
-    String protocol =
-        factoryOptions.hasOption(PROTOCOL) ? (String) factoryOptions.getValue(PROTOCOL) : null;
-    this.host = factoryOptions.hasOption(HOST) ? (String) factoryOptions.getValue(HOST) : null;
-    this.port = factoryOptions.hasOption(PORT) ? (Integer) factoryOptions.getValue(PORT) : null;
-    this.connectionString =
-        String.format(
-            "%s%s:%s%s",
-            driver != null ? driver : "",
-            protocol != null ? ":" + protocol : "",
-            host != null ? "//" + host : "",
-            port != null ? ":" + port : "");
-    this.rawStatement =
-        queryInfo.getQueries().stream().map(QueryInfo::getQuery).collect(Collectors.joining(";\n"));
+                .split(" ")[0]);
   }
 
   public Integer getPort() {
-    return port;
+    return connectionInfo.getPort();
   }
 
   public String getHost() {
-    return host;
+    return connectionInfo.getHost();
   }
 
   public String getSystem() {
@@ -81,15 +74,15 @@ public final class DbExecution {
   }
 
   public String getUser() {
-    return user;
+    return connectionInfo.getUser();
   }
 
   public String getName() {
-    return name;
+    return connectionInfo.getName();
   }
 
   public String getConnectionString() {
-    return connectionString;
+    return connectionInfo.getConnectionString();
   }
 
   public String getRawStatement() {
@@ -111,18 +104,18 @@ public final class DbExecution {
         + system
         + '\''
         + ", user='"
-        + user
+        + getUser()
         + '\''
         + ", name='"
-        + name
+        + getName()
         + '\''
         + ", host='"
-        + host
+        + getHost()
         + '\''
         + ", port="
-        + port
+        + getPort()
         + ", connectionString='"
-        + connectionString
+        + getConnectionString()
         + '\''
         + ", rawStatement='"
         + rawStatement
@@ -6,8 +6,11 @@
 package io.opentelemetry.instrumentation.r2dbc.v1_0;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
+import io.opentelemetry.instrumentation.r2dbc.v1_0.internal.DbConnectionInfo;
 import io.opentelemetry.instrumentation.r2dbc.v1_0.internal.DbExecution;
 import io.r2dbc.proxy.core.QueryExecutionInfo;
 import io.r2dbc.proxy.core.QueryInfo;
@@ -47,4 +50,50 @@ class DbExecutionTest {
     assertEquals("mariadb://localhost:3306", dbExecution.getConnectionString());
     assertEquals("SELECT * from person where last_name = 'tom'", dbExecution.getRawStatement());
   }
+
+  @Test
+  void connectionInfoIsSharedByExecutions() {
+    when(connection.getMetadata()).thenReturn(metadata);
+    when(metadata.getDatabaseProductName()).thenReturn("H2 2.1.214");
+    DbConnectionInfo connectionInfo =
+        new DbConnectionInfo(ConnectionFactoryOptions.parse("r2dbc:h2:mem:///db"));
+
+    for (String query : new String[] {"SELECT 1", "SELECT 2"}) {
+      QueryExecutionInfo queryExecutionInfo =
+          MockQueryExecutionInfo.builder()
+              .queryInfo(new QueryInfo(query))
+              .connectionInfo(MockConnectionInfo.builder().originalConnection(connection).build())
+              .build();
+      DbExecution dbExecution = new DbExecution(queryExecutionInfo, connectionInfo);
+      assertEquals("h2", dbExecution.getSystem());
+      assertEquals("db", dbExecution.getName());
+      assertEquals(query, dbExecution.getRawStatement());
+    }
+    // the database product is looked up once for all executions on a connection
+    verify(connection, times(1)).getMetadata();
+  }
+
+  @Test
+  void systemIsLookedUpPerConnection(
+      @Mock Connection otherConnection, @Mock ConnectionMetadata otherMetadata) {
+    when(connection.getMetadata()).thenReturn(metadata);
+    when(metadata.getDatabaseProductName()).thenReturn("PostgreSQL");
+    when(otherConnection.getMetadata()).thenReturn(otherMetadata);
+    when(otherMetadata.getDatabaseProductName()).thenReturn("MariaDB");
+    // e.g. a routing connection factory, whose connections reach different databases
+    DbConnectionInfo connectionInfo =
+        new DbConnectionInfo(ConnectionFactoryOptions.parse("r2dbc:proxy://localhost/db"));
+
+    assertEquals("postgresql", execute(connection, connectionInfo).getSystem());
+    assertEquals("mariadb", execute(otherConnection, connectionInfo).getSystem());
+  }
+
+  private static DbExecution execute(Connection connection, DbConnectionInfo connectionInfo) {
+    QueryExecutionInfo queryExecutionInfo =
+        MockQueryExecutionInfo.builder()
+            .queryInfo(new QueryInfo("SELECT 1"))
+            .connectionInfo(MockConnectionInfo.builder().originalConnection(connection).build())
+            .build();
+    return new DbExecution(queryExecutionInfo, connectionInfo);
+  }
 }
@@ -46,14 +46,17 @@ final class HandlerRegistry {
 
   private HandlerRegistry() {}
 
-  static List<RecordedEventHandler> getHandlers(
-      OpenTelemetry openTelemetry, Predicate<JfrFeature> featurePredicate) {
-
+  static Meter getMeter(OpenTelemetry openTelemetry) {
     MeterBuilder meterBuilder = openTelemetry.meterBuilder(SCOPE_NAME);
     if (SCOPE_VERSION != null) {
       meterBuilder.setInstrumentationVersion(SCOPE_VERSION);
     }
-    Meter meter = meterBuilder.build();
+    return meterBuilder.build();
+  }
+
+  static List<RecordedEventHandler> getHandlers(
+      OpenTelemetry openTelemetry, Predicate<JfrFeature> featurePredicate, int maxThreadGroups) {
+    Meter meter = getMeter(openTelemetry);
 
     List<RecordedEventHandler> handlers = new ArrayList<RecordedEventHandler>();
     for (GarbageCollectorMXBean bean : ManagementFactory.getGarbageCollectorMXBeans()) {
@@ -84,7 +87,7 @@ final class HandlerRegistry {
       }
     }
 
-    ThreadGrouper grouper = new ThreadGrouper();
+    ThreadGrouper grouper = new ThreadGrouper(maxThreadGroups);
     List<RecordedEventHandler> basicHandlers =
         List.of(
             new ObjectAllocationInNewTlabHandler(meter, grouper),
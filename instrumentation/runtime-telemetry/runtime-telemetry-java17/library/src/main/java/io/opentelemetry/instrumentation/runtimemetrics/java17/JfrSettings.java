@@ -0,0 +1,81 @@
+/*
+ * Copyright The OpenTelemetry Authors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package io.opentelemetry.instrumentation.runtimemetrics.java17;
+
+import io.opentelemetry.instrumentation.runtimemetrics.java17.internal.RecordedEventHandler;
+import java.time.Duration;
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.Optional;
+import java.util.function.Predicate;
+import javax.annotation.Nullable;
+
+/** The JFR related configuration of a {@link RuntimeMetricsBuilder}. */
+final class JfrSettings {
+
+  private final Predicate<JfrFeature> featurePredicate;
+  private final int maxThreadGroups;
+  private final Map<JfrFeature, Duration> thresholds;
+  private final Map<JfrFeature, Duration> periods;
+  private final long recordingMaxSize;
+  @Nullable private final Duration recordingMaxAge;
+  private final boolean overheadMetricsEnabled;
+
+  JfrSettings(
+      Predicate<JfrFeature> featurePredicate,
+      int maxThreadGroups,
+      Map<JfrFeature, Duration> thresholds,
+      Map<JfrFeature, Duration> periods,
+      long recordingMaxSize,
+      @Nullable Duration recordingMaxAge,
+      boolean overheadMetricsEnabled) {
+    this.featurePredicate = featurePredicate;
+    this.maxThreadGroups = maxThreadGroups;
+    this.thresholds = copy(thresholds);
+    this.periods = copy(periods);
+    this.recordingMaxSize = recordingMaxSize;
+    this.recordingMaxAge = recordingMaxAge;
+    this.overheadMetricsEnabled = overheadMetricsEnabled;
+  }
+
+  private static Map<JfrFeature, Duration> copy(Map<JfrFeature, Duration> map) {
+    Map<JfrFeature, Duration> copy = new EnumMap<>(JfrFeature.class);
+    copy.putAll(map);
+    return copy;
+  }
+
+  Predicate<JfrFeature> featurePredicate() {
+    return featurePredicate;
+  }
+
+  int maxThreadGroups() {
+    return maxThreadGroups;
+  }
+
+  boolean overheadMetricsEnabled() {
+    return overheadMetricsEnabled;
+  }
+
+  long recordingMaxSize() {
+    return recordingMaxSize;
+  }
+
+  @Nullable
+  Duration recordingMaxAge() {
+    return recordingMaxAge;
+  }
+
+  // settings configured for the feature take precedence over the defaults of the handler
+  Optional<Duration> period(RecordedEventHandler handler) {
+    Duration period = periods.get(handler.getFeature());
+    return period != null ? Optional.of(period) : handler.getPollingDuration();
+  }
+
+  Optional<Duration> threshold(RecordedEventHandler handler) {
+    Duration threshold = thresholds.get(handler.getFeature());
+    return threshold != null ? Optional.of(threshold) : handler.getThreshold();
+  }
+}
@@ -6,13 +6,14 @@
 package io.opentelemetry.instrumentation.runtimemetrics.java17;
 
 import io.opentelemetry.api.OpenTelemetry;
+import io.opentelemetry.instrumentation.runtimemetrics.java17.internal.JfrOverheadMetrics;
 import io.opentelemetry.instrumentation.runtimemetrics.java17.internal.RecordedEventHandler;
 import io.opentelemetry.instrumentation.runtimemetrics.java8.internal.JmxRuntimeMetricsUtil;
 import java.io.Closeable;
+import java.time.Duration;
 import java.util.List;
 import java.util.concurrent.CountDownLatch;
 import java.util.concurrent.atomic.AtomicBoolean;
-import java.util.function.Predicate;
 import java.util.logging.Level;
 import java.util.logging.Logger;
 import javax.annotation.Nullable;
@@ -88,35 +89,53 @@ public final class RuntimeMetrics implements Closeable {
     private final List<RecordedEventHandler> recordedEventHandlers;
     private final RecordingStream recordingStream;
     private final CountDownLatch startUpLatch = new CountDownLatch(1);
+    @Nullable private final JfrOverheadMetrics overheadMetrics;
 
-    private JfrRuntimeMetrics(OpenTelemetry openTelemetry, Predicate<JfrFeature> featurePredicate) {
-      this.recordedEventHandlers = HandlerRegistry.getHandlers(openTelemetry, featurePredicate);
+    private JfrRuntimeMetrics(OpenTelemetry openTelemetry, JfrSettings settings) {
+      this.recordedEventHandlers =
+          HandlerRegistry.getHandlers(
+              openTelemetry, settings.featurePredicate(), settings.maxThreadGroups());
       recordingStream = new RecordingStream();
+      if (settings.recordingMaxSize() > 0) {
+        recordingStream.setMaxSize(settings.recordingMaxSize());
+      }
+      Duration recordingMaxAge = settings.recordingMaxAge();
+      if (recordingMaxAge != null) {
+        recordingStream.setMaxAge(recordingMaxAge);
+      }
+      Thread daemonRunner = new Thread(() -> recordingStream.start());
+      daemonRunner.setDaemon(true);
+      overheadMetrics =
+          settings.overheadMetricsEnabled()
+              ? new JfrOverheadMetrics(HandlerRegistry.getMeter(openTelemetry), daemonRunner)
+              : null;
       recordedEventHandlers.forEach(
           handler -> {
             EventSettings eventSettings = recordingStream.enable(handler.getEventName());
-            handler.getPollingDuration().ifPresent(eventSettings::withPeriod);
-            handler.getThreshold().ifPresent(eventSettings::withThreshold);
-            recordingStream.onEvent(handler.getEventName(), handler);
+            settings.period(handler).ifPresent(eventSettings::withPeriod);
+            settings.threshold(handler).ifPresent(eventSettings::withThreshold);
+            recordingStream.onEvent(
+                handler.getEventName(),
+                overheadMetrics != null ? overheadMetrics.countEvents(handler) : handler);
           });
       recordingStream.onMetadata(event -> startUpLatch.countDown());
-      Thread daemonRunner = new Thread(() -> recordingStream.start());
-      daemonRunner.setDaemon(true);
       daemonRunner.start();
     }
 
-    static JfrRuntimeMetrics build(
-        OpenTelemetry openTelemetry, Predicate<JfrFeature> featurePredicate) {
+    static JfrRuntimeMetrics build(OpenTelemetry openTelemetry, JfrSettings settings) {
       if (!hasJfrRecordingStream()) {
         return null;
       }
-      return new JfrRuntimeMetrics(openTelemetry, featurePredicate);
+      return new JfrRuntimeMetrics(openTelemetry, settings);
     }
 
     @Override
     public void close() {
       recordingStream.close();
       recordedEventHandlers.forEach(RecordedEventHandler::close);
+      if (overheadMetrics != null) {
+        overheadMetrics.close();
+      }
     }
 
     // Visible for testing
@@ -7,12 +7,14 @@ package io.opentelemetry.instrumentation.runtimemetrics.java17;
 
 import com.google.errorprone.annotations.CanIgnoreReturnValue;
 import io.opentelemetry.api.OpenTelemetry;
+import io.opentelemetry.instrumentation.runtimemetrics.java17.internal.ThreadGrouper;
 import io.opentelemetry.instrumentation.runtimemetrics.java8.BufferPools;
 import io.opentelemetry.instrumentation.runtimemetrics.java8.Classes;
 import io.opentelemetry.instrumentation.runtimemetrics.java8.Cpu;
 import io.opentelemetry.instrumentation.runtimemetrics.java8.GarbageCollector;
 import io.opentelemetry.instrumentation.runtimemetrics.java8.MemoryPools;
 import io.opentelemetry.instrumentation.runtimemetrics.java8.Threads;
+import java.time.Duration;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collections;
@@ -28,6 +30,12 @@ public final class RuntimeMetricsBuilder {
   final EnumMap<JfrFeature, Boolean> enabledFeatureMap;
 
   private boolean disableJmx = false;
+  private int maxThreadGroups = ThreadGrouper.DEFAULT_MAX_THREAD_GROUPS;
+  private final EnumMap<JfrFeature, Duration> thresholds = new EnumMap<>(JfrFeature.class);
+  private final EnumMap<JfrFeature, Duration> periods = new EnumMap<>(JfrFeature.class);
+  private long recordingMaxSize = 0;
+  @Nullable private Duration recordingMaxAge;
+  private boolean overheadMetricsEnabled = false;
 
   RuntimeMetricsBuilder(OpenTelemetry openTelemetry) {
     this.openTelemetry = openTelemetry;
@@ -80,6 +88,79 @@ public final class RuntimeMetricsBuilder {
     return this;
   }
 
+  /**
+   * Sets the maximum number of thread groups that per-thread metrics, like the ones of {@link
+   * JfrFeature#LOCK_METRICS}, {@link JfrFeature#MEMORY_ALLOCATION_METRICS} and {@link
+   * JfrFeature#NETWORK_IO_METRICS}, are tracked for. Threads whose names only differ in the numbers
+   * assigned by their thread pool belong to the same group. When the limit is reached, the least
+   * recently active thread group stops being tracked. Defaults to {@code 1000}.
+   */
+  @CanIgnoreReturnValue
+  public RuntimeMetricsBuilder setMaxThreadGroups(int maxThreadGroups) {
+    if (maxThreadGroups < 1) {
+      throw new IllegalArgumentException("maxThreadGroups must be positive: " + maxThreadGroups);
+    }
+    this.maxThreadGroups = maxThreadGroups;
+    return this;
+  }
+
+  /**
+   * Sets the threshold of the JFR events used by the {@link JfrFeature}: events that take less
+   * time are not recorded, which reduces the number of events that need to be handled. Only
+   * applies to features based on events with a duration, like {@link JfrFeature#LOCK_METRICS} and
+   * {@link JfrFeature#NETWORK_IO_METRICS}.
+   */
+  @CanIgnoreReturnValue
+  public RuntimeMetricsBuilder setThreshold(JfrFeature feature, Duration threshold) {
+    thresholds.put(feature, threshold);
+    return this;
+  }
+
+  /**
+   * Sets how often the JFR events used by the {@link JfrFeature} are emitted. Only applies to
+   * features based on periodic events, like {@link JfrFeature#CONTEXT_SWITCH_METRICS} and {@link
+   * JfrFeature#CPU_UTILIZATION_METRICS}.
+   */
+  @CanIgnoreReturnValue
+  public RuntimeMetricsBuilder setPeriod(JfrFeature feature, Duration period) {
+    periods.put(feature, period);
+    return this;
+  }
+
+  /**
+   * Sets the maximum amount of JFR data, in bytes, that the recording stream keeps around before
+   * discarding the oldest data. By default the JFR defaults apply.
+   */
+  @CanIgnoreReturnValue
+  public RuntimeMetricsBuilder setRecordingMaxSize(long maxSizeBytes) {
+    if (maxSizeBytes < 0) {
+      throw new IllegalArgumentException("maxSizeBytes must not be negative: " + maxSizeBytes);
+    }
+    this.recordingMaxSize = maxSizeBytes;
+    return this;
+  }
+
+  /**
+   * Sets how long the recording stream keeps JFR data around before discarding it. By default the
+   * JFR defaults apply.
+   */
+  @CanIgnoreReturnValue
+  public RuntimeMetricsBuilder setRecordingMaxAge(Duration maxAge) {
+    this.recordingMaxAge = maxAge;
+    return this;
+  }
+
+  /**
+   * Enable metrics that report the overhead of the JFR based metrics: the number of JFR events
+   * handled ({@code process.runtime.jvm.jfr.events}) and the CPU time spent handling them ({@code
+   * process.runtime.jvm.jfr.consumer.cpu_time}).
+   */
+  @CanIgnoreReturnValue
+  public RuntimeMetricsBuilder enableOverheadMetrics() {
+    overheadMetricsEnabled = true;
+    return this;
+  }
+
   /** Build and start an {@link RuntimeMetrics} with the config from this builder. */
   public RuntimeMetrics build() {
     List<AutoCloseable> observables = buildObservables();
@@ -112,6 +193,15 @@ public final class RuntimeMetricsBuilder {
     if (enabledFeatureMap.values().stream().noneMatch(isEnabled -> isEnabled)) {
       return null;
     }
-    return RuntimeMetrics.JfrRuntimeMetrics.build(openTelemetry, enabledFeatureMap::get);
+    JfrSettings settings =
+        new JfrSettings(
+            enabledFeatureMap::get,
+            maxThreadGroups,
+            thresholds,
+            periods,
+            recordingMaxSize,
+            recordingMaxAge,
+            overheadMetricsEnabled);
+    return RuntimeMetrics.JfrRuntimeMetrics.build(openTelemetry, settings);
   }
 }
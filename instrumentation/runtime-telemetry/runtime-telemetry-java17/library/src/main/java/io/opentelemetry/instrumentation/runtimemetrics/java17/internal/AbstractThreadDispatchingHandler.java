@@ -5,22 +5,66 @@
 
 package io.opentelemetry.instrumentation.runtimemetrics.java17.internal;
 
-import java.util.HashMap;
+import io.opentelemetry.api.common.Attributes;
+import io.opentelemetry.api.metrics.Meter;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
 import java.util.Map;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
 import java.util.function.Consumer;
 import jdk.jfr.consumer.RecordedEvent;
 
 /**
- * This class is internal and is hence not for public use. Its APIs are unstable and can change at
- * any time.
+ * Dispatches events to a summarizer per thread group. At most {@link
+ * ThreadGrouper#getMaxThreadGroups()} summarizers are kept, the least recently used one is dropped
+ * when a new thread group shows up once the limit is reached.
+ *
+ * <p>This class is internal and is hence not for public use. Its APIs are unstable and can change
+ * at any time.
  */
 public abstract class AbstractThreadDispatchingHandler implements RecordedEventHandler {
-  // Will need pruning code for fast-cycling thread frameworks to prevent memory leaks
-  private final Map<String, Consumer<RecordedEvent>> perThread = new HashMap<>();
+  // only accessed from the recording stream thread
+  private final Map<String, Consumer<RecordedEvent>> perThread;
   private final ThreadGrouper grouper;
+  // also read by the metric callbacks
+  private final AtomicInteger summarizerCount = new AtomicInteger();
+  private final AtomicLong evictionCount = new AtomicLong();
+  private final List<AutoCloseable> observables = new ArrayList<>();
 
-  protected AbstractThreadDispatchingHandler(ThreadGrouper grouper) {
+  protected AbstractThreadDispatchingHandler(Meter meter, ThreadGrouper grouper) {
     this.grouper = grouper;
+    int maxThreadGroups = grouper.getMaxThreadGroups();
+    this.perThread =
+        new LinkedHashMap<String, Consumer<RecordedEvent>>(16, 0.75f, /* accessOrder= */ true) {
+          private static final long serialVersionUID = 1L;
+
+          @Override
+          protected boolean removeEldestEntry(Map.Entry<String, Consumer<RecordedEvent>> eldest) {
+            if (size() > maxThreadGroups) {
+              evictionCount.incrementAndGet();
+              return true;
+            }
+            return false;
+          }
+        };
+
+    observables.add(
+        meter
+            .upDownCounterBuilder(Constants.METRIC_NAME_THREAD_SUMMARIZERS)
+            .setDescription(Constants.METRIC_DESCRIPTION_THREAD_SUMMARIZERS)
+            .setUnit(Constants.UNIT_THREAD_GROUPS)
+            .buildWithCallback(
+                measurement ->
+                    measurement.record(summarizerCount.get(), summarizerAttributes())));
+    observables.add(
+        meter
+            .counterBuilder(Constants.METRIC_NAME_THREAD_SUMMARIZER_EVICTIONS)
+            .setDescription(Constants.METRIC_DESCRIPTION_THREAD_SUMMARIZER_EVICTIONS)
+            .setUnit(Constants.UNIT_THREAD_GROUPS)
+            .buildWithCallback(
+                measurement -> measurement.record(evictionCount.get(), summarizerAttributes())));
   }
 
   @Override
@@ -32,7 +76,22 @@ public abstract class AbstractThreadDispatchingHandler implements RecordedEventH
   public void accept(RecordedEvent ev) {
     String groupedName = grouper.groupedName(ev);
     if (groupedName != null) {
-      perThread.computeIfAbsent(groupedName, this::createPerThreadSummarizer).accept(ev);
+      Consumer<RecordedEvent> summarizer = perThread.get(groupedName);
+      if (summarizer == null) {
+        summarizer = createPerThreadSummarizer(groupedName);
+        perThread.put(groupedName, summarizer);
+        summarizerCount.set(perThread.size());
+      }
+      summarizer.accept(ev);
     }
   }
+
+  private Attributes summarizerAttributes() {
+    return Attributes.of(Constants.ATTR_EVENT, getEventName());
+  }
+
+  @Override
+  public void close() {
+    RecordedEventHandler.closeObservables(observables);
+  }
 }
@@ -58,7 +58,17 @@ public final class Constants {
   public static final String METRIC_DESCRIPTION_GC_DURATION =
       "Duration of JVM garbage collection actions";
 
+  public static final String METRIC_NAME_THREAD_SUMMARIZERS =
+      "process.runtime.jvm.jfr.thread_summarizers";
+  public static final String METRIC_DESCRIPTION_THREAD_SUMMARIZERS =
+      "Number of thread groups tracked for a JFR event";
+  public static final String METRIC_NAME_THREAD_SUMMARIZER_EVICTIONS =
+      "process.runtime.jvm.jfr.thread_summarizer.evictions";
+  public static final String METRIC_DESCRIPTION_THREAD_SUMMARIZER_EVICTIONS =
+      "Number of thread groups no longer tracked for a JFR event because the limit was reached";
+
   public static final AttributeKey<String> ATTR_THREAD_NAME = AttributeKey.stringKey("thread.name");
+  public static final AttributeKey<String> ATTR_EVENT = AttributeKey.stringKey("event");
   public static final AttributeKey<String> ATTR_ARENA_NAME = AttributeKey.stringKey("arena");
   public static final AttributeKey<String> ATTR_NETWORK_MODE = AttributeKey.stringKey("mode");
   public static final AttributeKey<String> ATTR_TYPE = AttributeKey.stringKey("type");
@@ -86,5 +96,7 @@ public final class Constants {
   public static final String UNIT_CLASSES = "{classes}";
   public static final String UNIT_THREADS = "{threads}";
   public static final String UNIT_BUFFERS = "{buffers}";
+  public static final String UNIT_THREAD_GROUPS = "{thread_groups}";
+  public static final String UNIT_EVENTS = "{events}";
   public static final String UNIT_UTILIZATION = "1";
 }
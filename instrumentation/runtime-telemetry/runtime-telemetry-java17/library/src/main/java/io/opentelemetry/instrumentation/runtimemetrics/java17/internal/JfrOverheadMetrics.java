@@ -0,0 +1,83 @@
+/*
+ * Copyright The OpenTelemetry Authors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package io.opentelemetry.instrumentation.runtimemetrics.java17.internal;
+
+import io.opentelemetry.api.common.Attributes;
+import io.opentelemetry.api.metrics.Meter;
+import java.lang.management.ManagementFactory;
+import java.lang.management.ThreadMXBean;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Consumer;
+import jdk.jfr.consumer.RecordedEvent;
+
+/**
+ * Reports what consuming JFR events costs: the number of events dispatched to the handlers, and the
+ * CPU time spent by the thread that reads the recording stream and runs the handlers.
+ *
+ * <p>This class is internal and is hence not for public use. Its APIs are unstable and can change
+ * at any time.
+ */
+public final class JfrOverheadMetrics implements AutoCloseable {
+  private static final String METRIC_NAME_EVENTS = "process.runtime.jvm.jfr.events";
+  private static final String METRIC_DESCRIPTION_EVENTS = "Number of JFR events handled";
+  private static final String METRIC_NAME_CPU_TIME = "process.runtime.jvm.jfr.consumer.cpu_time";
+  private static final String METRIC_DESCRIPTION_CPU_TIME =
+      "CPU time spent reading JFR events and recording metrics from them";
+
+  private final Map<String, LongAdder> eventCounts = new ConcurrentHashMap<>();
+  private final List<AutoCloseable> observables = new ArrayList<>();
+
+  public JfrOverheadMetrics(Meter meter, Thread consumerThread) {
+    observables.add(
+        meter
+            .counterBuilder(METRIC_NAME_EVENTS)
+            .setDescription(METRIC_DESCRIPTION_EVENTS)
+            .setUnit(Constants.UNIT_EVENTS)
+            .buildWithCallback(
+                measurement ->
+                    eventCounts.forEach(
+                        (eventName, count) ->
+                            measurement.record(
+                                count.sum(), Attributes.of(Constants.ATTR_EVENT, eventName)))));
+
+    ThreadMXBean threadBean = ManagementFactory.getThreadMXBean();
+    if (threadBean.isThreadCpuTimeSupported()) {
+      long threadId = consumerThread.getId();
+      observables.add(
+          meter
+              .counterBuilder(METRIC_NAME_CPU_TIME)
+              .ofDoubles()
+              .setDescription(METRIC_DESCRIPTION_CPU_TIME)
+              .setUnit(Constants.MILLISECONDS)
+              .buildWithCallback(
+                  measurement -> {
+                    // -1 when measuring is disabled or the thread has terminated
+                    long cpuTimeNanos = threadBean.getThreadCpuTime(threadId);
+                    if (cpuTimeNanos >= 0) {
+                      measurement.record(cpuTimeNanos / 1_000_000.0);
+                    }
+                  }));
+    }
+  }
+
+  /** Returns a consumer that counts the events before passing them to {@code handler}. */
+  public Consumer<RecordedEvent> countEvents(RecordedEventHandler handler) {
+    LongAdder count = eventCounts.computeIfAbsent(handler.getEventName(), unused -> new LongAdder());
+    return event -> {
+      count.increment();
+      handler.accept(event);
+    };
+  }
+
+  @Override
+  public void close() {
+    RecordedEventHandler.closeObservables(observables);
+  }
+}
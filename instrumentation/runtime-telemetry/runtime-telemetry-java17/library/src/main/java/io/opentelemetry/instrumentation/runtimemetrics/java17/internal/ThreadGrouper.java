@@ -10,19 +10,72 @@ import jdk.jfr.consumer.RecordedEvent;
 import jdk.jfr.consumer.RecordedThread;
 
 /**
- * This class is internal and is hence not for public use. Its APIs are unstable and can change at
- * any time.
+ * Maps the thread of a JFR event to the name of the group of threads it is reported under, and
+ * limits how many such groups are tracked by each {@link AbstractThreadDispatchingHandler}.
+ *
+ * <p>Numbers that thread pools append to the names of their threads are collapsed, so that e.g.
+ * {@code pool-3-thread-17} and {@code pool-5-thread-2} are both reported as {@code
+ * pool-#-thread-#}. Digits that are part of a word, like in {@code C2 CompilerThread0}, are kept.
+ *
+ * <p>This class is internal and is hence not for public use. Its APIs are unstable and can change
+ * at any time.
  */
 public final class ThreadGrouper {
 
-  // FIXME doesn't actually do any grouping, but should be safe for now
+  public static final int DEFAULT_MAX_THREAD_GROUPS = 1000;
+
+  private final int maxThreadGroups;
+
+  public ThreadGrouper() {
+    this(DEFAULT_MAX_THREAD_GROUPS);
+  }
+
+  public ThreadGrouper(int maxThreadGroups) {
+    this.maxThreadGroups = maxThreadGroups;
+  }
+
+  /** Returns the maximum number of thread groups a handler keeps a summarizer for. */
+  public int getMaxThreadGroups() {
+    return maxThreadGroups;
+  }
+
   @Nullable
   public String groupedName(RecordedEvent ev) {
     Object thisField = ev.getValue("eventThread");
     if (thisField instanceof RecordedThread) {
       RecordedThread thread = (RecordedThread) thisField;
-      return thread.getJavaName();
+      String javaName = thread.getJavaName();
+      return javaName == null ? null : groupedName(javaName);
     }
     return null;
   }
+
+  // Visible for testing
+  static String groupedName(String threadName) {
+    StringBuilder result = null;
+    int length = threadName.length();
+    int i = 0;
+    while (i < length) {
+      char c = threadName.charAt(i);
+      if (isDigit(c) && (i == 0 || !Character.isLetter(threadName.charAt(i - 1)))) {
+        if (result == null) {
+          result = new StringBuilder(length).append(threadName, 0, i);
+        }
+        result.append('#');
+        do {
+          i++;
+        } while (i < length && isDigit(threadName.charAt(i)));
+        continue;
+      }
+      if (result != null) {
+        result.append(c);
+      }
+      i++;
+    }
+    return result == null ? threadName : result.toString();
+  }
+
+  private static boolean isDigit(char c) {
+    return c >= '0' && c <= '9';
+  }
 }
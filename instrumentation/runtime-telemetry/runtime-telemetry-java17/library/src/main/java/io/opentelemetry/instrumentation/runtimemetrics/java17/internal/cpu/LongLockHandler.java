@@ -30,7 +30,7 @@ public final class LongLockHandler extends AbstractThreadDispatchingHandler {
   private final DoubleHistogram histogram;
 
   public LongLockHandler(Meter meter, ThreadGrouper grouper) {
-    super(grouper);
+    super(meter, grouper);
     histogram =
         meter
             .histogramBuilder(METRIC_NAME)
@@ -28,7 +28,7 @@ public final class ObjectAllocationInNewTlabHandler extends AbstractThreadDispat
   private final LongHistogram histogram;
 
   public ObjectAllocationInNewTlabHandler(Meter meter, ThreadGrouper grouper) {
-    super(grouper);
+    super(meter, grouper);
     histogram =
         meter
             .histogramBuilder(Constants.METRIC_NAME_MEMORY_ALLOCATION)
@@ -28,7 +28,7 @@ public final class ObjectAllocationOutsideTlabHandler extends AbstractThreadDisp
   private final LongHistogram histogram;
 
   public ObjectAllocationOutsideTlabHandler(Meter meter, ThreadGrouper grouper) {
-    super(grouper);
+    super(meter, grouper);
     histogram =
         meter
             .histogramBuilder(Constants.METRIC_NAME_MEMORY_ALLOCATION)
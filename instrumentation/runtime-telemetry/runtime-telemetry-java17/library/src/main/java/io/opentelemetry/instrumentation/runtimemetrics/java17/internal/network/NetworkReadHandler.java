@@ -28,7 +28,7 @@ public final class NetworkReadHandler extends AbstractThreadDispatchingHandler {
   private final DoubleHistogram durationHistogram;
 
   public NetworkReadHandler(Meter meter, ThreadGrouper nameNormalizer) {
-    super(nameNormalizer);
+    super(meter, nameNormalizer);
     bytesHistogram =
         meter
             .histogramBuilder(Constants.METRIC_NAME_NETWORK_BYTES)
@@ -46,7 +46,7 @@ public final class NetworkWriteHandler extends AbstractThreadDispatchingHandler
   private final DoubleHistogram durationHistogram;
 
   public NetworkWriteHandler(Meter meter, ThreadGrouper nameNormalizer) {
-    super(nameNormalizer);
+    super(meter, nameNormalizer);
     bytesHistogram =
         meter
             .histogramBuilder(Constants.METRIC_NAME_NETWORK_BYTES)
@@ -6,11 +6,19 @@
 package io.opentelemetry.instrumentation.runtimemetrics.java17;
 
 import static io.opentelemetry.sdk.testing.assertj.OpenTelemetryAssertions.assertThat;
+import static org.awaitility.Awaitility.await;
 
 import io.github.netmikey.logunit.api.LogCapturer;
+import io.opentelemetry.api.common.AttributeKey;
+import io.opentelemetry.api.common.Attributes;
 import io.opentelemetry.sdk.OpenTelemetrySdk;
 import io.opentelemetry.sdk.metrics.SdkMeterProvider;
+import io.opentelemetry.sdk.metrics.data.MetricData;
 import io.opentelemetry.sdk.testing.exporter.InMemoryMetricReader;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
 import java.util.concurrent.atomic.AtomicBoolean;
 import org.junit.jupiter.api.AfterEach;
 import org.junit.jupiter.api.Assumptions;
@@ -104,4 +112,46 @@ class RuntimeMetricsTest {
       logs.assertContains("RuntimeMetrics is already closed");
     }
   }
+
+  @Test
+  void overheadMetrics() throws InterruptedException {
+    try (RuntimeMetrics jfrTelemetry =
+        RuntimeMetrics.builder(sdk)
+            .disableAllMetrics()
+            .enableFeature(JfrFeature.CONTEXT_SWITCH_METRICS)
+            .setPeriod(JfrFeature.CONTEXT_SWITCH_METRICS, Duration.ofMillis(100))
+            .enableOverheadMetrics()
+            .build()) {
+      jfrTelemetry.getJfrRuntimeMetrics().getStartUpLatch().await(30, TimeUnit.SECONDS);
+      // the reader is a delta reader, keep the metrics of all collections
+      List<MetricData> metrics = new ArrayList<>();
+      await()
+          .untilAsserted(
+              () -> {
+                metrics.addAll(reader.collectAllMetrics());
+                assertThat(metrics)
+                    .anySatisfy(
+                        metric ->
+                            assertThat(metric)
+                                .hasName("process.runtime.jvm.jfr.events")
+                                .hasLongSumSatisfying(
+                                    sum ->
+                                        sum.hasPointsSatisfying(
+                                            point ->
+                                                point
+                                                    .hasAttributes(
+                                                        Attributes.of(
+                                                            AttributeKey.stringKey("event"),
+                                                            "jdk.ThreadContextSwitchRate"))
+                                                    .satisfies(
+                                                        data ->
+                                                            assertThat(data.getValue())
+                                                                .isPositive()))))
+                    .anySatisfy(
+                        metric ->
+                            assertThat(metric)
+                                .hasName("process.runtime.jvm.jfr.consumer.cpu_time"));
+              });
+    }
+  }
 }
@@ -0,0 +1,28 @@
+/*
+ * Copyright The OpenTelemetry Authors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package io.opentelemetry.instrumentation.runtimemetrics.java17.internal;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.CsvSource;
+
+class ThreadGrouperTest {
+
+  @ParameterizedTest
+  @CsvSource({
+    "main, main",
+    "pool-3-thread-17, pool-#-thread-#",
+    "ForkJoinPool-1-worker-5, ForkJoinPool-#-worker-#",
+    "ForkJoinPool.commonPool-worker-3, ForkJoinPool.commonPool-worker-#",
+    "http-nio-8080-exec-10, http-nio-#-exec-#",
+    "Thread-0, Thread-#",
+    "C2 CompilerThread0, C2 CompilerThread0",
+  })
+  void collapsesPoolNumbers(String threadName, String expected) {
+    assertThat(ThreadGrouper.groupedName(threadName)).isEqualTo(expected);
+  }
+}
@@ -103,15 +103,18 @@ public final class MappingResolver {
   private static class PrefixMatcher implements WildcardMatcher {
     private final String mapping;
     private final String prefix;
+    // precomputed so that matching does not concatenate strings on every request
+    private final String prefixWithSlash;
 
     private PrefixMatcher(String mapping, String prefix) {
       this.mapping = mapping;
       this.prefix = prefix;
+      this.prefixWithSlash = prefix + "/";
     }
 
     @Override
     public boolean match(String path) {
-      return path.equals(prefix) || path.startsWith(prefix + "/");
+      return path.equals(prefix) || path.startsWith(prefixWithSlash);
     }
 
     @Override
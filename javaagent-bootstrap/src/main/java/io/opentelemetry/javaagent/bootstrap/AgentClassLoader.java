@@ -16,6 +16,7 @@ import java.net.URL;
 import java.net.URLClassLoader;
 import java.net.URLConnection;
 import java.net.URLStreamHandler;
+import java.nio.ByteBuffer;
 import java.security.AllPermission;
 import java.security.CodeSource;
 import java.security.Permission;
@@ -63,6 +64,8 @@ public class AgentClassLoader extends URLClassLoader {
   private final BootstrapClassLoaderProxy bootstrapProxy;
 
   private final JarFile jarFile;
+  // null when the jar could not be indexed, classes are then read through jarFile
+  @Nullable private final MappedJarIndex jarIndex;
   private final URL jarBase;
   private final String jarEntryPrefix;
   private final CodeSource codeSource;
@@ -110,6 +113,12 @@ public class AgentClassLoader extends URLClassLoader {
     } catch (IOException e) {
       throw new IllegalStateException("Unable to open agent jar", e);
     }
+    jarIndex =
+        MappedJarIndex.create(
+            javaagentFile,
+            jarEntryPrefix,
+            getClassSuffix(),
+            MULTI_RELEASE_JAR_ENABLE ? JAVA_VERSION : 0);
 
     if (!AGENT_INITIALIZER_JAR.isEmpty()) {
       URL url;
@@ -169,7 +178,23 @@ public class AgentClassLoader extends URLClassLoader {
   }
 
   private Class<?> findAgentClass(String name) throws ClassNotFoundException {
-    JarEntry jarEntry = findJarEntry(name.replace('.', '/') + ".class");
+    String resourceName = name.replace('.', '/') + ".class";
+    if (jarIndex != null) {
+      ByteBuffer bytes;
+      try {
+        bytes = jarIndex.readClass(resourceName);
+      } catch (IOException exception) {
+        throw new ClassNotFoundException(name, exception);
+      }
+      if (bytes == null) {
+        return null;
+      }
+
+      definePackageIfNeeded(name);
+      return defineClass(name, bytes, codeSource);
+    }
+
+    JarEntry jarEntry = findJarEntry(resourceName);
     if (jarEntry != null) {
       byte[] bytes;
       try {
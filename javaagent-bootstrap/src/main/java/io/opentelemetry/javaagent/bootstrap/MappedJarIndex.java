@@ -0,0 +1,334 @@
+/*
+ * Copyright The OpenTelemetry Authors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package io.opentelemetry.javaagent.bootstrap;
+
+import static java.nio.charset.StandardCharsets.UTF_8;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.zip.DataFormatException;
+import java.util.zip.Inflater;
+import javax.annotation.Nullable;
+
+/**
+ * Index of the class entries of the agent jar, used by {@link AgentClassLoader} to read class bytes
+ * straight from a memory mapping of the jar.
+ *
+ * <p>The index is built from the central directory of the jar when the class loader is created,
+ * and maps class resource names (e.g. {@code io/opentelemetry/Foo.class}) to the location of their
+ * data in the jar. Multi-release variants are resolved while building the index, so looking up a
+ * class is a single map lookup, also for classes that are not in the jar. Reading an entry does not
+ * go through {@link java.util.jar.JarFile}, which serializes reads of a jar on a lock.
+ *
+ * <p>Jars using zip64 extensions are not supported, {@link #create} returns {@code null} for them,
+ * as well as for jars that are truncated or otherwise malformed.
+ */
+final class MappedJarIndex {
+
+  // NOTE it's important not to use logging in this class, because this class is used before logging
+  // is initialized
+
+  private static final int LOCAL_HEADER_SIGNATURE = 0x04034b50;
+  private static final int LOCAL_HEADER_SIZE = 30;
+  private static final int CENTRAL_HEADER_SIGNATURE = 0x02014b50;
+  private static final int CENTRAL_HEADER_SIZE = 46;
+  private static final int END_SIGNATURE = 0x06054b50;
+  private static final int END_SIZE = 22;
+  private static final int ZIP64_END_LOCATOR_SIGNATURE = 0x07064b50;
+  private static final int ZIP64_END_LOCATOR_SIZE = 20;
+  private static final int MAX_COMMENT_SIZE = 0xFFFF;
+
+  private static final int STORED = 0;
+  private static final int DEFLATED = 8;
+
+  private static final String META_INF_VERSIONS = "META-INF/versions/";
+  // multi release jars were added in java 9, lower versions are ignored like JarFile does
+  private static final int MIN_MULTI_RELEASE_JAR_JAVA_VERSION = 9;
+  private static final int MAX_POOLED_INFLATERS = 4;
+
+  private final ByteBuffer jar;
+  private final Map<String, Entry> entries;
+  private final Deque<Inflater> inflaters = new ArrayDeque<>();
+
+  private MappedJarIndex(ByteBuffer jar, Map<String, Entry> entries) {
+    this.jar = jar;
+    this.entries = entries;
+  }
+
+  /**
+   * Indexes the class entries of {@code jarFile} whose name starts with {@code entryPrefix}.
+   *
+   * @param classSuffix suffix appended to the names of class entries in the jar
+   * @param javaVersion the java version used to pick multi-release variants, or {@code 0} to ignore
+   *     them
+   * @return the index, or {@code null} if the jar could not be indexed
+   */
+  @Nullable
+  static MappedJarIndex create(
+      File jarFile, String entryPrefix, String classSuffix, int javaVersion) {
+    try {
+      ByteBuffer jar = map(jarFile);
+      if (jar == null) {
+        return null;
+      }
+      Map<String, Entry> entries = readCentralDirectory(jar, entryPrefix, classSuffix, javaVersion);
+      return entries == null ? null : new MappedJarIndex(jar, entries);
+    } catch (IOException | RuntimeException e) {
+      // malformed or unexpected jar, fall back to reading it through JarFile
+      return null;
+    }
+  }
+
+  @Nullable
+  private static ByteBuffer map(File file) throws IOException {
+    try (FileChannel channel = FileChannel.open(file.toPath(), StandardOpenOption.READ)) {
+      long size = channel.size();
+      if (size > Integer.MAX_VALUE) {
+        return null;
+      }
+      MappedByteBuffer buffer = channel.map(FileChannel.MapMode.READ_ONLY, 0, size);
+      return buffer.order(ByteOrder.LITTLE_ENDIAN);
+    }
+  }
+
+  @Nullable
+  private static Map<String, Entry> readCentralDirectory(
+      ByteBuffer jar, String entryPrefix, String classSuffix, int javaVersion) {
+    int end = findEndOfCentralDirectory(jar);
+    if (end < 0
+        || (end >= ZIP64_END_LOCATOR_SIZE
+            && jar.getInt(end - ZIP64_END_LOCATOR_SIZE) == ZIP64_END_LOCATOR_SIGNATURE)) {
+      return null;
+    }
+    int entryCount = jar.getShort(end + 10) & 0xFFFF;
+    long centralDirectoryOffset = jar.getInt(end + 16) & 0xFFFFFFFFL;
+    if (entryCount == 0xFFFF || centralDirectoryOffset >= end) {
+      return null;
+    }
+
+    // parsing a copy is a lot faster than reading the mapping one value at a time, which matters
+    // as this runs while the agent starts
+    byte[] centralDirectory = new byte[end - (int) centralDirectoryOffset];
+    ByteBuffer view = jar.duplicate();
+    view.position((int) centralDirectoryOffset);
+    view.get(centralDirectory);
+
+    byte[] prefix = entryPrefix.getBytes(UTF_8);
+    String suffix = ".class" + classSuffix;
+    Map<String, Entry> entries = new HashMap<>();
+
+    int position = 0;
+    for (int i = 0; i < entryCount; i++) {
+      if (getInt(centralDirectory, position) != CENTRAL_HEADER_SIGNATURE) {
+        return null;
+      }
+      int method = getShort(centralDirectory, position + 10);
+      long compressedSize = getInt(centralDirectory, position + 20) & 0xFFFFFFFFL;
+      long size = getInt(centralDirectory, position + 24) & 0xFFFFFFFFL;
+      int nameLength = getShort(centralDirectory, position + 28);
+      int extraLength = getShort(centralDirectory, position + 30);
+      int commentLength = getShort(centralDirectory, position + 32);
+      long localHeaderOffset = getInt(centralDirectory, position + 42) & 0xFFFFFFFFL;
+      int namePosition = position + CENTRAL_HEADER_SIZE;
+      position = namePosition + nameLength + extraLength + commentLength;
+
+      if (!startsWith(centralDirectory, namePosition, nameLength, prefix)) {
+        continue;
+      }
+      if (compressedSize >= Integer.MAX_VALUE
+          || size >= Integer.MAX_VALUE
+          || localHeaderOffset >= Integer.MAX_VALUE) {
+        return null;
+      }
+      // the entry data has to lie before the central directory, otherwise the jar is truncated or
+      // malformed and it's better read through JarFile than misread here
+      if (localHeaderOffset + LOCAL_HEADER_SIZE + nameLength + compressedSize
+              > centralDirectoryOffset
+          || (method != STORED && method != DEFLATED)
+          || (method == STORED && compressedSize != size)) {
+        return null;
+      }
+      String name =
+          new String(
+              centralDirectory,
+              namePosition + prefix.length,
+              nameLength - prefix.length,
+              UTF_8);
+      if (!name.endsWith(suffix)) {
+        continue;
+      }
+      String className = name.substring(0, name.length() - classSuffix.length());
+
+      int version = 0;
+      if (className.startsWith(META_INF_VERSIONS)) {
+        // same logic as in JarFile.getVersionedEntry
+        int versionEnd = className.indexOf('/', META_INF_VERSIONS.length());
+        if (javaVersion == 0 || versionEnd < 0) {
+          continue;
+        }
+        try {
+          version = Integer.parseInt(className.substring(META_INF_VERSIONS.length(), versionEnd));
+        } catch (NumberFormatException e) {
+          continue;
+        }
+        if (version < MIN_MULTI_RELEASE_JAR_JAVA_VERSION || version > javaVersion) {
+          continue;
+        }
+        className = className.substring(versionEnd + 1);
+      }
+      Entry indexed = entries.get(className);
+      if (indexed == null || indexed.version < version) {
+        entries.put(
+            className,
+            new Entry(version, method, (int) compressedSize, (int) size, (int) localHeaderOffset));
+      }
+    }
+    return entries;
+  }
+
+  private static int findEndOfCentralDirectory(ByteBuffer jar) {
+    int minPosition = Math.max(0, jar.limit() - END_SIZE - MAX_COMMENT_SIZE);
+    for (int position = jar.limit() - END_SIZE; position >= minPosition; position--) {
+      if (jar.getInt(position) == END_SIGNATURE) {
+        return position;
+      }
+    }
+    return -1;
+  }
+
+  private static boolean startsWith(byte[] bytes, int position, int length, byte[] prefix) {
+    if (length < prefix.length) {
+      return false;
+    }
+    for (int i = 0; i < prefix.length; i++) {
+      if (bytes[position + i] != prefix[i]) {
+        return false;
+      }
+    }
+    return true;
+  }
+
+  private static int getShort(byte[] bytes, int position) {
+    return (bytes[position] & 0xFF) | (bytes[position + 1] & 0xFF) << 8;
+  }
+
+  private static int getInt(byte[] bytes, int position) {
+    return getShort(bytes, position) | getShort(bytes, position + 2) << 16;
+  }
+
+  /**
+   * Returns the bytes of the class with the given resource name (e.g. {@code
+   * io/opentelemetry/Foo.class}), or {@code null} if the jar does not contain it.
+   */
+  @Nullable
+  ByteBuffer readClass(String resourceName) throws IOException {
+    Entry entry = entries.get(resourceName);
+    if (entry == null) {
+      return null;
+    }
+
+    int headerOffset = entry.localHeaderOffset;
+    if (jar.getInt(headerOffset) != LOCAL_HEADER_SIGNATURE) {
+      throw new IOException("Invalid local header for " + resourceName);
+    }
+    int nameLength = jar.getShort(headerOffset + 26) & 0xFFFF;
+    int extraLength = jar.getShort(headerOffset + 28) & 0xFFFF;
+    int dataOffset = headerOffset + LOCAL_HEADER_SIZE + nameLength + extraLength;
+    if (dataOffset + entry.compressedSize > jar.limit()) {
+      throw new IOException("Truncated entry " + resourceName);
+    }
+
+    // the mapping is shared, so work on a view with its own position and limit
+    ByteBuffer data = jar.duplicate();
+    data.position(dataOffset);
+    data.limit(dataOffset + entry.compressedSize);
+    switch (entry.method) {
+      case STORED:
+        return data.slice();
+      case DEFLATED:
+        return ByteBuffer.wrap(inflate(data, entry.size, resourceName));
+      default:
+        throw new IOException(
+            "Unsupported compression method " + entry.method + " for " + resourceName);
+    }
+  }
+
+  private byte[] inflate(ByteBuffer data, int size, String resourceName) throws IOException {
+    // Inflater.setInput(ByteBuffer) is not available on java 8
+    byte[] input = new byte[data.remaining()];
+    data.get(input);
+    byte[] output = new byte[size];
+
+    Inflater inflater = acquireInflater();
+    try {
+      inflater.setInput(input);
+      int offset = 0;
+      while (offset < size) {
+        int inflated = inflater.inflate(output, offset, size - offset);
+        if (inflated == 0 && (inflater.finished() || inflater.needsInput())) {
+          break;
+        }
+        offset += inflated;
+      }
+      if (offset != size) {
+        throw new IOException("Truncated entry " + resourceName);
+      }
+      return output;
+    } catch (DataFormatException e) {
+      throw new IOException("Invalid compressed data for " + resourceName, e);
+    } finally {
+      releaseInflater(inflater);
+    }
+  }
+
+  private Inflater acquireInflater() {
+    synchronized (inflaters) {
+      Inflater inflater = inflaters.poll();
+      if (inflater != null) {
+        return inflater;
+      }
+    }
+    // zip entries contain raw deflate data without zlib header
+    return new Inflater(/* nowrap= */ true);
+  }
+
+  private void releaseInflater(Inflater inflater) {
+    inflater.reset();
+    synchronized (inflaters) {
+      if (inflaters.size() < MAX_POOLED_INFLATERS) {
+        inflaters.push(inflater);
+        return;
+      }
+    }
+    inflater.end();
+  }
+
+  private static final class Entry {
+    // multi-release version of the entry, 0 for the base entry
+    final int version;
+    final int method;
+    final int compressedSize;
+    final int size;
+    final int localHeaderOffset;
+
+    Entry(int version, int method, int compressedSize, int size, int localHeaderOffset) {
+      this.version = version;
+      this.method = method;
+      this.compressedSize = compressedSize;
+      this.size = size;
+      this.localHeaderOffset = localHeaderOffset;
+    }
+  }
+}
@@ -0,0 +1,195 @@
+/*
+ * Copyright The OpenTelemetry Authors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package io.opentelemetry.javaagent.bootstrap;
+
+import static java.nio.charset.StandardCharsets.UTF_8;
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.zip.CRC32;
+import java.util.zip.ZipEntry;
+import java.util.zip.ZipOutputStream;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+class MappedJarIndexTest {
+
+  @TempDir Path tempDir;
+
+  @Test
+  void readsStoredAndDeflatedEntries() throws IOException {
+    Map<String, String> entries = new LinkedHashMap<>();
+    entries.put("a/Stored.class", "stored bytes");
+    entries.put("a/Deflated.class", repeat("deflated bytes ", 100));
+    File jar = writeJar("test.jar", entries, "a/Stored.class");
+
+    MappedJarIndex index = MappedJarIndex.create(jar, "", "", 0);
+
+    assertThat(index).isNotNull();
+    assertThat(read(index, "a/Stored.class")).isEqualTo("stored bytes");
+    assertThat(read(index, "a/Deflated.class")).isEqualTo(repeat("deflated bytes ", 100));
+    assertThat(index.readClass("a/Missing.class")).isNull();
+  }
+
+  @Test
+  void selectsMultiReleaseVersion() throws IOException {
+    Map<String, String> entries = new LinkedHashMap<>();
+    entries.put("a/B.class", "base");
+    entries.put("META-INF/versions/8/a/B.class", "8");
+    entries.put("META-INF/versions/9/a/B.class", "9");
+    entries.put("META-INF/versions/11/a/B.class", "11");
+    entries.put("META-INF/versions/8/a/OnlyEight.class", "8");
+    entries.put("a/OnlyEight.class", "base");
+    File jar = writeJar("multi-release.jar", entries);
+
+    assertThat(read(MappedJarIndex.create(jar, "", "", 0), "a/B.class")).isEqualTo("base");
+    assertThat(read(MappedJarIndex.create(jar, "", "", 9), "a/B.class")).isEqualTo("9");
+    assertThat(read(MappedJarIndex.create(jar, "", "", 10), "a/B.class")).isEqualTo("9");
+    assertThat(read(MappedJarIndex.create(jar, "", "", 17), "a/B.class")).isEqualTo("11");
+    // versions below 9 are not multi-release variants
+    assertThat(read(MappedJarIndex.create(jar, "", "", 17), "a/OnlyEight.class"))
+        .isEqualTo("base");
+  }
+
+  @Test
+  void indexesOnlyEntriesWithPrefix() throws IOException {
+    Map<String, String> entries = new LinkedHashMap<>();
+    entries.put("inst/a/C.classdata", "prefixed");
+    entries.put("inst/META-INF/versions/11/a/C.classdata", "prefixed 11");
+    entries.put("a/D.classdata", "not prefixed");
+    entries.put("inst/a/resource.txt", "not a class");
+    File jar = writeJar("prefix.jar", entries);
+
+    MappedJarIndex index = MappedJarIndex.create(jar, "inst/", "data", 0);
+
+    assertThat(read(index, "a/C.class")).isEqualTo("prefixed");
+    assertThat(index.readClass("a/D.class")).isNull();
+    assertThat(index.readClass("a/resource.txt")).isNull();
+    assertThat(read(MappedJarIndex.create(jar, "inst/", "data", 11), "a/C.class"))
+        .isEqualTo("prefixed 11");
+  }
+
+  @Test
+  void doesNotIndexZip64Jar() throws IOException {
+    // zip64 end records are written for 0xFFFF entries and more
+    File jar = tempDir.resolve("zip64.jar").toFile();
+    try (ZipOutputStream out = new ZipOutputStream(Files.newOutputStream(jar.toPath()))) {
+      for (int i = 0; i < 0xFFFF; i++) {
+        out.putNextEntry(new ZipEntry("a/C" + i + ".class"));
+        out.closeEntry();
+      }
+    }
+
+    assertThat(MappedJarIndex.create(jar, "", "", 0)).isNull();
+  }
+
+  @Test
+  void doesNotIndexTruncatedJar() throws IOException {
+    File jar = writeJar("test.jar", singleEntry());
+    byte[] bytes = Files.readAllBytes(jar.toPath());
+    File truncated = write("truncated.jar", Arrays.copyOf(bytes, bytes.length / 2));
+
+    assertThat(MappedJarIndex.create(truncated, "", "", 0)).isNull();
+  }
+
+  @Test
+  void doesNotIndexMalformedJar() throws IOException {
+    File jar = writeJar("test.jar", singleEntry());
+    byte[] bytes = Files.readAllBytes(jar.toPath());
+    int centralHeader = indexOf(bytes, 0x02014b50);
+
+    // compressed size pointing past the central directory
+    byte[] oversized = bytes.clone();
+    putInt(oversized, centralHeader + 20, 0x10000);
+    assertThat(MappedJarIndex.create(write("oversized.jar", oversized), "", "", 0)).isNull();
+
+    // invalid central directory header
+    byte[] badSignature = bytes.clone();
+    putInt(badSignature, centralHeader, 0x12345678);
+    assertThat(MappedJarIndex.create(write("signature.jar", badSignature), "", "", 0)).isNull();
+
+    // unsupported compression method
+    byte[] badMethod = bytes.clone();
+    badMethod[centralHeader + 10] = 12;
+    assertThat(MappedJarIndex.create(write("method.jar", badMethod), "", "", 0)).isNull();
+  }
+
+  private static Map<String, String> singleEntry() {
+    Map<String, String> entries = new LinkedHashMap<>();
+    entries.put("a/B.class", repeat("class bytes ", 10));
+    return entries;
+  }
+
+  private static String read(MappedJarIndex index, String resourceName) throws IOException {
+    ByteBuffer bytes = index.readClass(resourceName);
+    byte[] array = new byte[bytes.remaining()];
+    bytes.get(array);
+    return new String(array, UTF_8);
+  }
+
+  private File writeJar(String name, Map<String, String> entries, String... storedEntries)
+      throws IOException {
+    File jar = tempDir.resolve(name).toFile();
+    try (ZipOutputStream out = new ZipOutputStream(Files.newOutputStream(jar.toPath()))) {
+      for (Map.Entry<String, String> entry : entries.entrySet()) {
+        byte[] bytes = entry.getValue().getBytes(UTF_8);
+        ZipEntry zipEntry = new ZipEntry(entry.getKey());
+        if (Arrays.asList(storedEntries).contains(entry.getKey())) {
+          CRC32 crc = new CRC32();
+          crc.update(bytes);
+          zipEntry.setMethod(ZipEntry.STORED);
+          zipEntry.setSize(bytes.length);
+          zipEntry.setCrc(crc.getValue());
+        }
+        out.putNextEntry(zipEntry);
+        out.write(bytes);
+        out.closeEntry();
+      }
+    }
+    return jar;
+  }
+
+  private File write(String name, byte[] bytes) throws IOException {
+    return Files.write(tempDir.resolve(name), bytes).toFile();
+  }
+
+  private static int indexOf(byte[] bytes, int signature) {
+    for (int i = 0; i < bytes.length - 3; i++) {
+      if (getInt(bytes, i) == signature) {
+        return i;
+      }
+    }
+    throw new AssertionError("signature not found");
+  }
+
+  private static int getInt(byte[] bytes, int position) {
+    return (bytes[position] & 0xFF)
+        | (bytes[position + 1] & 0xFF) << 8
+        | (bytes[position + 2] & 0xFF) << 16
+        | (bytes[position + 3] & 0xFF) << 24;
+  }
+
+  private static void putInt(byte[] bytes, int position, int value) {
+    for (int i = 0; i < 4; i++) {
+      bytes[position + i] = (byte) (value >>> (8 * i));
+    }
+  }
+
+  private static String repeat(String value, int count) {
+    StringBuilder result = new StringBuilder();
+    for (int i = 0; i < count; i++) {
+      result.append(value);
+    }
+    return result.toString();
+  }
+}
@@ -0,0 +1,99 @@
+/*
+ * Copyright The OpenTelemetry Authors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package io.opentelemetry.javaagent.tooling.field;
+
+import io.opentelemetry.instrumentation.api.internal.cache.Cache;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Compares the two storage strategies used by the generated {@code VirtualField} implementations:
+ * the injected field accessed through the generated accessor interface, and the weak map fallback
+ * used for types that could not be transformed (e.g. bootstrap types loaded before the agent).
+ */
+@Fork(1)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 10, time = 1)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@BenchmarkMode(Mode.AverageTime)
+@Threads(4)
+@State(Scope.Thread)
+public class VirtualFieldStoreBenchmark {
+
+  private static final Cache<Object, Object> map = Cache.weak();
+
+  private final FieldBackedKey fieldBackedKey = new FieldBackedKey();
+  private final Object mapBackedKey = new Object();
+  private final Object value = new Object();
+
+  @Benchmark
+  public Object fieldBackedGet() {
+    return realGet(fieldBackedKey);
+  }
+
+  @Benchmark
+  public Object mapBackedGet() {
+    return realGet(mapBackedKey);
+  }
+
+  @Benchmark
+  public void fieldBackedSetAndGet() {
+    realPut(fieldBackedKey, value);
+    realGet(fieldBackedKey);
+  }
+
+  @Benchmark
+  public void mapBackedSetAndGet() {
+    realPut(mapBackedKey, value);
+    realGet(mapBackedKey);
+  }
+
+  // mirrors the code generated for VirtualFieldImplementationTemplate#realGet
+  private static Object realGet(Object key) {
+    if (key instanceof FieldAccessor) {
+      return ((FieldAccessor) key).getField();
+    }
+    return map.get(key);
+  }
+
+  // mirrors the code generated for VirtualFieldImplementationTemplate#realPut
+  private static void realPut(Object key, Object value) {
+    if (key instanceof FieldAccessor) {
+      ((FieldAccessor) key).setField(value);
+    } else {
+      map.put(key, value);
+    }
+  }
+
+  interface FieldAccessor {
+    Object getField();
+
+    void setField(Object value);
+  }
+
+  static final class FieldBackedKey implements FieldAccessor {
+    private volatile Object field;
+
+    @Override
+    public Object getField() {
+      return field;
+    }
+
+    @Override
+    public void setField(Object value) {
+      this.field = value;
+    }
+  }
+}
@@ -49,6 +49,7 @@ import java.util.Collections;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.concurrent.TimeUnit;
 import java.util.logging.LogManager;
 import java.util.logging.Logger;
 import java.util.stream.Stream;
@@ -96,9 +97,11 @@ public class AgentInstaller {
 
     logVersionInfo();
     if (earlyConfig.getBoolean(JAVAAGENT_ENABLED_CONFIG, true)) {
+      long startTime = System.nanoTime();
       setupUnsafe(inst);
       List<AgentListener> agentListeners = loadOrdered(AgentListener.class, extensionClassLoader);
       installBytebuddyAgent(inst, extensionClassLoader, agentListeners);
+      logPhaseDuration("Agent installation", startTime);
     } else {
       logger.fine("Tracing is disabled, not installing instrumentations.");
     }
@@ -109,6 +112,7 @@ public class AgentInstaller {
       ClassLoader extensionClassLoader,
       Iterable<AgentListener> agentListeners) {
 
+    long phaseStartTime = System.nanoTime();
     WeakRefAsyncOperationEndStrategies.initialize();
 
     EmbeddedInstrumentationProperties.setPropertiesLoader(extensionClassLoader);
@@ -125,11 +129,13 @@ public class AgentInstaller {
     copyNecessaryConfigToSystemProperties(sdkConfig);
 
     setBootstrapPackages(sdkConfig, extensionClassLoader);
+    phaseStartTime = logPhaseDuration("OpenTelemetry SDK installation", phaseStartTime);
 
     for (BeforeAgentListener agentListener :
         loadOrdered(BeforeAgentListener.class, extensionClassLoader)) {
       agentListener.beforeAgent(autoConfiguredSdk);
     }
+    phaseStartTime = logPhaseDuration("BeforeAgentListener calls", phaseStartTime);
 
     AgentBuilder agentBuilder =
         new AgentBuilder.Default(
@@ -162,6 +168,7 @@ public class AgentInstaller {
               .with(new RedefinitionLoggingListener())
               .with(new TransformLoggingListener());
     }
+    phaseStartTime = logPhaseDuration("Ignored types configuration", phaseStartTime);
 
     int numberOfLoadedExtensions = 0;
     for (AgentExtension agentExtension : loadOrdered(AgentExtension.class, extensionClassLoader)) {
@@ -184,16 +191,34 @@ public class AgentInstaller {
                 + "]",
             e);
       }
+      // a failing extension is timed too, so that its time isn't attributed to the next phase
+      phaseStartTime =
+          logPhaseDuration("Extension " + agentExtension.extensionName(), phaseStartTime);
     }
     logger.log(FINE, "Installed {0} extension(s)", numberOfLoadedExtensions);
 
     agentBuilder = AgentBuilderUtil.optimize(agentBuilder);
     ResettableClassFileTransformer resettableClassFileTransformer = agentBuilder.installOn(inst);
     ClassFileTransformerHolder.setClassFileTransformer(resettableClassFileTransformer);
+    // includes the retransformation of the classes that were loaded before the agent
+    phaseStartTime = logPhaseDuration("Class file transformer installation", phaseStartTime);
 
     addHttpServerResponseCustomizers(extensionClassLoader);
 
     runAfterAgentListeners(agentListeners, autoConfiguredSdk);
+    logPhaseDuration("AgentListener calls", phaseStartTime);
+  }
+
+  // returns the start time of the next phase
+  private static long logPhaseDuration(String phase, long phaseStartTime) {
+    long endTime = System.nanoTime();
+    if (logger.isLoggable(FINE)) {
+      logger.log(
+          FINE,
+          "{0} took {1} ms",
+          new Object[] {phase, TimeUnit.NANOSECONDS.toMillis(endTime - phaseStartTime)});
+    }
+    return endTime;
   }
 
   private static void copyNecessaryConfigToSystemProperties(ConfigProperties config) {
@@ -6,6 +6,7 @@
 package io.opentelemetry.javaagent.tooling;
 
 import io.opentelemetry.javaagent.tooling.config.EarlyInitAgentConfig;
+import java.io.ByteArrayOutputStream;
 import java.io.File;
 import java.io.FileOutputStream;
 import java.io.IOException;
@@ -41,6 +42,8 @@ import net.bytebuddy.dynamic.loading.MultipleParentClassLoader;
 @SuppressWarnings("SystemOut")
 public class ExtensionClassLoader extends URLClassLoader {
   public static final String EXTENSIONS_CONFIG = "otel.javaagent.extensions";
+  public static final String EXTENSIONS_CACHE_DIR_CONFIG =
+      "otel.javaagent.experimental.extensions.cache-dir";
 
   private final boolean isSecurityManagerSupportEnabled;
 
@@ -56,15 +59,21 @@ public class ExtensionClassLoader extends URLClassLoader {
       File javaagentFile,
       boolean isSecurityManagerSupportEnabled,
       EarlyInitAgentConfig earlyConfig) {
+    RemappedExtensionCache cache =
+        RemappedExtensionCache.create(
+            earlyConfig.getString(EXTENSIONS_CACHE_DIR_CONFIG), javaagentFile);
     List<URL> extensions = new ArrayList<>();
 
-    includeEmbeddedExtensionsIfFound(extensions, javaagentFile);
+    includeEmbeddedExtensionsIfFound(extensions, javaagentFile, cache);
 
-    extensions.addAll(parseLocation(earlyConfig.getString(EXTENSIONS_CONFIG), javaagentFile));
+    extensions.addAll(
+        parseLocation(earlyConfig.getString(EXTENSIONS_CONFIG), javaagentFile, cache));
 
     extensions.addAll(
         parseLocation(
-            earlyConfig.getString("otel.javaagent.experimental.extensions"), javaagentFile));
+            earlyConfig.getString("otel.javaagent.experimental.extensions"),
+            javaagentFile,
+            cache));
 
     // TODO when logging is configured add warning about deprecated property
 
@@ -79,7 +88,8 @@ public class ExtensionClassLoader extends URLClassLoader {
     return new MultipleParentClassLoader(parent, delegates);
   }
 
-  private static void includeEmbeddedExtensionsIfFound(List<URL> extensions, File javaagentFile) {
+  private static void includeEmbeddedExtensionsIfFound(
+      List<URL> extensions, File javaagentFile, @Nullable RemappedExtensionCache cache) {
     try {
       JarFile jarFile = new JarFile(javaagentFile, false);
       Enumeration<JarEntry> entryEnumeration = jarFile.entries();
@@ -90,6 +100,9 @@ public class ExtensionClassLoader extends URLClassLoader {
         String name = jarEntry.getName();
 
         if (name.startsWith(prefix) && !jarEntry.isDirectory()) {
+          if (cache != null && addCachedFileUrl(extensions, jarFile, jarEntry, cache)) {
+            continue;
+          }
           tempDirectory = ensureTempDirectoryExists(tempDirectory);
 
           File tempFile = new File(tempDirectory, name.substring(prefix.length()));
@@ -104,7 +117,7 @@ public class ExtensionClassLoader extends URLClassLoader {
           if (tempFile.createNewFile()) {
             tempFile.deleteOnExit();
             extractFile(jarFile, jarEntry, tempFile);
-            addFileUrl(extensions, tempFile);
+            addFileUrl(extensions, tempFile, null);
           } else {
             System.err.println("Failed to create temp file " + tempFile);
           }
@@ -130,32 +143,43 @@ public class ExtensionClassLoader extends URLClassLoader {
 
   // visible for testing
   static List<URL> parseLocation(@Nullable String locationName, File javaagentFile) {
+    return parseLocation(locationName, javaagentFile, null);
+  }
+
+  private static List<URL> parseLocation(
+      @Nullable String locationName,
+      File javaagentFile,
+      @Nullable RemappedExtensionCache cache) {
     if (locationName == null) {
       return Collections.emptyList();
     }
 
     List<URL> result = new ArrayList<>();
     for (String location : locationName.split(",")) {
-      parseLocation(location, javaagentFile, result);
+      parseLocation(location, javaagentFile, result, cache);
     }
 
     return result;
   }
 
-  private static void parseLocation(String locationName, File javaagentFile, List<URL> locations) {
+  private static void parseLocation(
+      String locationName,
+      File javaagentFile,
+      List<URL> locations,
+      @Nullable RemappedExtensionCache cache) {
     if (locationName.isEmpty()) {
       return;
     }
 
     File location = new File(locationName);
     if (isJar(location)) {
-      addFileUrl(locations, location);
+      addFileUrl(locations, location, cache);
     } else if (location.isDirectory()) {
       File[] files = location.listFiles(ExtensionClassLoader::isJar);
       if (files != null) {
         for (File file : files) {
           if (isJar(file) && !file.getAbsolutePath().equals(javaagentFile.getAbsolutePath())) {
-            addFileUrl(locations, file);
+            addFileUrl(locations, file, cache);
           }
         }
       }
@@ -166,7 +190,18 @@ public class ExtensionClassLoader extends URLClassLoader {
     return f.isFile() && f.getName().endsWith(".jar");
   }
 
-  private static void addFileUrl(List<URL> result, File file) {
+  private static void addFileUrl(
+      List<URL> result, File file, @Nullable RemappedExtensionCache cache) {
+    if (cache != null) {
+      try {
+        // already remapped, or doesn't need remapping
+        result.add(cache.getRemapped(file).toURI().toURL());
+        return;
+      } catch (IOException | RuntimeException e) {
+        System.err.println(
+            "Failed to use extension cache for " + file + ", remapping it while loading: " + e);
+      }
+    }
     try {
       URL wrappedUrl = new URL("otel", null, -1, "/", new RemappingUrlStreamHandler(file));
       result.add(wrappedUrl);
@@ -175,6 +210,32 @@ public class ExtensionClassLoader extends URLClassLoader {
     }
   }
 
+  private static boolean addCachedFileUrl(
+      List<URL> result, JarFile jarFile, JarEntry jarEntry, RemappedExtensionCache cache) {
+    try {
+      byte[] content;
+      try (InputStream in = jarFile.getInputStream(jarEntry)) {
+        content = readAll(in);
+      }
+      result.add(cache.getRemapped(content).toURI().toURL());
+      return true;
+    } catch (IOException | RuntimeException e) {
+      System.err.println(
+          "Failed to use extension cache for " + jarEntry.getName() + ", extracting it: " + e);
+      return false;
+    }
+  }
+
+  private static byte[] readAll(InputStream in) throws IOException {
+    ByteArrayOutputStream out = new ByteArrayOutputStream();
+    byte[] buffer = new byte[8192];
+    int read;
+    while ((read = in.read(buffer)) != -1) {
+      out.write(buffer, 0, read);
+    }
+    return out.toByteArray();
+  }
+
   private static void extractFile(JarFile jarFile, JarEntry jarEntry, File outputFile)
       throws IOException {
     try (InputStream in = jarFile.getInputStream(jarEntry);
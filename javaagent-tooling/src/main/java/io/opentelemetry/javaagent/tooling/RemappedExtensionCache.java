@@ -0,0 +1,208 @@
+/*
+ * Copyright The OpenTelemetry Authors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package io.opentelemetry.javaagent.tooling;
+
+import static java.nio.charset.StandardCharsets.UTF_8;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.File;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.file.AtomicMoveNotSupportedException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.zip.ZipEntry;
+import java.util.zip.ZipInputStream;
+import java.util.zip.ZipOutputStream;
+import javax.annotation.Nullable;
+
+/**
+ * A directory of extension jars whose classes have already been remapped to the shaded packages of
+ * the agent, so that they can be loaded with a plain {@link java.net.URLClassLoader} instead of
+ * being remapped by {@link RemappingUrlConnection} every time the agent starts.
+ *
+ * <p>Entries are keyed by a hash of the content of the extension jar and of the agent jar that
+ * remaps it, so a changed extension or a different agent never picks up a stale entry. When no
+ * class of an extension references a shaded package, only an empty marker is stored and the
+ * original extension jar is used as is.
+ */
+// used by ExtensionClassLoader, which runs before logging is initialized
+@SuppressWarnings("SystemOut")
+final class RemappedExtensionCache {
+
+  // bump when the format of the cached jars changes
+  private static final String CACHE_FORMAT_VERSION = "1";
+  private static final String REMAPPED_SUFFIX = ".jar";
+  private static final String NOT_REMAPPED_SUFFIX = ".unshaded";
+
+  private final File directory;
+  private final String agentKey;
+
+  private RemappedExtensionCache(File directory, String agentKey) {
+    this.directory = directory;
+    this.agentKey = agentKey;
+  }
+
+  /** Returns the cache in {@code directoryName}, or {@code null} if no directory is configured. */
+  @Nullable
+  static RemappedExtensionCache create(@Nullable String directoryName, File javaagentFile) {
+    if (directoryName == null || directoryName.isEmpty()) {
+      return null;
+    }
+    File directory = new File(directoryName);
+    if (!directory.isDirectory() && !directory.mkdirs()) {
+      System.err.println("Failed to create extension cache directory " + directory);
+      return null;
+    }
+    // the version is not enough to identify snapshot builds of the agent
+    String agentKey =
+        CACHE_FORMAT_VERSION
+            + ':'
+            + AgentVersion.VERSION
+            + ':'
+            + javaagentFile.length()
+            + ':'
+            + javaagentFile.lastModified();
+    return new RemappedExtensionCache(directory, agentKey);
+  }
+
+  /**
+   * Returns a jar with the classes of {@code extension} remapped, or {@code extension} itself if it
+   * does not need remapping.
+   */
+  File getRemapped(File extension) throws IOException {
+    byte[] content = Files.readAllBytes(extension.toPath());
+    String key = key(content);
+    if (new File(directory, key + NOT_REMAPPED_SUFFIX).isFile()) {
+      return extension;
+    }
+    File remapped = new File(directory, key + REMAPPED_SUFFIX);
+    if (remapped.isFile()) {
+      return remapped;
+    }
+    if (!writeRemapped(content, key, /* writeIfUnchanged= */ false)) {
+      return extension;
+    }
+    return remapped;
+  }
+
+  /**
+   * Returns a jar with the classes of the extension jar {@code content}, which is embedded in the
+   * agent jar, remapped.
+   */
+  File getRemapped(byte[] content) throws IOException {
+    String key = key(content);
+    File remapped = new File(directory, key + REMAPPED_SUFFIX);
+    if (!remapped.isFile()) {
+      writeRemapped(content, key, /* writeIfUnchanged= */ true);
+    }
+    return remapped;
+  }
+
+  /** Returns whether a remapped jar was written. */
+  private boolean writeRemapped(byte[] content, String key, boolean writeIfUnchanged)
+      throws IOException {
+    ByteArrayOutputStream remappedContent = new ByteArrayOutputStream(content.length);
+    boolean changed = remap(content, remappedContent);
+    if (!changed && !writeIfUnchanged) {
+      write(new byte[0], new File(directory, key + NOT_REMAPPED_SUFFIX));
+      return false;
+    }
+    write(remappedContent.toByteArray(), new File(directory, key + REMAPPED_SUFFIX));
+    return true;
+  }
+
+  /** Copies the jar {@code content} to {@code out}, remapping classes. */
+  private static boolean remap(byte[] content, OutputStream out) throws IOException {
+    boolean changed = false;
+    try (ZipInputStream in = new ZipInputStream(new ByteArrayInputStream(content));
+        ZipOutputStream zipOut = new ZipOutputStream(out)) {
+      byte[] buffer = new byte[8192];
+      for (ZipEntry entry = in.getNextEntry(); entry != null; entry = in.getNextEntry()) {
+        String name = entry.getName();
+        // the remapped classes would not match the signature anymore, and signatures of extensions
+        // have never been verified as classes were read with verification disabled
+        if (isSignatureFile(name)) {
+          continue;
+        }
+        ZipEntry remappedEntry = new ZipEntry(name);
+        remappedEntry.setTime(entry.getTime());
+        zipOut.putNextEntry(remappedEntry);
+        if (!entry.isDirectory()) {
+          if (name.endsWith(".class")) {
+            byte[] classBytes = readAll(in, buffer);
+            byte[] remappedBytes = RemappingUrlConnection.remapClassBytesIfNeeded(classBytes);
+            changed |= remappedBytes != classBytes;
+            zipOut.write(remappedBytes);
+          } else {
+            int read;
+            while ((read = in.read(buffer)) != -1) {
+              zipOut.write(buffer, 0, read);
+            }
+          }
+        }
+        zipOut.closeEntry();
+      }
+    }
+    return changed;
+  }
+
+  private static boolean isSignatureFile(String name) {
+    if (!name.startsWith("META-INF/") || name.indexOf('/', "META-INF/".length()) != -1) {
+      return false;
+    }
+    return name.endsWith(".SF")
+        || name.endsWith(".RSA")
+        || name.endsWith(".DSA")
+        || name.endsWith(".EC");
+  }
+
+  private static byte[] readAll(InputStream in, byte[] buffer) throws IOException {
+    ByteArrayOutputStream out = new ByteArrayOutputStream();
+    int read;
+    while ((read = in.read(buffer)) != -1) {
+      out.write(buffer, 0, read);
+    }
+    return out.toByteArray();
+  }
+
+  private void write(byte[] content, File target) throws IOException {
+    // write to a temporary file first, so that concurrently starting processes sharing the cache
+    // never see a partially written jar
+    Path temp = Files.createTempFile(directory.toPath(), target.getName(), ".tmp");
+    try {
+      Files.write(temp, content);
+      try {
+        Files.move(temp, target.toPath(), StandardCopyOption.ATOMIC_MOVE);
+      } catch (AtomicMoveNotSupportedException e) {
+        Files.move(temp, target.toPath(), StandardCopyOption.REPLACE_EXISTING);
+      }
+    } finally {
+      Files.deleteIfExists(temp);
+    }
+  }
+
+  private String key(byte[] content) {
+    MessageDigest digest;
+    try {
+      digest = MessageDigest.getInstance("SHA-256");
+    } catch (NoSuchAlgorithmException e) {
+      throw new IllegalStateException("SHA-256 is not supported", e);
+    }
+    digest.update(agentKey.getBytes(UTF_8));
+    byte[] hash = digest.digest(content);
+    StringBuilder key = new StringBuilder(hash.length * 2);
+    for (byte b : hash) {
+      key.append(Character.forDigit((b >> 4) & 0xF, 16)).append(Character.forDigit(b & 0xF, 16));
+    }
+    return key.toString();
+  }
+}
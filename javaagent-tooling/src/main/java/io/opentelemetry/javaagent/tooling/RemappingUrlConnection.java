@@ -18,6 +18,7 @@ import java.util.jar.JarFile;
 import org.objectweb.asm.ClassReader;
 import org.objectweb.asm.ClassWriter;
 import org.objectweb.asm.commons.ClassRemapper;
+import org.objectweb.asm.commons.Remapper;
 
 public class RemappingUrlConnection extends URLConnection {
   // We need to prefix the names to prevent the gradle shadowJar relocation rules from touching
@@ -83,9 +84,34 @@ public class RemappingUrlConnection extends URLConnection {
     return cw.toByteArray();
   }
 
+  /**
+   * Returns the remapped class, or {@code classBytes} itself if the class does not reference any of
+   * the remapped packages.
+   */
+  static byte[] remapClassBytesIfNeeded(byte[] classBytes) {
+    TrackingRemapper trackingRemapper = new TrackingRemapper();
+    ClassReader cr = new ClassReader(classBytes);
+    ClassWriter cw = new ClassWriter(cr, 0);
+    cr.accept(new ClassRemapper(cw, trackingRemapper), ClassReader.EXPAND_FRAMES);
+    return trackingRemapper.changed ? cw.toByteArray() : classBytes;
+  }
+
   @Override
   public Permission getPermission() {
     // No permissions needed because all classes are in memory
     return null;
   }
+
+  private static class TrackingRemapper extends Remapper {
+    boolean changed;
+
+    @Override
+    public String map(String internalName) {
+      String mapped = remapper.map(internalName);
+      if (!internalName.equals(mapped)) {
+        changed = true;
+      }
+      return mapped;
+    }
+  }
 }
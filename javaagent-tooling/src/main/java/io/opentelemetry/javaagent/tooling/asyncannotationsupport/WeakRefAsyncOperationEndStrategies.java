@@ -26,14 +26,20 @@ public final class WeakRefAsyncOperationEndStrategies extends AsyncOperationEndS
 
   private final List<WeakReference<AsyncOperationEndStrategy>> strategies =
       new CopyOnWriteArrayList<>();
+  // replaced whenever the registered strategies change; a null value means that no strategy
+  // supports the type, a cleared reference means that the resolved strategy was collected
+  private volatile ClassValue<WeakReference<AsyncOperationEndStrategy>> resolvedStrategies =
+      newResolvedStrategies();
 
-  private WeakRefAsyncOperationEndStrategies() {
+  // visible for testing
+  WeakRefAsyncOperationEndStrategies() {
     registerStrategy(Jdk8AsyncOperationEndStrategy.INSTANCE);
   }
 
   @Override
   public void registerStrategy(AsyncOperationEndStrategy strategy) {
     strategies.add(new WeakReference<>(strategy));
+    resolvedStrategies = newResolvedStrategies();
   }
 
   @Override
@@ -43,11 +49,40 @@ public final class WeakRefAsyncOperationEndStrategies extends AsyncOperationEndS
           AsyncOperationEndStrategy s = ref.get();
           return s == null || s == strategy;
         });
+    resolvedStrategies = newResolvedStrategies();
   }
 
   @Nullable
   @Override
   public AsyncOperationEndStrategy resolveStrategy(Class<?> returnType) {
+    ClassValue<WeakReference<AsyncOperationEndStrategy>> resolvedStrategies =
+        this.resolvedStrategies;
+    WeakReference<AsyncOperationEndStrategy> ref = resolvedStrategies.get(returnType);
+    if (ref == null) {
+      return null;
+    }
+    AsyncOperationEndStrategy strategy = ref.get();
+    if (strategy == null) {
+      resolvedStrategies.remove(returnType);
+      ref = resolvedStrategies.get(returnType);
+      strategy = ref == null ? null : ref.get();
+    }
+    return strategy;
+  }
+
+  private ClassValue<WeakReference<AsyncOperationEndStrategy>> newResolvedStrategies() {
+    return new ClassValue<WeakReference<AsyncOperationEndStrategy>>() {
+      @Override
+      @Nullable
+      protected WeakReference<AsyncOperationEndStrategy> computeValue(Class<?> returnType) {
+        AsyncOperationEndStrategy strategy = findStrategy(returnType);
+        return strategy == null ? null : new WeakReference<>(strategy);
+      }
+    };
+  }
+
+  @Nullable
+  private AsyncOperationEndStrategy findStrategy(Class<?> returnType) {
     boolean purgeCollectedWeakReferences = false;
     try {
       for (WeakReference<AsyncOperationEndStrategy> ref : strategies) {
@@ -8,6 +8,7 @@ package io.opentelemetry.javaagent.tooling.field;
 import static io.opentelemetry.javaagent.tooling.field.GeneratedVirtualFieldNames.getRealGetterName;
 import static io.opentelemetry.javaagent.tooling.field.GeneratedVirtualFieldNames.getRealSetterName;
 import static io.opentelemetry.javaagent.tooling.field.GeneratedVirtualFieldNames.getVirtualFieldImplementationClassName;
+import static java.util.logging.Level.FINE;
 
 import com.google.errorprone.annotations.CanIgnoreReturnValue;
 import io.opentelemetry.instrumentation.api.internal.cache.Cache;
@@ -16,6 +17,7 @@ import io.opentelemetry.javaagent.tooling.Utils;
 import io.opentelemetry.javaagent.tooling.muzzle.VirtualFieldMappings;
 import java.util.HashMap;
 import java.util.Map;
+import java.util.logging.Logger;
 import net.bytebuddy.ByteBuddy;
 import net.bytebuddy.ClassFileVersion;
 import net.bytebuddy.asm.AsmVisitorWrapper;
@@ -265,10 +267,15 @@ final class VirtualFieldImplementationsGenerator {
   // Called from generated code
   @SuppressWarnings({"UnusedMethod", "UnusedVariable", "MethodCanBeStatic"})
   static final class VirtualFieldImplementationTemplate extends VirtualField<Object, Object> {
+    private static final Logger logger =
+        Logger.getLogger(VirtualFieldImplementationTemplate.class.getName());
+
     private static final VirtualFieldImplementationTemplate INSTANCE =
         new VirtualFieldImplementationTemplate(Cache.weak());
 
     private final Cache<Object, Object> map;
+    // key types that were already reported as falling back to the map
+    private final Cache<Class<?>, Boolean> reportedFallbackTypes = Cache.weak();
 
     private VirtualFieldImplementationTemplate(Cache<Object, Object> map) {
       this.map = map;
@@ -301,10 +308,27 @@ final class VirtualFieldImplementationsGenerator {
       if (value == null) {
         map.remove(key);
       } else {
+        if (logger.isLoggable(FINE)) {
+          reportFallback(key);
+        }
         map.put(key, value);
       }
     }
 
+    // reports key types whose instances do not have an injected field (e.g. bootstrap classes that
+    // were loaded before the agent was installed and can't be retransformed with new fields), and
+    // therefore pay for a weak map lookup on every access
+    private void reportFallback(Object key) {
+      Class<?> keyType = key.getClass();
+      if (reportedFallbackTypes.get(keyType) == null) {
+        reportedFallbackTypes.put(keyType, Boolean.TRUE);
+        logger.log(
+            FINE,
+            "{0} uses the map based fallback for instances of {1}",
+            new Object[] {VirtualFieldImplementationTemplate.class.getName(), keyType.getName()});
+      }
+    }
+
     public static VirtualField<?, ?> getVirtualField(Class<?> keyClass, Class<?> contextClass) {
       // We do not actually check the keyClass here - but that should be fine since compiler would
       // check things for us.
@@ -6,6 +6,7 @@
 package io.opentelemetry.javaagent.tooling.instrumentation;
 
 import static io.opentelemetry.javaagent.tooling.SafeServiceLoader.loadOrdered;
+import static java.util.concurrent.TimeUnit.NANOSECONDS;
 import static java.util.logging.Level.FINE;
 import static java.util.logging.Level.SEVERE;
 
@@ -14,51 +15,189 @@ import io.opentelemetry.javaagent.bootstrap.InstrumentationHolder;
 import io.opentelemetry.javaagent.extension.instrumentation.InstrumentationModule;
 import io.opentelemetry.javaagent.tooling.AgentExtension;
 import io.opentelemetry.javaagent.tooling.Utils;
+import io.opentelemetry.javaagent.tooling.instrumentation.InstrumentationModuleInstaller.PreparedModule;
 import io.opentelemetry.sdk.autoconfigure.spi.ConfigProperties;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Function;
 import java.util.logging.Logger;
+import javax.annotation.Nullable;
 import net.bytebuddy.agent.builder.AgentBuilder;
 
 @AutoService(AgentExtension.class)
 public class InstrumentationLoader implements AgentExtension {
   private static final Logger logger = Logger.getLogger(InstrumentationLoader.class.getName());
 
+  // number of threads used to prepare instrumentation modules; modules are always registered on the
+  // agent builder in order, on the thread that installs the agent
+  private static final String MODULE_LOADER_THREADS_CONFIG =
+      "otel.javaagent.experimental.module-loader-threads";
+
   private final InstrumentationModuleInstaller instrumentationModuleInstaller =
       new InstrumentationModuleInstaller(InstrumentationHolder.getInstrumentation());
 
   @Override
   public AgentBuilder extend(AgentBuilder agentBuilder, ConfigProperties config) {
-    int numberOfLoadedModules = 0;
-    for (InstrumentationModule instrumentationModule :
-        loadOrdered(InstrumentationModule.class, Utils.getExtensionsClassLoader())) {
-      if (logger.isLoggable(FINE)) {
-        logger.log(
-            FINE,
-            "Loading instrumentation {0} [class {1}]",
-            new Object[] {
-              instrumentationModule.instrumentationName(),
-              instrumentationModule.getClass().getName()
-            });
+    long startTime = System.nanoTime();
+    List<InstrumentationModule> instrumentationModules =
+        loadOrdered(InstrumentationModule.class, Utils.getExtensionsClassLoader());
+    long loadedTime = System.nanoTime();
+
+    AtomicInteger failedModules = new AtomicInteger();
+    int threads = Math.max(1, config.getInt(MODULE_LOADER_THREADS_CONFIG, 1));
+    List<PreparedModule> preparedModules =
+        threads == 1 || instrumentationModules.size() < 2
+            ? prepareSerially(instrumentationModules, config, failedModules)
+            : prepareInParallel(instrumentationModules, config, failedModules, threads);
+    long preparedTime = System.nanoTime();
+
+    // modules are registered in their original order, as that's the order in which their
+    // transformations are applied
+    for (int i = 0; i < instrumentationModules.size(); i++) {
+      PreparedModule preparedModule = preparedModules.get(i);
+      if (preparedModule == null) {
+        continue;
       }
       try {
-        agentBuilder =
-            instrumentationModuleInstaller.install(instrumentationModule, agentBuilder, config);
-        numberOfLoadedModules++;
+        agentBuilder = instrumentationModuleInstaller.register(preparedModule, agentBuilder);
       } catch (Exception | LinkageError e) {
-        logger.log(
-            SEVERE,
-            "Unable to load instrumentation "
-                + instrumentationModule.instrumentationName()
-                + " [class "
-                + instrumentationModule.getClass().getName()
-                + "]",
-            e);
+        failedModules.incrementAndGet();
+        logLoadingFailure(instrumentationModules.get(i), e);
       }
     }
-    logger.log(FINE, "Installed {0} instrumenter(s)", numberOfLoadedModules);
+    long registeredTime = System.nanoTime();
+
+    logger.log(
+        FINE,
+        "Installed {0} instrumenter(s)",
+        instrumentationModules.size() - failedModules.get());
+    if (logger.isLoggable(FINE)) {
+      logger.log(
+          FINE,
+          "Instrumentation modules loaded in {0} ms, prepared in {1} ms using {2} thread(s),"
+              + " registered in {3} ms",
+          new Object[] {
+            NANOSECONDS.toMillis(loadedTime - startTime),
+            NANOSECONDS.toMillis(preparedTime - loadedTime),
+            threads,
+            NANOSECONDS.toMillis(registeredTime - preparedTime)
+          });
+    }
 
     return agentBuilder;
   }
 
+  private List<PreparedModule> prepareSerially(
+      List<InstrumentationModule> instrumentationModules,
+      ConfigProperties config,
+      AtomicInteger failedModules) {
+    List<PreparedModule> preparedModules = new ArrayList<>(instrumentationModules.size());
+    for (InstrumentationModule instrumentationModule : instrumentationModules) {
+      preparedModules.add(prepare(instrumentationModule, config, failedModules));
+    }
+    return preparedModules;
+  }
+
+  // preparing a module mostly consists of loading its classes and generating its virtual field
+  // implementations, which is independent of other modules
+  private List<PreparedModule> prepareInParallel(
+      List<InstrumentationModule> instrumentationModules,
+      ConfigProperties config,
+      AtomicInteger failedModules,
+      int threads) {
+    return prepareInParallel(
+        instrumentationModules,
+        instrumentationModule -> prepare(instrumentationModule, config, failedModules),
+        failedModules,
+        threads);
+  }
+
+  static <T> List<T> prepareInParallel(
+      List<InstrumentationModule> instrumentationModules,
+      Function<InstrumentationModule, T> preparer,
+      AtomicInteger failedModules,
+      int threads) {
+    ExecutorService executor =
+        Executors.newFixedThreadPool(
+            Math.min(threads, instrumentationModules.size()),
+            runnable -> {
+              Thread thread = new Thread(runnable, "otel-javaagent-module-loader");
+              thread.setDaemon(true);
+              return thread;
+            });
+    boolean interrupted = false;
+    try {
+      List<Future<T>> futures = new ArrayList<>(instrumentationModules.size());
+      for (InstrumentationModule instrumentationModule : instrumentationModules) {
+        futures.add(executor.submit(() -> preparer.apply(instrumentationModule)));
+      }
+      List<T> preparedModules = new ArrayList<>(instrumentationModules.size());
+      for (int i = 0; i < futures.size(); i++) {
+        T preparedModule = null;
+        // don't leave the agent half installed, the modules are prepared by the pool threads
+        // regardless of the interruption so wait for them and restore the interrupt flag after
+        while (true) {
+          try {
+            preparedModule = futures.get(i).get();
+            break;
+          } catch (InterruptedException e) {
+            interrupted = true;
+          } catch (ExecutionException e) {
+            failedModules.incrementAndGet();
+            logLoadingFailure(instrumentationModules.get(i), e.getCause());
+            break;
+          }
+        }
+        preparedModules.add(preparedModule);
+      }
+      return preparedModules;
+    } finally {
+      executor.shutdown();
+      if (interrupted) {
+        Thread.currentThread().interrupt();
+      }
+    }
+  }
+
+  @Nullable
+  private PreparedModule prepare(
+      InstrumentationModule instrumentationModule,
+      ConfigProperties config,
+      AtomicInteger failedModules) {
+    if (logger.isLoggable(FINE)) {
+      logger.log(
+          FINE,
+          "Loading instrumentation {0} [class {1}]",
+          new Object[] {
+            instrumentationModule.instrumentationName(), instrumentationModule.getClass().getName()
+          });
+    }
+    try {
+      return instrumentationModuleInstaller.prepare(instrumentationModule, config);
+    } catch (Exception | LinkageError e) {
+      failedModules.incrementAndGet();
+      logLoadingFailure(instrumentationModule, e);
+      return null;
+    }
+  }
+
+  private static void logLoadingFailure(
+      InstrumentationModule instrumentationModule, Throwable throwable) {
+    logger.log(
+        SEVERE,
+        "Unable to load instrumentation "
+            + instrumentationModule.instrumentationName()
+            + " [class "
+            + instrumentationModule.getClass().getName()
+            + "]",
+        throwable);
+  }
+
   @Override
   public String extensionName() {
     return "instrumentation-loader";
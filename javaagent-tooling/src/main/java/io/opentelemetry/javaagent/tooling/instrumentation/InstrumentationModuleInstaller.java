@@ -26,7 +26,9 @@ import io.opentelemetry.javaagent.tooling.util.IgnoreFailedTypeMatcher;
 import io.opentelemetry.javaagent.tooling.util.NamedMatcher;
 import io.opentelemetry.sdk.autoconfigure.spi.ConfigProperties;
 import java.lang.instrument.Instrumentation;
+import java.util.ArrayList;
 import java.util.List;
+import javax.annotation.Nullable;
 import net.bytebuddy.agent.builder.AgentBuilder;
 import net.bytebuddy.description.annotation.AnnotationSource;
 import net.bytebuddy.description.type.TypeDescription;
@@ -50,17 +52,20 @@ public final class InstrumentationModuleInstaller {
     this.instrumentation = instrumentation;
   }
 
-  AgentBuilder install(
-      InstrumentationModule instrumentationModule,
-      AgentBuilder parentAgentBuilder,
-      ConfigProperties config) {
+  /**
+   * Creates everything needed to register the {@code instrumentationModule}, or returns {@code
+   * null} if there is nothing to register. Does not touch the agent builder, so that modules can
+   * be prepared in parallel.
+   */
+  @Nullable
+  PreparedModule prepare(InstrumentationModule instrumentationModule, ConfigProperties config) {
     if (!AgentConfig.isInstrumentationEnabled(
         config,
         instrumentationModule.instrumentationNames(),
         instrumentationModule.defaultEnabled(config))) {
       logger.log(
           FINE, "Instrumentation {0} is disabled", instrumentationModule.instrumentationName());
-      return parentAgentBuilder;
+      return null;
     }
     List<String> helperClassNames =
         InstrumentationModuleMuzzle.getHelperClassNames(instrumentationModule);
@@ -75,7 +80,7 @@ public final class InstrumentationModuleInstaller {
             instrumentationModule.instrumentationName());
       }
 
-      return parentAgentBuilder;
+      return null;
     }
 
     ElementMatcher.Junction<ClassLoader> moduleClassLoaderMatcher =
@@ -91,7 +96,8 @@ public final class InstrumentationModuleInstaller {
     VirtualFieldImplementationInstaller contextProvider =
         virtualFieldInstallerFactory.create(instrumentationModule);
 
-    AgentBuilder agentBuilder = parentAgentBuilder;
+    List<PreparedTypeInstrumentation> preparedTypeInstrumentations =
+        new ArrayList<>(typeInstrumentations.size());
     for (TypeInstrumentation typeInstrumentation : typeInstrumentations) {
       ElementMatcher<TypeDescription> typeMatcher =
           new NamedMatcher<>(
@@ -105,6 +111,24 @@ public final class InstrumentationModuleInstaller {
                   + "#"
                   + typeInstrumentation.getClass().getSimpleName(),
               moduleClassLoaderMatcher.and(typeInstrumentation.classLoaderOptimization()));
+      TypeTransformerImpl typeTransformer = new TypeTransformerImpl();
+      typeInstrumentation.transform(typeTransformer);
+
+      preparedTypeInstrumentations.add(
+          new PreparedTypeInstrumentation(typeMatcher, classLoaderMatcher, typeTransformer));
+    }
+
+    return new PreparedModule(
+        muzzleMatcher, helperInjector, contextProvider, preparedTypeInstrumentations);
+  }
+
+  /** Registers a module created by {@link #prepare} on the agent builder. */
+  AgentBuilder register(PreparedModule preparedModule, AgentBuilder parentAgentBuilder) {
+    AgentBuilder agentBuilder = parentAgentBuilder;
+    VirtualFieldImplementationInstaller contextProvider = preparedModule.contextProvider;
+    for (PreparedTypeInstrumentation typeInstrumentation : preparedModule.typeInstrumentations) {
+      ElementMatcher<TypeDescription> typeMatcher = typeInstrumentation.typeMatcher;
+      ElementMatcher<ClassLoader> classLoaderMatcher = typeInstrumentation.classLoaderMatcher;
 
       AgentBuilder.Identified.Extendable extendableAgentBuilder =
           agentBuilder
@@ -119,13 +143,11 @@ public final class InstrumentationModuleInstaller {
               .and(
                   (typeDescription, classLoader, module, classBeingRedefined, protectionDomain) ->
                       classLoader == null || NOT_DECORATOR_MATCHER.matches(typeDescription))
-              .and(muzzleMatcher)
+              .and(preparedModule.muzzleMatcher)
               .transform(ConstantAdjuster.instance())
-              .transform(helperInjector);
+              .transform(preparedModule.helperInjector);
       extendableAgentBuilder = contextProvider.rewriteVirtualFieldsCalls(extendableAgentBuilder);
-      TypeTransformerImpl typeTransformer = new TypeTransformerImpl(extendableAgentBuilder);
-      typeInstrumentation.transform(typeTransformer);
-      extendableAgentBuilder = typeTransformer.getAgentBuilder();
+      extendableAgentBuilder = typeInstrumentation.typeTransformer.applyTo(extendableAgentBuilder);
       extendableAgentBuilder = contextProvider.injectFields(extendableAgentBuilder);
 
       agentBuilder = extendableAgentBuilder;
@@ -133,4 +155,37 @@ public final class InstrumentationModuleInstaller {
 
     return agentBuilder;
   }
+
+  static final class PreparedModule {
+    private final MuzzleMatcher muzzleMatcher;
+    private final AgentBuilder.Transformer helperInjector;
+    private final VirtualFieldImplementationInstaller contextProvider;
+    private final List<PreparedTypeInstrumentation> typeInstrumentations;
+
+    private PreparedModule(
+        MuzzleMatcher muzzleMatcher,
+        AgentBuilder.Transformer helperInjector,
+        VirtualFieldImplementationInstaller contextProvider,
+        List<PreparedTypeInstrumentation> typeInstrumentations) {
+      this.muzzleMatcher = muzzleMatcher;
+      this.helperInjector = helperInjector;
+      this.contextProvider = contextProvider;
+      this.typeInstrumentations = typeInstrumentations;
+    }
+  }
+
+  private static final class PreparedTypeInstrumentation {
+    private final ElementMatcher<TypeDescription> typeMatcher;
+    private final ElementMatcher<ClassLoader> classLoaderMatcher;
+    private final TypeTransformerImpl typeTransformer;
+
+    private PreparedTypeInstrumentation(
+        ElementMatcher<TypeDescription> typeMatcher,
+        ElementMatcher<ClassLoader> classLoaderMatcher,
+        TypeTransformerImpl typeTransformer) {
+      this.typeMatcher = typeMatcher;
+      this.classLoaderMatcher = classLoaderMatcher;
+      this.typeTransformer = typeTransformer;
+    }
+  }
 }
@@ -8,37 +8,39 @@ package io.opentelemetry.javaagent.tooling.instrumentation;
 import io.opentelemetry.javaagent.extension.instrumentation.TypeTransformer;
 import io.opentelemetry.javaagent.tooling.Utils;
 import io.opentelemetry.javaagent.tooling.bytebuddy.ExceptionHandlers;
+import java.util.ArrayList;
+import java.util.List;
 import net.bytebuddy.agent.builder.AgentBuilder;
 import net.bytebuddy.description.method.MethodDescription;
 import net.bytebuddy.matcher.ElementMatcher;
 
+// collects the transformers first so that they can be created while modules are prepared, possibly
+// in parallel, and are only applied to the agent builder when the module is registered
 final class TypeTransformerImpl implements TypeTransformer {
-  private AgentBuilder.Identified.Extendable agentBuilder;
-
-  TypeTransformerImpl(AgentBuilder.Identified.Extendable agentBuilder) {
-    this.agentBuilder = agentBuilder;
-  }
+  private final List<AgentBuilder.Transformer> transformers = new ArrayList<>();
 
   @Override
   public void applyAdviceToMethod(
       ElementMatcher<? super MethodDescription> methodMatcher, String adviceClassName) {
-    agentBuilder =
-        agentBuilder.transform(
-            new AgentBuilder.Transformer.ForAdvice()
-                .include(
-                    Utils.getBootstrapProxy(),
-                    Utils.getAgentClassLoader(),
-                    Utils.getExtensionsClassLoader())
-                .withExceptionHandler(ExceptionHandlers.defaultExceptionHandler())
-                .advice(methodMatcher, adviceClassName));
+    transformers.add(
+        new AgentBuilder.Transformer.ForAdvice()
+            .include(
+                Utils.getBootstrapProxy(),
+                Utils.getAgentClassLoader(),
+                Utils.getExtensionsClassLoader())
+            .withExceptionHandler(ExceptionHandlers.defaultExceptionHandler())
+            .advice(methodMatcher, adviceClassName));
   }
 
   @Override
   public void applyTransformer(AgentBuilder.Transformer transformer) {
-    agentBuilder = agentBuilder.transform(transformer);
+    transformers.add(transformer);
   }
 
-  AgentBuilder.Identified.Extendable getAgentBuilder() {
+  AgentBuilder.Identified.Extendable applyTo(AgentBuilder.Identified.Extendable agentBuilder) {
+    for (AgentBuilder.Transformer transformer : transformers) {
+      agentBuilder = agentBuilder.transform(transformer);
+    }
     return agentBuilder;
   }
 }
@@ -10,6 +10,7 @@ import static java.util.logging.Level.FINE;
 import io.opentelemetry.javaagent.extension.matcher.internal.DelegatingMatcher;
 import io.opentelemetry.javaagent.extension.matcher.internal.DelegatingSuperTypeMatcher;
 import io.opentelemetry.javaagent.tooling.DefineClassHandler;
+import io.opentelemetry.javaagent.tooling.util.Trie;
 import java.lang.reflect.Field;
 import java.lang.reflect.Proxy;
 import java.util.ArrayList;
@@ -45,6 +46,8 @@ public class AgentBuilderUtil {
   private static final Field erasureMatcherField = getField(ErasureMatcher.class, "matcher");
   private static final Field conjunctionMatchersField =
       getField(ElementMatcher.Junction.Conjunction.class, "matchers");
+  private static final Field disjunctionMatchersField =
+      getField(ElementMatcher.Junction.Disjunction.class, "matchers");
   private static final Field stringMatcherValueField = getField(StringMatcher.class, "value");
   private static final Field stringMatcherModeField = getField(StringMatcher.class, "mode");
   private static final Field stringSetMatcherValuesField =
@@ -68,10 +71,8 @@ public class AgentBuilderUtil {
   }
 
   private static void optimize(AgentBuilder.Default agentBuilder) throws Exception {
-    // class names that have a matcher that matches by name
-    Set<String> classNames = new HashSet<>();
-    // class names that have a matcher that matches subtypes
-    Set<String> superTypeNames = new HashSet<>();
+    // names, name prefixes and super type names of the classes the decomposed matchers match
+    Result decomposed = new Result();
     List<Transformation> unoptimizedTransformations = new ArrayList<>();
     List<Transformation> transformations = agentBuilder.transformations;
     for (Transformation transformation : transformations) {
@@ -81,12 +82,20 @@ public class AgentBuilderUtil {
       if (result == null) {
         // we were not able to decompose the matcher
         unoptimizedTransformations.add(transformation);
-      } else if (result.subtype) {
-        superTypeNames.addAll(result.names);
       } else {
-        classNames.addAll(result.names);
+        decomposed.addAll(result);
       }
     }
+    TypeNameFilter filter = new TypeNameFilter(decomposed);
+    if (logger.isLoggable(FINE)) {
+      logger.log(
+          FINE,
+          "{0} of {1} transformations are only applied to classes matching their name or super"
+              + " types",
+          new Object[] {
+            transformations.size() - unoptimizedTransformations.size(), transformations.size()
+          });
+    }
 
     List<?> list =
         (List<?>)
@@ -98,7 +107,7 @@ public class AgentBuilderUtil {
                   // iterator() is the only method we expect to be called on this List
                   if (name != null && "iterator".equals(method.getName())) {
                     // we know that this class is going to be transformed
-                    if (classNames.contains(name) || superTypeNames.contains(name)) {
+                    if (filter.matchesName(name)) {
                       return transformations.iterator();
                     }
                     // we already know that loading this class is going to fail, no need to
@@ -112,11 +121,9 @@ public class AgentBuilderUtil {
                     if (loadingSuperTypes.isEmpty()) {
                       return transformations.iterator();
                     }
-                    for (String className : loadingSuperTypes) {
-                      // we know that this class is going to be transformed
-                      if (superTypeNames.contains(className)) {
-                        return transformations.iterator();
-                      }
+                    // we know that this class is going to be transformed
+                    if (filter.matchesSuperTypes(loadingSuperTypes)) {
+                      return transformations.iterator();
                     }
 
                     // apply only the transformations that we can't decompose
@@ -150,6 +157,16 @@ public class AgentBuilderUtil {
     return null;
   }
 
+  /**
+   * Returns the filter on type names that a type has to pass to be matched by the given matcher, or
+   * {@code null} if the matcher can't be decomposed.
+   */
+  @Nullable
+  static TypeNameFilter decompose(ElementMatcher<?> matcher) throws Exception {
+    Result result = inspect(matcher);
+    return result == null ? null : new TypeNameFilter(result);
+  }
+
   @Nullable
   private static Result inspect(ElementMatcher<?> matcher) throws Exception {
     if (matcher instanceof DelegatingMatcher) {
@@ -173,6 +190,19 @@ public class AgentBuilderUtil {
           return result;
         }
       }
+    } else if (matcher instanceof ElementMatcher.Junction.Disjunction) {
+      // a disjunction can only be decomposed when each of its elements can be
+      List<ElementMatcher<?>> matchers =
+          getDelegateMatchers((ElementMatcher.Junction.Disjunction<?>) matcher);
+      Result result = new Result();
+      for (ElementMatcher<?> elementMatcher : matchers) {
+        Result elementResult = inspect(elementMatcher);
+        if (elementResult == null) {
+          return null;
+        }
+        result.addAll(elementResult);
+      }
+      return result.isEmpty() ? null : result;
     }
 
     return null;
@@ -182,8 +212,13 @@ public class AgentBuilderUtil {
   private static Result inspectNameMatcher(NameMatcher<?> nameMatcher) throws Exception {
     ElementMatcher<?> matcher = getDelegateMatcher(nameMatcher);
     if (matcher instanceof StringMatcher) {
-      String value = getStringMatcherValue((StringMatcher) matcher);
-      return Result.named(value);
+      StringMatcher stringMatcher = (StringMatcher) matcher;
+      StringMatcher.Mode mode = getStringMatcherMode(stringMatcher);
+      if (mode == StringMatcher.Mode.EQUALS_FULLY) {
+        return Result.named(getStringMatcherValue(stringMatcher));
+      } else if (mode == StringMatcher.Mode.STARTS_WITH) {
+        return Result.namePrefix(getStringMatcherValue(stringMatcher));
+      }
     } else if (matcher instanceof StringSetMatcher) {
       Set<String> value = getStringSetMatcherValue((StringSetMatcher) matcher);
       return Result.named(value);
@@ -193,27 +228,33 @@ public class AgentBuilderUtil {
   }
 
   private static class Result {
+    // names of the types the matcher matches
     final Set<String> names = new HashSet<>();
-    // true if matcher matches based on type hierarchy
-    // false if matcher matches based on type name
-    final boolean subtype;
-
-    private Result(boolean subtype) {
-      this.subtype = subtype;
+    // prefixes of the names of the types the matcher matches
+    final Set<String> namePrefixes = new HashSet<>();
+    // names of the types whose subtypes the matcher matches
+    final Set<String> superTypeNames = new HashSet<>();
+
+    void addAll(Result other) {
+      names.addAll(other.names);
+      namePrefixes.addAll(other.namePrefixes);
+      superTypeNames.addAll(other.superTypeNames);
     }
 
-    private Result() {
-      this(false);
+    boolean isEmpty() {
+      return names.isEmpty() && namePrefixes.isEmpty() && superTypeNames.isEmpty();
     }
 
     @Nullable
     static Result subtype(@Nullable Result value) {
-      if (value == null) {
+      // we can only tell whether a type is a subtype of a named type
+      if (value == null || !value.namePrefixes.isEmpty()) {
         return null;
       }
 
-      Result result = new Result(true);
-      result.names.addAll(value.names);
+      Result result = new Result();
+      result.superTypeNames.addAll(value.names);
+      result.superTypeNames.addAll(value.superTypeNames);
       return result;
     }
 
@@ -237,9 +278,55 @@ public class AgentBuilderUtil {
       return result;
     }
 
+    @Nullable
+    static Result namePrefix(String value) {
+      // an empty prefix matches every type
+      if (value.isEmpty()) {
+        return null;
+      }
+      Result result = new Result();
+      result.namePrefixes.add(value);
+      return result;
+    }
+
     @Override
     public String toString() {
-      return (subtype ? "subtype of " : "named ") + names;
+      return "named "
+          + names
+          + ", name starts with "
+          + namePrefixes
+          + ", subtype of "
+          + superTypeNames;
+    }
+  }
+
+  /** Tells whether a type may be matched by the decomposed matchers, from its name alone. */
+  static final class TypeNameFilter {
+    private final Set<String> names;
+    private final Trie<Boolean> namePrefixes;
+    private final Set<String> superTypeNames;
+
+    private TypeNameFilter(Result result) {
+      names = result.names;
+      Trie.Builder<Boolean> namePrefixesBuilder = Trie.builder();
+      for (String prefix : result.namePrefixes) {
+        namePrefixesBuilder.put(prefix, Boolean.TRUE);
+      }
+      namePrefixes = namePrefixesBuilder.build();
+      superTypeNames = result.superTypeNames;
+    }
+
+    boolean matchesName(String name) {
+      return names.contains(name) || superTypeNames.contains(name) || namePrefixes.contains(name);
+    }
+
+    boolean matchesSuperTypes(Set<String> superTypes) {
+      for (String superType : superTypes) {
+        if (superTypeNames.contains(superType)) {
+          return true;
+        }
+      }
+      return false;
     }
   }
 
@@ -273,15 +360,18 @@ public class AgentBuilderUtil {
     return (List<ElementMatcher<?>>) conjunctionMatchersField.get(matcher);
   }
 
-  /**
-   * @return the value given string matcher matches when matcher mode is
-   *     StringMatcher.Mode.EQUALS_FULLY, null otherwise
-   */
-  @Nullable
   private static String getStringMatcherValue(StringMatcher matcher) throws Exception {
-    String value = (String) stringMatcherValueField.get(matcher);
-    StringMatcher.Mode mode = (StringMatcher.Mode) stringMatcherModeField.get(matcher);
-    return mode == StringMatcher.Mode.EQUALS_FULLY ? value : null;
+    return (String) stringMatcherValueField.get(matcher);
+  }
+
+  private static StringMatcher.Mode getStringMatcherMode(StringMatcher matcher) throws Exception {
+    return (StringMatcher.Mode) stringMatcherModeField.get(matcher);
+  }
+
+  @SuppressWarnings("unchecked")
+  private static List<ElementMatcher<?>> getDelegateMatchers(
+      ElementMatcher.Junction.Disjunction<?> matcher) throws Exception {
+    return (List<ElementMatcher<?>>) disjunctionMatchersField.get(matcher);
   }
 
   @SuppressWarnings("unchecked")
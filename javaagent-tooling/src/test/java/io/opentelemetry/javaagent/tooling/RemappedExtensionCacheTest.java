@@ -0,0 +1,114 @@
+/*
+ * Copyright The OpenTelemetry Authors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package io.opentelemetry.javaagent.tooling;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import io.opentelemetry.api.trace.Span;
+import java.io.File;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.jar.JarEntry;
+import java.util.jar.JarFile;
+import java.util.jar.JarOutputStream;
+import javax.annotation.Nullable;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+class RemappedExtensionCacheTest {
+
+  @TempDir Path tempDir;
+
+  @Test
+  void remapsOncePerExtension() throws Exception {
+    File agent = Files.createFile(tempDir.resolve("agent.jar")).toFile();
+    File extension = createJar("extension.jar", UsesApi.class, "META-INF/EXTENSION.SF");
+    RemappedExtensionCache cache =
+        RemappedExtensionCache.create(tempDir.resolve("cache").toString(), agent);
+
+    File remapped = cache.getRemapped(extension);
+    assertThat(remapped).isNotEqualTo(extension);
+    // signature files would not match the remapped classes
+    assertThat(entryNames(remapped)).containsExactly(classResource(UsesApi.class));
+    long lastModified = remapped.lastModified();
+
+    // a second start uses the remapped jar written by the first one
+    RemappedExtensionCache secondCache =
+        RemappedExtensionCache.create(tempDir.resolve("cache").toString(), agent);
+    File secondRemapped = secondCache.getRemapped(extension);
+    assertThat(secondRemapped).isEqualTo(remapped);
+    assertThat(secondRemapped.lastModified()).isEqualTo(lastModified);
+  }
+
+  @Test
+  void usesExtensionWithoutShadedReferencesAsIs() throws Exception {
+    File agent = Files.createFile(tempDir.resolve("agent.jar")).toFile();
+    File extension = createJar("extension.jar", UsesJdkOnly.class, null);
+    RemappedExtensionCache cache =
+        RemappedExtensionCache.create(tempDir.resolve("cache").toString(), agent);
+
+    assertThat(cache.getRemapped(extension)).isEqualTo(extension);
+    assertThat(cache.getRemapped(extension)).isEqualTo(extension);
+    assertThat(tempDir.resolve("cache").toFile().list())
+        .singleElement()
+        .satisfies(name -> assertThat(name).endsWith(".unshaded"));
+  }
+
+  @Test
+  void notConfigured() {
+    assertThat(RemappedExtensionCache.create(null, new File("agent.jar"))).isNull();
+    assertThat(RemappedExtensionCache.create("", new File("agent.jar"))).isNull();
+  }
+
+  private File createJar(String name, Class<?> clazz, @Nullable String extraEntry)
+      throws IOException {
+    File file = tempDir.resolve(name).toFile();
+    String classResource = classResource(clazz);
+    try (JarOutputStream out = new JarOutputStream(Files.newOutputStream(file.toPath()));
+        InputStream in = clazz.getClassLoader().getResourceAsStream(classResource)) {
+      out.putNextEntry(new JarEntry(classResource));
+      byte[] buffer = new byte[8192];
+      int read;
+      while ((read = in.read(buffer)) != -1) {
+        out.write(buffer, 0, read);
+      }
+      out.closeEntry();
+      if (extraEntry != null) {
+        out.putNextEntry(new JarEntry(extraEntry));
+        out.closeEntry();
+      }
+    }
+    return file;
+  }
+
+  private static String classResource(Class<?> clazz) {
+    return clazz.getName().replace('.', '/') + ".class";
+  }
+
+  private static List<String> entryNames(File file) throws IOException {
+    List<String> names = new ArrayList<>();
+    try (JarFile jarFile = new JarFile(file)) {
+      jarFile.stream().forEach(entry -> names.add(entry.getName()));
+    }
+    return names;
+  }
+
+  static class UsesApi {
+    Span span() {
+      return Span.current();
+    }
+  }
+
+  static class UsesJdkOnly {
+    List<String> list() {
+      return new ArrayList<>();
+    }
+  }
+}
@@ -0,0 +1,144 @@
+/*
+ * Copyright The OpenTelemetry Authors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package io.opentelemetry.javaagent.tooling.asyncannotationsupport;
+
+import static io.opentelemetry.instrumentation.test.utils.GcUtils.awaitGc;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import io.opentelemetry.context.Context;
+import io.opentelemetry.instrumentation.api.annotation.support.async.AsyncOperationEndStrategy;
+import io.opentelemetry.instrumentation.api.annotation.support.async.Jdk8AsyncOperationEndStrategy;
+import io.opentelemetry.instrumentation.api.instrumenter.Instrumenter;
+import java.lang.ref.WeakReference;
+import java.net.URL;
+import java.net.URLClassLoader;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Future;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+@ExtendWith(MockitoExtension.class)
+class WeakRefAsyncOperationEndStrategiesTest {
+  @Mock AsyncOperationEndStrategy strategy;
+
+  @Test
+  void shouldCacheResolvedStrategy() {
+    // given
+    WeakRefAsyncOperationEndStrategies underTest = new WeakRefAsyncOperationEndStrategies();
+    underTest.registerStrategy(strategy);
+    when(strategy.supports(Future.class)).thenReturn(true);
+
+    // when
+    AsyncOperationEndStrategy first = underTest.resolveStrategy(Future.class);
+    AsyncOperationEndStrategy second = underTest.resolveStrategy(Future.class);
+
+    // then
+    assertSame(strategy, first);
+    assertSame(strategy, second);
+    verify(strategy, times(1)).supports(Future.class);
+  }
+
+  @Test
+  void shouldResolveAgainAfterRegisteringStrategy() {
+    // given
+    WeakRefAsyncOperationEndStrategies underTest = new WeakRefAsyncOperationEndStrategies();
+    assertNull(underTest.resolveStrategy(Future.class));
+    when(strategy.supports(Future.class)).thenReturn(true);
+
+    // when
+    underTest.registerStrategy(strategy);
+
+    // then
+    assertSame(strategy, underTest.resolveStrategy(Future.class));
+  }
+
+  @Test
+  void shouldResolveAgainAfterUnregisteringStrategy() {
+    // given
+    WeakRefAsyncOperationEndStrategies underTest = new WeakRefAsyncOperationEndStrategies();
+    assertSame(
+        Jdk8AsyncOperationEndStrategy.INSTANCE,
+        underTest.resolveStrategy(CompletableFuture.class));
+
+    // when
+    underTest.unregisterStrategy(Jdk8AsyncOperationEndStrategy.INSTANCE);
+
+    // then
+    assertNull(underTest.resolveStrategy(CompletableFuture.class));
+  }
+
+  @Test
+  void shouldNotResolveCollectedStrategy() throws InterruptedException {
+    // given
+    WeakRefAsyncOperationEndStrategies underTest = new WeakRefAsyncOperationEndStrategies();
+    AsyncOperationEndStrategy collectable = new NamedTypeStrategy(Future.class.getName());
+    underTest.registerStrategy(collectable);
+    assertSame(collectable, underTest.resolveStrategy(Future.class));
+    WeakReference<AsyncOperationEndStrategy> strategyRef = new WeakReference<>(collectable);
+
+    // when
+    collectable = null;
+    awaitGc(strategyRef);
+
+    // then
+    assertNull(underTest.resolveStrategy(Future.class));
+  }
+
+  @Test
+  void shouldNotRetainResolvedTypes() throws Exception {
+    // given
+    WeakRefAsyncOperationEndStrategies underTest = new WeakRefAsyncOperationEndStrategies();
+    AsyncOperationEndStrategy namedTypeStrategy = new NamedTypeStrategy(ReturnType.class.getName());
+    underTest.registerStrategy(namedTypeStrategy);
+
+    URL[] urls = {ReturnType.class.getProtectionDomain().getCodeSource().getLocation()};
+    URLClassLoader loader = new URLClassLoader(urls, null);
+    Class<?> returnType = loader.loadClass(ReturnType.class.getName());
+    assertSame(namedTypeStrategy, underTest.resolveStrategy(returnType));
+    WeakReference<Class<?>> returnTypeRef = new WeakReference<>(returnType);
+
+    // when
+    returnType = null;
+    loader.close();
+    loader = null;
+
+    // then
+    awaitGc(returnTypeRef);
+  }
+
+  // loaded in a separate class loader that can be collected
+  public static class ReturnType {}
+
+  // does not keep a reference to the types it was asked about
+  private static class NamedTypeStrategy implements AsyncOperationEndStrategy {
+    private final String typeName;
+
+    NamedTypeStrategy(String typeName) {
+      this.typeName = typeName;
+    }
+
+    @Override
+    public boolean supports(Class<?> asyncType) {
+      return asyncType.getName().equals(typeName);
+    }
+
+    @Override
+    public <REQUEST, RESPONSE> Object end(
+        Instrumenter<REQUEST, RESPONSE> instrumenter,
+        Context context,
+        REQUEST request,
+        Object asyncValue,
+        Class<RESPONSE> responseType) {
+      return asyncValue;
+    }
+  }
+}
@@ -0,0 +1,116 @@
+/*
+ * Copyright The OpenTelemetry Authors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package io.opentelemetry.javaagent.tooling.instrumentation;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import io.opentelemetry.javaagent.extension.instrumentation.InstrumentationModule;
+import io.opentelemetry.javaagent.extension.instrumentation.TypeInstrumentation;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.junit.jupiter.api.Test;
+
+class InstrumentationLoaderTest {
+
+  @Test
+  void preparesModulesInParallelInOrder() {
+    List<InstrumentationModule> modules = modules(5);
+    Set<String> threadNames = ConcurrentHashMap.newKeySet();
+    AtomicInteger failedModules = new AtomicInteger();
+
+    List<String> prepared =
+        InstrumentationLoader.prepareInParallel(
+            modules,
+            module -> {
+              threadNames.add(Thread.currentThread().getName());
+              return module.instrumentationName();
+            },
+            failedModules,
+            3);
+
+    assertThat(prepared).containsExactly("test-0", "test-1", "test-2", "test-3", "test-4");
+    assertThat(threadNames).containsOnly("otel-javaagent-module-loader");
+    assertThat(failedModules).hasValue(0);
+  }
+
+  @Test
+  void skipsModulesThatFailToPrepare() {
+    List<InstrumentationModule> modules = modules(3);
+    AtomicInteger failedModules = new AtomicInteger();
+
+    List<String> prepared =
+        InstrumentationLoader.prepareInParallel(
+            modules,
+            module -> {
+              if (module.instrumentationName().equals("test-1")) {
+                throw new StackOverflowError();
+              }
+              return module.instrumentationName();
+            },
+            failedModules,
+            2);
+
+    assertThat(prepared).containsExactly("test-0", null, "test-2");
+    assertThat(failedModules).hasValue(1);
+  }
+
+  @Test
+  void preparesEveryModuleOnceWhenInterrupted() {
+    List<InstrumentationModule> modules = modules(4);
+    Map<String, AtomicInteger> preparations = new ConcurrentHashMap<>();
+    AtomicInteger failedModules = new AtomicInteger();
+
+    Thread.currentThread().interrupt();
+    List<String> prepared =
+        InstrumentationLoader.prepareInParallel(
+            modules,
+            module -> {
+              try {
+                Thread.sleep(50);
+              } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+              }
+              preparations
+                  .computeIfAbsent(module.instrumentationName(), name -> new AtomicInteger())
+                  .incrementAndGet();
+              return module.instrumentationName();
+            },
+            failedModules,
+            2);
+
+    // the interrupt flag is restored once all modules are prepared
+    assertThat(Thread.interrupted()).isTrue();
+    assertThat(prepared).containsExactly("test-0", "test-1", "test-2", "test-3");
+    assertThat(preparations).hasSize(4);
+    assertThat(preparations.values()).allSatisfy(count -> assertThat(count).hasValue(1));
+    assertThat(failedModules).hasValue(0);
+  }
+
+  private static List<InstrumentationModule> modules(int count) {
+    List<InstrumentationModule> modules = new ArrayList<>();
+    for (int i = 0; i < count; i++) {
+      modules.add(new TestModule("test-" + i));
+    }
+    return modules;
+  }
+
+  private static class TestModule extends InstrumentationModule {
+
+    TestModule(String name) {
+      super(name);
+    }
+
+    @Override
+    public List<TypeInstrumentation> typeInstrumentations() {
+      return Collections.emptyList();
+    }
+  }
+}
@@ -0,0 +1,107 @@
+/*
+ * Copyright The OpenTelemetry Authors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package net.bytebuddy.agent.builder;
+
+import static io.opentelemetry.javaagent.extension.matcher.AgentElementMatchers.hasSuperType;
+import static net.bytebuddy.matcher.ElementMatchers.isInterface;
+import static net.bytebuddy.matcher.ElementMatchers.nameStartsWith;
+import static net.bytebuddy.matcher.ElementMatchers.named;
+import static net.bytebuddy.matcher.ElementMatchers.namedOneOf;
+import static org.assertj.core.api.Assertions.assertThat;
+
+import io.opentelemetry.javaagent.tooling.bytebuddy.matcher.testclasses.A;
+import io.opentelemetry.javaagent.tooling.bytebuddy.matcher.testclasses.B;
+import io.opentelemetry.javaagent.tooling.bytebuddy.matcher.testclasses.C;
+import io.opentelemetry.javaagent.tooling.bytebuddy.matcher.testclasses.D;
+import io.opentelemetry.javaagent.tooling.bytebuddy.matcher.testclasses.E;
+import io.opentelemetry.javaagent.tooling.bytebuddy.matcher.testclasses.F;
+import io.opentelemetry.javaagent.tooling.bytebuddy.matcher.testclasses.G;
+import io.opentelemetry.javaagent.tooling.bytebuddy.matcher.testclasses.TracedClass;
+import io.opentelemetry.javaagent.tooling.bytebuddy.matcher.testclasses.UntracedClass;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.Set;
+import java.util.stream.Stream;
+import net.bytebuddy.agent.builder.AgentBuilderUtil.TypeNameFilter;
+import net.bytebuddy.description.type.TypeDescription;
+import net.bytebuddy.matcher.ElementMatcher;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.Arguments;
+import org.junit.jupiter.params.provider.MethodSource;
+
+class AgentBuilderUtilTest {
+
+  private static final Class<?>[] TYPES = {
+    A.class,
+    B.class,
+    C.class,
+    D.class,
+    E.class,
+    F.class,
+    G.class,
+    TracedClass.class,
+    UntracedClass.class,
+    Object.class,
+    String.class,
+    ArrayList.class
+  };
+
+  private static Stream<Arguments> decomposableMatchers() {
+    String testClassesPackage = A.class.getPackage().getName();
+    return Stream.of(
+        Arguments.of(named(F.class.getName()).or(hasSuperType(named(C.class.getName())))),
+        Arguments.of(
+            namedOneOf(A.class.getName(), TracedClass.class.getName())
+                .or(nameStartsWith("java.util."))),
+        Arguments.of(
+            hasSuperType(named(B.class.getName()))
+                .or(nameStartsWith(testClassesPackage + ".Un"))
+                .or(hasSuperType(namedOneOf("java.lang.CharSequence", "java.util.RandomAccess")))));
+  }
+
+  @ParameterizedTest
+  @MethodSource("decomposableMatchers")
+  void decomposedMatcherMatchesSameTypes(ElementMatcher<TypeDescription> matcher)
+      throws Exception {
+    TypeNameFilter filter = AgentBuilderUtil.decompose(matcher);
+    assertThat(filter).isNotNull();
+
+    for (Class<?> type : TYPES) {
+      boolean filterMatches =
+          filter.matchesName(type.getName()) || filter.matchesSuperTypes(superTypeNames(type));
+      assertThat(filterMatches)
+          .describedAs(type.getName())
+          .isEqualTo(matcher.matches(TypeDescription.ForLoadedType.of(type)));
+    }
+  }
+
+  @Test
+  void disjunctionWithUndecomposableElementIsNotDecomposed() throws Exception {
+    assertThat(AgentBuilderUtil.decompose(named(A.class.getName()).or(isInterface()))).isNull();
+    assertThat(AgentBuilderUtil.decompose(hasSuperType(nameStartsWith("java.")))).isNull();
+  }
+
+  // the super types collected by DefineClassHandler for a class being defined
+  private static Set<String> superTypeNames(Class<?> type) {
+    Set<String> superTypeNames = new HashSet<>();
+    addSuperTypeNames(superTypeNames, type.getSuperclass());
+    for (Class<?> interfaceClass : type.getInterfaces()) {
+      addSuperTypeNames(superTypeNames, interfaceClass);
+    }
+    return superTypeNames;
+  }
+
+  private static void addSuperTypeNames(Set<String> superTypeNames, Class<?> type) {
+    if (type == null || !superTypeNames.add(type.getName())) {
+      return;
+    }
+    addSuperTypeNames(superTypeNames, type.getSuperclass());
+    for (Class<?> interfaceClass : type.getInterfaces()) {
+      addSuperTypeNames(superTypeNames, interfaceClass);
+    }
+  }
+}
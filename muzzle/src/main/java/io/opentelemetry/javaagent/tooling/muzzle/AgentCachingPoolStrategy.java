@@ -45,7 +45,10 @@ import net.bytebuddy.utility.JavaModule;
  * <p>This design was chosen to create a single limited size cache that can be adjusted for the
  * entire application -- without having to create a large number of WeakReference objects.
  *
- * <p>Eviction is handled through a size restriction
+ * <p>Eviction is handled through a weight restriction: each cached resolution weighs one unit plus
+ * one unit per field and method of the type, so that a few large types can't take the place of many
+ * small ones. The maximum weight can be set with {@code
+ * otel.javaagent.experimental.type-cache.max-weight}.
  */
 public class AgentCachingPoolStrategy implements AgentBuilder.PoolStrategy {
 
@@ -57,7 +60,14 @@ public class AgentCachingPoolStrategy implements AgentBuilder.PoolStrategy {
           .getBoolean("otel.instrumentation.internal-reflection.enabled", true);
   private static final Method findLoadedClassMethod = getFindLoadedClassMethod();
 
-  static final int TYPE_CAPACITY = 64;
+  static final long DEFAULT_TYPE_CACHE_MAX_WEIGHT = 16 * 1024;
+  static final long TYPE_CACHE_MAX_WEIGHT =
+      Math.max(
+          1,
+          InstrumentationConfig.get()
+              .getLong(
+                  "otel.javaagent.experimental.type-cache.max-weight",
+                  DEFAULT_TYPE_CACHE_MAX_WEIGHT));
 
   static final int BOOTSTRAP_HASH = 7236344; // Just a random number
 
@@ -75,7 +85,7 @@ public class AgentCachingPoolStrategy implements AgentBuilder.PoolStrategy {
    * Single shared Type.Resolution cache -- uses a composite key -- conceptually of loader & name
    */
   final Cache<TypeCacheKey, TypePool.Resolution> sharedResolutionCache =
-      Cache.bounded(TYPE_CAPACITY);
+      Cache.bounded(TYPE_CACHE_MAX_WEIGHT, AgentCachingPoolStrategy::weightOf);
 
   // fast path for bootstrap
   final SharedResolutionCacheAdapter bootstrapCacheProvider =
@@ -119,6 +129,21 @@ public class AgentCachingPoolStrategy implements AgentBuilder.PoolStrategy {
     }
   }
 
+  // only resolutions parsed from class bytes are cached, so the members are already known
+  private static int weightOf(TypeCacheKey key, TypePool.Resolution resolution) {
+    if (!resolution.isResolved()) {
+      return 1;
+    }
+    try {
+      TypeDescription typeDescription = resolution.resolve();
+      return 1
+          + typeDescription.getDeclaredFields().size()
+          + typeDescription.getDeclaredMethods().size();
+    } catch (RuntimeException | LinkageError e) {
+      return 1;
+    }
+  }
+
   private static boolean canUseFindLoadedClass() {
     return findLoadedClassMethod != null;
   }